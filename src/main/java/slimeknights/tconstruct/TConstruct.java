@@ -52,6 +52,7 @@ import slimeknights.tconstruct.library.tools.capability.TinkerDataCapability.Com
 import slimeknights.tconstruct.library.tools.capability.TinkerDataCapability.TinkerDataKey;
 import slimeknights.tconstruct.library.tools.definition.ToolDefinitionLoader;
 import slimeknights.tconstruct.library.tools.layout.StationSlotLayoutLoader;
+import slimeknights.tconstruct.library.utils.ResourceId;
 import slimeknights.tconstruct.library.utils.Util;
 import slimeknights.tconstruct.plugin.DietPlugin;
 import slimeknights.tconstruct.plugin.ImmersiveEngineeringPlugin;
@@ -217,6 +218,15 @@ public class TConstruct {
     return new ResourceLocation(MOD_ID, name);
   }
 
+  /**
+   * Gets a key for modifier data on a tool, which caches its NBT string. Use for keys read often, such as from inventory tick.
+   * @param name  Resource path
+   * @return  Key for tinkers
+   */
+  public static ResourceLocation getDataKey(String name) {
+    return new ResourceId(MOD_ID, name);
+  }
+
   /**
    * Gets a data key for the capability, mainly used for modifier markers
    * @param name  Resource path
@@ -39,6 +39,8 @@ public class Config {
     public final BooleanValue glassRecipeFix;
     public final Map<TinkerHeadType,BooleanValue> headDrops;
     public final DoubleValue repairKitAmount;
+    public final IntValue harvestBatchParticles;
+    public final BooleanValue consolidateDrops;
 
     // loot
     public final BooleanValue slimyLootChests;
@@ -81,6 +83,15 @@ public class Config {
         .comment("Amount of durability restored by a repair kit in terms of ingots. Does not affect the cost to create the kit, that is controlled by JSON.")
         .defineInRange("repairKitAmount", 2f, 0f, Short.MAX_VALUE);
 
+      this.harvestBatchParticles = builder
+        .comment("Maximum number of extra blocks broken by a single area of effect or veining harvest that show break particles and play a break sound. Blocks past this limit are still broken, just silently.")
+        .defineInRange("harvestBatchParticles", 16, 0, Short.MAX_VALUE);
+
+      this.consolidateDrops = builder
+        .comment("If true, identical drops from a single area of effect or veining harvest are merged and dropped at the targeted block, and identical loot processed by tool modifiers is merged.",
+                 "Reduces the number of item entities spawned when harvesting large areas. Disable if another mod needs drops to spawn where each block was broken.")
+        .define("consolidateDrops", true);
+
 //      this.chestsKeepInventory = builder
 //        .comment("Pattern and Part chests keep their inventory when harvested.")
 //        .translation("tconstruct.configgui.chestsKeepInventory")
@@ -215,6 +226,7 @@ public class Config {
     public final ForgeConfigSpec.BooleanValue renderShieldSlotItem;
     public final ForgeConfigSpec.BooleanValue modifiersIDsInAdvancedTooltips;
     public final ForgeConfigSpec.IntValue maxSmelteryItemQuads;
+    public final ForgeConfigSpec.IntValue smelteryItemRenderDistance;
 
     // JEI
     public final BooleanValue showModifiersInJEI;
@@ -310,6 +322,11 @@ public class Config {
                  "Setting this lower will cause fewer items to be renderer (but never a partial item). Set to -1 to allow unlimited quads, and 0 to disable the item renderer.")
         .defineInRange("maxSmelteryItemQuads", 3500, -1, Short.MAX_VALUE);
 
+      this.smelteryItemRenderDistance = builder
+        .comment("Maximum distance in blocks from the camera to render items in the smeltery. Items outside this distance or behind the camera are skipped, leaving more of maxSmelteryItemQuads for visible items.",
+                 "Set to 0 to render items at any distance.")
+        .defineInRange("smelteryItemRenderDistance", 32, 0, 256);
+
       this.modifiersIDsInAdvancedTooltips = builder
         .comment("If true, shows modifier IDs in advanced tooltips for tools and tool parts.",
                  "They are more intrusive than most advanced tooltip content, so this option is provided in case some mod made poor design decisions and put essential gameplay info in tooltips or for pack makers who do not need modifier info.")
@@ -21,8 +21,12 @@ import slimeknights.tconstruct.library.tools.layout.UpdateTinkerSlotLayoutsPacke
 import slimeknights.tconstruct.shared.network.GeneratePartTexturesPacket;
 import slimeknights.tconstruct.smeltery.network.ChannelFlowPacket;
 import slimeknights.tconstruct.smeltery.network.FaucetActivationPacket;
+import slimeknights.tconstruct.smeltery.network.FluidDisplayBundlePacket;
 import slimeknights.tconstruct.smeltery.network.FluidUpdatePacket;
+import slimeknights.tconstruct.smeltery.network.MeltingProgressPacket;
 import slimeknights.tconstruct.smeltery.network.SmelteryFluidClickedPacket;
+import slimeknights.tconstruct.smeltery.network.SmelteryTankDeltaPacket;
+import slimeknights.tconstruct.smeltery.network.SmelteryTankResyncPacket;
 import slimeknights.tconstruct.smeltery.network.SmelteryTankUpdatePacket;
 import slimeknights.tconstruct.smeltery.network.StructureErrorPositionPacket;
 import slimeknights.tconstruct.smeltery.network.StructureUpdatePacket;
@@ -105,7 +109,11 @@ public class TinkerNetwork extends NetworkWrapper {
     instance.registerPacket(FluidUpdatePacket.class, FluidUpdatePacket::new, NetworkDirection.PLAY_TO_CLIENT);
     instance.registerPacket(FaucetActivationPacket.class, FaucetActivationPacket::new, NetworkDirection.PLAY_TO_CLIENT);
     instance.registerPacket(ChannelFlowPacket.class, ChannelFlowPacket::new, NetworkDirection.PLAY_TO_CLIENT);
+    instance.registerPacket(FluidDisplayBundlePacket.class, FluidDisplayBundlePacket::new, NetworkDirection.PLAY_TO_CLIENT);
     instance.registerPacket(SmelteryTankUpdatePacket.class, SmelteryTankUpdatePacket::new, NetworkDirection.PLAY_TO_CLIENT);
+    instance.registerPacket(SmelteryTankDeltaPacket.class, SmelteryTankDeltaPacket::new, NetworkDirection.PLAY_TO_CLIENT);
+    instance.registerPacket(SmelteryTankResyncPacket.class, SmelteryTankResyncPacket::new, NetworkDirection.PLAY_TO_SERVER);
+    instance.registerPacket(MeltingProgressPacket.class, MeltingProgressPacket::new, NetworkDirection.PLAY_TO_CLIENT);
     instance.registerPacket(StructureUpdatePacket.class, StructureUpdatePacket::new, NetworkDirection.PLAY_TO_CLIENT);
     instance.registerPacket(SmelteryFluidClickedPacket.class, SmelteryFluidClickedPacket::new, NetworkDirection.PLAY_TO_SERVER);
     instance.registerPacket(StructureErrorPositionPacket.class, StructureErrorPositionPacket::new, NetworkDirection.PLAY_TO_CLIENT);
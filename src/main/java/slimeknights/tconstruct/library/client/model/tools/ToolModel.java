@@ -455,7 +455,14 @@ public class ToolModel implements IUnbakedGeometry<ToolModel> {
     private final Cache<ToolCacheKey, BakedModel> cache = CacheBuilder
       .newBuilder()
       // ensure we can display every single tool that shows in JEI, plus a couple extra
-      .maximumSize(MaterialRenderInfoLoader.INSTANCE.getAllRenderInfos().size() * 3L / 2)
+      // weighed by quads so tools with many modifier layers count for more than simple ones
+      .maximumWeight(MaterialRenderInfoLoader.INSTANCE.getAllRenderInfos().size() * 3L / 2 * ToolModelCache.QUADS_PER_MODEL)
+      .<ToolCacheKey, BakedModel>weigher(ToolModelCache::weigh)
+      .removalListener(notification -> {
+        if (notification.wasEvicted()) {
+          ToolModelCache.EVICTIONS.increment();
+        }
+      })
       .build();
 
     // parameters needed for rebaking
@@ -501,6 +508,26 @@ public class ToolModel implements IUnbakedGeometry<ToolModel> {
           return finalModel;
         }
       }
+      return resolveTool(originalModel, stack, false);
+    }
+
+    /**
+     * Bakes the model for the given stack ahead of time so it is cached when first rendered. Must be called on the main thread.
+     * @param originalModel  Model owning this handler
+     * @param stack          Stack to bake
+     */
+    void warm(BakedModel originalModel, ItemStack stack) {
+      resolveTool(originalModel, stack, true);
+    }
+
+    /**
+     * Gets the model for the tool, ignoring nested overrides
+     * @param originalModel  Model owning this handler
+     * @param stack          Tool stack
+     * @param warmup         If true, this bake is a warm-up rather than a render
+     * @return  Model for the tool
+     */
+    private BakedModel resolveTool(BakedModel originalModel, ItemStack stack, boolean warmup) {
       // use material IDs for the sake of internal rendering materials
       List<MaterialVariantId> materialIds = MaterialIdNBT.from(stack).getMaterials();
       IToolStackView tool = ToolStack.from(stack);
@@ -552,8 +579,17 @@ public class ToolModel implements IUnbakedGeometry<ToolModel> {
       }
 
       // render special model
+      ToolCacheKey key = new ToolCacheKey(materialIds, builder.build());
+      BakedModel cached = cache.getIfPresent(key);
+      if (cached != null) {
+        if (!warmup) {
+          ToolModelCache.HITS.increment();
+        }
+        return cached;
+      }
+      (warmup ? ToolModelCache.WARMED : ToolModelCache.MISSES).increment();
       try {
-        return cache.get(new ToolCacheKey(materialIds, builder.build()), () -> bakeDynamic(materialIds, tool));
+        return cache.get(key, () -> bakeDynamic(materialIds, tool));
       } catch (ExecutionException e) {
         TConstruct.LOG.error("Failed to get tool model from cache", e);
         return originalModel;
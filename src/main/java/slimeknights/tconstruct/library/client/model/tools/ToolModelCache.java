@@ -0,0 +1,156 @@
+package slimeknights.tconstruct.library.client.model.tools;
+
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.player.LocalPlayer;
+import net.minecraft.client.renderer.ItemModelShaper;
+import net.minecraft.client.resources.model.BakedModel;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.client.event.RecipesUpdatedEvent;
+import net.minecraftforge.client.event.RegisterClientCommandsEvent;
+import net.minecraftforge.client.event.RegisterClientReloadListenersEvent;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent.ClientTickEvent;
+import net.minecraftforge.event.TickEvent.Phase;
+import slimeknights.mantle.data.listener.ISafeManagerReloadListener;
+import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.library.client.model.tools.ToolModel.MaterialOverrideHandler;
+import slimeknights.tconstruct.library.tools.item.IModifiable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Statistics and warm-up for the baked model caches in {@link MaterialOverrideHandler}.
+ * After resources or recipes reload, tools in the player's inventory followed by tools displayed in JEI are baked a few at a time each client tick,
+ * so opening a screen full of tools does not stall the client baking every model at once.
+ * Baking happens on the main thread as modifier models share caches with rendering.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ToolModelCache {
+  /** Expected number of quads in a baked tool, used to convert the model count budget into a quad budget */
+  static final int QUADS_PER_MODEL = 256;
+  /** Time to spend baking models each tick */
+  private static final long WARMUP_NANOS_PER_TICK = 2_000_000;
+
+  /* Statistics, kept across reloads */
+  static final LongAdder HITS = new LongAdder();
+  static final LongAdder MISSES = new LongAdder();
+  static final LongAdder EVICTIONS = new LongAdder();
+  static final LongAdder WARMED = new LongAdder();
+
+  /** Random for fetching quads to weigh models, baked tools do not use it */
+  private static final RandomSource RANDOM = RandomSource.create();
+  /** Stacks waiting to be baked, only accessed on the main thread */
+  private static final Deque<ItemStack> QUEUE = new ArrayDeque<>();
+  /** Tools last displayed in JEI, rebaked after each reload */
+  private static List<ItemStack> displayStacks = List.of();
+
+  /** Reload listener queuing a new warm-up, baking waits until the reload overlay closes so the new models are in place */
+  private static final ISafeManagerReloadListener RELOAD_LISTENER = manager -> startWarmup();
+
+  private static boolean init = false;
+
+  /** Registers the reload listener, warm-up on recipe sync and client tick, and the debug command */
+  public static void init(RegisterClientReloadListenersEvent manager) {
+    if (init) {
+      return;
+    }
+    init = true;
+    manager.registerReloadListener(RELOAD_LISTENER);
+    // recipes sync after joining a world, by then tool definitions and materials are loaded
+    Consumer<RecipesUpdatedEvent> recipesUpdated = event -> startWarmup();
+    MinecraftForge.EVENT_BUS.addListener(recipesUpdated);
+    MinecraftForge.EVENT_BUS.addListener(ToolModelCache::onClientTick);
+    MinecraftForge.EVENT_BUS.addListener(ToolModelCache::registerCommand);
+  }
+
+
+  /* Cache helpers */
+
+  /** Weighs a cached model by its number of quads */
+  static int weigh(Object key, BakedModel model) {
+    return Math.max(1, model.getQuads(null, null, RANDOM).size());
+  }
+
+
+  /* Warm-up */
+
+  /**
+   * Sets the tools displayed in JEI and warms their models
+   * @param stacks  Displayed stacks, non-tools are ignored
+   */
+  public static void setDisplayStacks(Collection<ItemStack> stacks) {
+    List<ItemStack> tools = new ArrayList<>();
+    for (ItemStack stack : stacks) {
+      if (stack.getItem() instanceof IModifiable) {
+        tools.add(stack);
+      }
+    }
+    displayStacks = tools;
+    startWarmup();
+  }
+
+  /** Queues the player inventory and JEI display for baking, replacing any previous warm-up */
+  private static void startWarmup() {
+    QUEUE.clear();
+    LocalPlayer player = Minecraft.getInstance().player;
+    if (player != null) {
+      for (int i = 0; i < player.getInventory().getContainerSize(); i++) {
+        ItemStack stack = player.getInventory().getItem(i);
+        if (stack.getItem() instanceof IModifiable) {
+          QUEUE.add(stack.copy());
+        }
+      }
+    }
+    QUEUE.addAll(displayStacks);
+  }
+
+  /** Bakes queued models until the time budget for the tick runs out */
+  private static void onClientTick(ClientTickEvent event) {
+    if (event.phase != Phase.END || QUEUE.isEmpty()) {
+      return;
+    }
+    Minecraft minecraft = Minecraft.getInstance();
+    // resources are still reloading, models may not be applied yet
+    if (minecraft.getOverlay() != null) {
+      return;
+    }
+    ItemModelShaper shaper = minecraft.getItemRenderer().getItemModelShaper();
+    long end = System.nanoTime() + WARMUP_NANOS_PER_TICK;
+    do {
+      ItemStack stack = QUEUE.poll();
+      BakedModel model = shaper.getItemModel(stack.getItem());
+      if (model != null && model.getOverrides() instanceof MaterialOverrideHandler handler) {
+        handler.warm(model, stack);
+      }
+    } while (!QUEUE.isEmpty() && System.nanoTime() < end);
+  }
+
+
+  /* Debug command */
+
+  /** Registers the client command to print cache statistics */
+  private static void registerCommand(RegisterClientCommandsEvent event) {
+    LiteralArgumentBuilder<CommandSourceStack> builder = Commands.literal(TConstruct.MOD_ID + "_client");
+    builder.then(Commands.literal("tool_models").executes(context -> {
+      long hits = HITS.sum();
+      long misses = MISSES.sum();
+      long lookups = hits + misses;
+      String hitRate = lookups == 0 ? "0" : String.format("%.1f", hits * 100.0 / lookups);
+      context.getSource().sendSuccess(() -> TConstruct.makeTranslation("command", "tool_models.stats", hits, misses, hitRate, EVICTIONS.sum(), WARMED.sum()), false);
+      return (int)Math.min(lookups, Integer.MAX_VALUE);
+    }));
+    event.getDispatcher().register(builder);
+  }
+}
@@ -321,6 +321,15 @@ public class Modifier implements IdAwareObject {
     return hooks.getOrDefault(hook);
   }
 
+  /**
+   * Checks if this modifier registered a module for the given hook. If false, {@link #getHook(ModuleHook)} returns the default instance.
+   * @param hook  Hook to check
+   * @return  True if the hook is implemented
+   */
+  public final boolean hasHook(ModuleHook<?> hook) {
+    return hooks.hasHook(hook);
+  }
+
 
   @Override
   public String toString() {
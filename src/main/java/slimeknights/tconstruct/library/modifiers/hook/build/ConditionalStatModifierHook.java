@@ -25,7 +25,7 @@ public interface ConditionalStatModifierHook {
   /** Gets the given stat from the tool, as modified by this hook */
   static float getModifiedStat(IToolStackView tool, LivingEntity living, FloatToolStat stat, float value) {
     float multiplier = tool.getMultiplier(stat);
-    for (ModifierEntry entry : tool.getModifierList()) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHooks.CONDITIONAL_STAT)) {
       value = entry.getHook(ModifierHooks.CONDITIONAL_STAT).modifyStat(tool, entry, living, stat, value, multiplier);
     }
     return stat.clamp(value);
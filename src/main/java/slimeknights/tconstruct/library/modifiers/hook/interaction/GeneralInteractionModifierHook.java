@@ -100,9 +100,9 @@ public interface GeneralInteractionModifierHook {
   /* Helpers */
 
   /** Persistent key storing the actively running modifier for use in several hooks */
-  ResourceLocation KEY_ACTIVE_MODIFIER = TConstruct.getResource("active_modifier");
+  ResourceLocation KEY_ACTIVE_MODIFIER = TConstruct.getDataKey("active_modifier");
   /** Persistent data key storing the drawtime needed for using the tool. Generally is set when tool usage starts */
-  ResourceLocation KEY_DRAWTIME = TConstruct.getResource("drawtime");
+  ResourceLocation KEY_DRAWTIME = TConstruct.getDataKey("drawtime");
 
   /**
    * Use in {@link #onToolUse(IToolStackView, ModifierEntry, Player, InteractionHand, InteractionSource)} to start using an item, ensuring later hooks are properly called.
@@ -58,7 +58,7 @@ public interface BlockHarvestModifierHook {
    */
   interface MarkHarvesting extends BlockHarvestModifierHook {
     /** Flag marking we are currently harvesting. Will be shared by all usages of this hook as its not a problem if its set/removed multiple times. */
-    ResourceLocation HARVESTING_FLAG = TConstruct.getResource("is_harvesting");
+    ResourceLocation HARVESTING_FLAG = TConstruct.getDataKey("is_harvesting");
 
     @Override
     default void startHarvest(IToolStackView tool, ModifierEntry modifier, ToolHarvestContext context) {
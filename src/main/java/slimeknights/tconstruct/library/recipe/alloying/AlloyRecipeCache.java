@@ -0,0 +1,160 @@
+package slimeknights.tconstruct.library.recipe.alloying;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
+import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipe.AlloyIngredient;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+
+/**
+ * Index of alloy recipes by input fluid, so finding recipes for a tank only tests recipes using fluids in the tank.
+ * Each recipe is indexed under the fluids of its most specific input, as a recipe cannot match unless all its inputs are present.
+ * Recipes with an input that lists no fluids are tested for every tank.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AlloyRecipeCache {
+  /** Index for each recipe manager, weak keys to compare by identity and so we don't hold onto old client managers */
+  private static final Cache<RecipeManager,Index> CACHE = CacheBuilder.newBuilder().weakKeys().build();
+
+  static {
+    RecipeCacheInvalidator.addReloadListener(client -> CACHE.invalidateAll());
+  }
+
+  /**
+   * Finds all alloy recipes matching the given tank, equivalent to {@link RecipeManager#getRecipesFor(net.minecraft.world.item.crafting.RecipeType, net.minecraft.world.Container, Level)}
+   * @param tank   Alloy tank
+   * @param level  Level instance
+   * @return  Mutable list of matching recipes
+   */
+  public static List<AlloyRecipe> findRecipes(IAlloyTank tank, Level level) {
+    return getIndex(level).find(tank, level);
+  }
+
+  /**
+   * Finds the first alloy recipe for the given tank passing the filter, without separately checking if the recipe matches
+   * @param tank    Alloy tank
+   * @param level   Level instance
+   * @param filter  Check for each recipe, must reject recipes that do not match the tank such as by {@link AlloyRecipe#canPerform(IAlloyTank)}
+   * @return  First recipe passing the filter, or null if none
+   */
+  @Nullable
+  public static AlloyRecipe findRecipe(IAlloyTank tank, Level level, Predicate<AlloyRecipe> filter) {
+    return getIndex(level).findFirst(tank, filter);
+  }
+
+  /** Gets the index for the level's recipe manager */
+  private static Index getIndex(Level level) {
+    RecipeManager manager = level.getRecipeManager();
+    try {
+      return CACHE.get(manager, () -> Index.build(manager.getAllRecipesFor(TinkerRecipeTypes.ALLOYING.get())));
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Failed to build alloy recipe index", e);
+    }
+  }
+
+  /** Index of recipes for a single recipe manager */
+  record Index(List<AlloyRecipe> recipes, Map<Fluid,int[]> byFluid, int[] fallback) {
+    /** Builds the index from the given recipes, in recipe manager order */
+    static Index build(List<AlloyRecipe> recipes) {
+      Map<Fluid,List<Integer>> byFluid = new HashMap<>();
+      List<Integer> fallback = new ArrayList<>();
+      Set<Fluid> fluids = new HashSet<>();
+      for (int i = 0; i < recipes.size(); i++) {
+        Set<Fluid> indexed = null;
+        for (AlloyIngredient ingredient : recipes.get(i).getInputs()) {
+          fluids.clear();
+          for (FluidStack fluid : ingredient.fluid().getFluids()) {
+            fluids.add(fluid.getFluid());
+          }
+          // any input with no listed fluids may match something we cannot predict, so skip indexing
+          if (fluids.isEmpty()) {
+            indexed = null;
+            break;
+          }
+          // index by the input with the fewest fluids, as it rules out the most tanks
+          if (indexed == null || fluids.size() < indexed.size()) {
+            indexed = new HashSet<>(fluids);
+          }
+        }
+        if (indexed == null) {
+          fallback.add(i);
+        } else {
+          for (Fluid fluid : indexed) {
+            byFluid.computeIfAbsent(fluid, key -> new ArrayList<>()).add(i);
+          }
+        }
+      }
+      Map<Fluid,int[]> built = new HashMap<>(byFluid.size());
+      for (Map.Entry<Fluid,List<Integer>> entry : byFluid.entrySet()) {
+        built.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+      }
+      return new Index(ImmutableList.copyOf(recipes), built, fallback.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /** Finds all recipes matching the tank */
+    List<AlloyRecipe> find(IAlloyTank tank, Level level) {
+      BitSet candidates = candidates(tank);
+      List<AlloyRecipe> matches = new ArrayList<>();
+      for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+        AlloyRecipe recipe = recipes.get(i);
+        if (recipe.matches(tank, level)) {
+          matches.add(recipe);
+        }
+      }
+      return matches;
+    }
+
+    /** Finds the first candidate recipe for the tank passing the filter */
+    @Nullable
+    AlloyRecipe findFirst(IAlloyTank tank, Predicate<AlloyRecipe> filter) {
+      BitSet candidates = candidates(tank);
+      for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+        AlloyRecipe recipe = recipes.get(i);
+        if (filter.test(recipe)) {
+          return recipe;
+        }
+      }
+      return null;
+    }
+
+    /** Gets the indices of all recipes that may match the tank, in recipe order */
+    private BitSet candidates(IAlloyTank tank) {
+      // gather candidates from each fluid in the tank, the bitset removes duplicates and keeps recipe order
+      BitSet candidates = new BitSet(recipes.size());
+      for (int i : fallback) {
+        candidates.set(i);
+      }
+      int tanks = tank.getTanks();
+      for (int t = 0; t < tanks; t++) {
+        FluidStack fluid = tank.getFluidInTank(t);
+        if (!fluid.isEmpty()) {
+          int[] indexed = byFluid.get(fluid.getFluid());
+          if (indexed != null) {
+            for (int i : indexed) {
+              candidates.set(i);
+            }
+          }
+        }
+      }
+      return candidates;
+    }
+  }
+}
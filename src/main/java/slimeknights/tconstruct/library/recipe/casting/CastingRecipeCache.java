@@ -0,0 +1,119 @@
+package slimeknights.tconstruct.library.recipe.casting;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+
+import javax.annotation.Nullable;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cache of casting recipe lookups by cast item and fluid, including lookups that found no recipe.
+ * Casting recipes such as material or container filling recipes compute their matches dynamically, so they cannot be indexed ahead of time.
+ * Instead, each lookup result is remembered until recipes reload, keyed by everything a casting container exposes to a recipe.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CastingRecipeCache {
+  /** Maximum number of lookup results to keep per recipe manager, as tools and other NBT heavy casts may produce many keys */
+  private static final int MAX_RESULTS = 1024;
+  /** Results for each recipe manager, weak keys to compare by identity and so we don't hold onto old client managers */
+  private static final Cache<RecipeManager,Results> CACHE = CacheBuilder.newBuilder().weakKeys().build();
+  /** Number of times recipes reloaded, lets block entities know to retry failed lookups */
+  private static final AtomicInteger RELOADS = new AtomicInteger(0);
+
+  static {
+    RecipeCacheInvalidator.addReloadListener(client -> {
+      CACHE.invalidateAll();
+      RELOADS.incrementAndGet();
+    });
+  }
+
+  /**
+   * Finds the casting recipe for the given container, matching the result of {@link RecipeManager#getRecipeFor(RecipeType, net.minecraft.world.Container, Level)}
+   * @param type   Casting recipe type, table or basin
+   * @param inv    Casting container
+   * @param level  Level instance
+   * @return  Recipe, or null if no recipe matches
+   */
+  @Nullable
+  public static ICastingRecipe findRecipe(RecipeType<ICastingRecipe> type, ICastingContainer inv, Level level) {
+    RecipeManager manager = level.getRecipeManager();
+    Results results;
+    try {
+      results = CACHE.get(manager, () -> new Results((recipeType, container, recipeLevel) -> manager.getRecipeFor(recipeType, container, recipeLevel).orElse(null)));
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Failed to create casting recipe cache", e);
+    }
+    return results.find(type, inv, level);
+  }
+
+  /** Gets the number of times recipes reloaded, any lookup that failed before the count changed may succeed now */
+  public static int getReloadCount() {
+    return RELOADS.get();
+  }
+
+  /** Function performing an uncached recipe lookup */
+  @FunctionalInterface
+  interface RecipeLookup {
+    @Nullable
+    ICastingRecipe find(RecipeType<ICastingRecipe> type, ICastingContainer inv, Level level);
+  }
+
+  /** Everything a casting recipe can see in a container, tags are copied when stored */
+  record Key(RecipeType<?> type, Item item, int count, @Nullable CompoundTag itemTag, Fluid fluid, @Nullable CompoundTag fluidTag) {
+    /** Creates a key for the current contents of the container */
+    static Key of(RecipeType<?> type, ICastingContainer inv) {
+      ItemStack stack = inv.getStack();
+      return new Key(type, stack.getItem(), stack.getCount(), stack.getTag(), inv.getFluid(), inv.getFluidTag());
+    }
+
+    /** Copies the tags in this key, so later changes to the stack or fluid don't change the key */
+    Key copy() {
+      if (itemTag == null && fluidTag == null) {
+        return this;
+      }
+      return new Key(type, item, count, itemTag == null ? null : itemTag.copy(), fluid, fluidTag == null ? null : fluidTag.copy());
+    }
+  }
+
+  /** Lookup results for a single recipe manager */
+  static class Results {
+    private final RecipeLookup lookup;
+    private final Cache<Key,Optional<ICastingRecipe>> results = CacheBuilder.newBuilder().maximumSize(MAX_RESULTS).build();
+
+    Results(RecipeLookup lookup) {
+      this.lookup = lookup;
+    }
+
+    /** Finds the recipe for the container, using a cached result if present */
+    @Nullable
+    ICastingRecipe find(RecipeType<ICastingRecipe> type, ICastingContainer inv, Level level) {
+      Key key = Key.of(type, inv);
+      Optional<ICastingRecipe> cached = results.getIfPresent(key);
+      if (cached != null) {
+        // no recipe is trusted until reload, a found recipe is cheap to double check
+        if (cached.isEmpty()) {
+          return null;
+        }
+        ICastingRecipe recipe = cached.get();
+        if (recipe.matches(inv, level)) {
+          return recipe;
+        }
+      }
+      ICastingRecipe recipe = lookup.find(type, inv, level);
+      results.put(key.copy(), Optional.ofNullable(recipe));
+      return recipe;
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package slimeknights.tconstruct.library.recipe.entitymelting;
 
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.item.crafting.RecipeManager;
@@ -18,9 +19,15 @@ import java.util.Map;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class EntityMeltingRecipeCache {
   private static final Map<EntityType<?>,EntityMeltingRecipe> CACHE = new HashMap<>();
+  /** Number of times recipes reloaded, lets per structure caches know to clear */
+  @Getter
+  private static int reloadCount = 0;
 
   static {
-    RecipeCacheInvalidator.addReloadListener(client -> CACHE.clear());
+    RecipeCacheInvalidator.addReloadListener(client -> {
+      CACHE.clear();
+      reloadCount++;
+    });
   }
 
   /**
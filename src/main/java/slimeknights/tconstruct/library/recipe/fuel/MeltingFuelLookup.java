@@ -1,6 +1,7 @@
 package slimeknights.tconstruct.library.recipe.fuel;
 
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.level.material.Fluid;
@@ -38,8 +39,12 @@ public class MeltingFuelLookup {
     }
     return EMPTY;
   };
+  /** Number of times the fuels were cleared, lets fuel modules know to retry searches that found no fuel */
+  @Getter
+  private static int reloadCount = 0;
   /** Listener to check when recipes reload */
   private static final DuelSidedListener LISTENER = RecipeCacheInvalidator.addDuelSidedListener(() -> {
+    reloadCount++;
     SOLID = EMPTY;
     RECIPES.clear();
     CACHE.clear();
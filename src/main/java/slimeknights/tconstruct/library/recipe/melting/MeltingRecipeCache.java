@@ -0,0 +1,120 @@
+package slimeknights.tconstruct.library.recipe.melting;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.level.Level;
+import slimeknights.tconstruct.common.recipe.RecipeCacheInvalidator;
+import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Index of melting recipes by input item, so finding a recipe for an item does not test every melting recipe.
+ * Recipes with simple ingredients are indexed under each item they accept. Any other recipe, such as {@link MaterialMeltingRecipe} or recipes with NBT ingredients, is tested for every item.
+ * Unlike {@link MeltingRecipeLookup}, this returns the full recipe and covers every melting recipe.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MeltingRecipeCache {
+  /** Index for each recipe manager, weak keys to compare by identity and so we don't hold onto old client managers */
+  private static final Cache<RecipeManager,Index> CACHE = CacheBuilder.newBuilder().weakKeys().build();
+
+  static {
+    RecipeCacheInvalidator.addReloadListener(client -> CACHE.invalidateAll());
+  }
+
+  /**
+   * Finds the melting recipe for the given container, matching the result of {@link RecipeManager#getRecipeFor(net.minecraft.world.item.crafting.RecipeType, net.minecraft.world.Container, Level)}
+   * @param inv    Melting container
+   * @param level  Level instance
+   * @return  Recipe, or null if no recipe matches
+   */
+  @Nullable
+  public static IMeltingRecipe findRecipe(IMeltingContainer inv, Level level) {
+    RecipeManager manager = level.getRecipeManager();
+    Index index;
+    try {
+      index = CACHE.get(manager, () -> Index.build(manager.getAllRecipesFor(TinkerRecipeTypes.MELTING.get())));
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Failed to build melting recipe index", e);
+    }
+    return index.find(inv, level);
+  }
+
+  /** Recipe along with its position in the recipe manager, used to keep the original recipe priority */
+  private record Candidate(int order, IMeltingRecipe recipe) {}
+
+  /** Index of recipes for a single recipe manager */
+  record Index(Map<Item,List<Candidate>> byItem, List<Candidate> fallback) {
+    /** Builds the index from the given recipes, in recipe manager order */
+    static Index build(List<? extends IMeltingRecipe> recipes) {
+      Map<Item,ImmutableList.Builder<Candidate>> byItem = new HashMap<>();
+      ImmutableList.Builder<Candidate> fallback = ImmutableList.builder();
+      Set<Item> items = new HashSet<>();
+      for (int i = 0; i < recipes.size(); i++) {
+        IMeltingRecipe recipe = recipes.get(i);
+        Candidate candidate = new Candidate(i, recipe);
+        // simple ingredients match purely on item, so every item they accept is listed
+        // anything else may depend on NBT or compute its matches dynamically
+        if (recipe instanceof MeltingRecipe melting && isIndexable(melting.getInput())) {
+          items.clear();
+          for (ItemStack stack : melting.getInput().getItems()) {
+            Item item = stack.getItem();
+            if (items.add(item)) {
+              byItem.computeIfAbsent(item, key -> ImmutableList.builder()).add(candidate);
+            }
+          }
+        } else {
+          fallback.add(candidate);
+        }
+      }
+      Map<Item,List<Candidate>> built = new HashMap<>(byItem.size());
+      for (Map.Entry<Item,ImmutableList.Builder<Candidate>> entry : byItem.entrySet()) {
+        built.put(entry.getKey(), entry.getValue().build());
+      }
+      return new Index(built, fallback.build());
+    }
+
+    /** Checks if the given ingredient can be indexed by item */
+    private static boolean isIndexable(Ingredient ingredient) {
+      return ingredient.isSimple() && !ingredient.isEmpty();
+    }
+
+    /** Finds the first recipe matching the container */
+    @Nullable
+    IMeltingRecipe find(IMeltingContainer inv, Level level) {
+      List<Candidate> indexed = byItem.getOrDefault(inv.getStack().getItem(), List.of());
+      int indexedSize = indexed.size();
+      int fallbackSize = fallback.size();
+      int i = 0;
+      int f = 0;
+      // merge the two lists by recipe order, so overlapping recipes resolve the same as the recipe manager
+      while (i < indexedSize || f < fallbackSize) {
+        Candidate candidate;
+        if (f >= fallbackSize || (i < indexedSize && indexed.get(i).order < fallback.get(f).order)) {
+          candidate = indexed.get(i);
+          i++;
+        } else {
+          candidate = fallback.get(f);
+          f++;
+        }
+        if (candidate.recipe.matches(inv, level)) {
+          return candidate.recipe;
+        }
+      }
+      return null;
+    }
+  }
+}
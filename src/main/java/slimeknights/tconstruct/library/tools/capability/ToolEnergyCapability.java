@@ -25,7 +25,7 @@ public record ToolEnergyCapability(Supplier<? extends IToolStackView> tool) impl
   /** Stat marking the max capacity */
   public static final CapacityStat MAX_STAT = ToolStats.register(new CapacityStat(new ToolStatId(TConstruct.MOD_ID, "max_energy"), 0xa00000, ENERGY_FORMAT));
   /** Persistent data key for fetching the current energy */
-  public static final ResourceLocation ENERGY_KEY = TConstruct.getResource("energy");
+  public static final ResourceLocation ENERGY_KEY = TConstruct.getDataKey("energy");
   /** Include this module in a modifier adding energy capacity or functionality to ensure capacity changes are properly cleaned up */
   public static final ModifierModule ENERGY_HANDLER = new ModifierTraitModule(TinkerModifiers.energyHandler.getId(), 1, true);
 
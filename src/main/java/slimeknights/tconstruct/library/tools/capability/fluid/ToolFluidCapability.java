@@ -30,7 +30,7 @@ import java.util.function.Supplier;
 @RequiredArgsConstructor
 public class ToolFluidCapability extends FluidModifierHookIterator<ModifierEntry> implements IFluidHandlerItem {
   /** Boolean key to set in volatile mod data to enable the fluid capability */
-  public static final ResourceLocation TOTAL_TANKS = TConstruct.getResource("total_tanks");
+  public static final ResourceLocation TOTAL_TANKS = TConstruct.getDataKey("total_tanks");
 
   /** Modifier hook instance to make an inventory modifier */
   public static final ModuleHook<FluidModifierHook> HOOK = ModifierHooks.register(TConstruct.getResource("fluid"), FluidModifierHook.class, FluidModifierHookMerger::new, new FluidModifierHook() {
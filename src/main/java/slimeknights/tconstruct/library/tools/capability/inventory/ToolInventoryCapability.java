@@ -43,13 +43,13 @@ import java.util.function.Supplier;
 @RequiredArgsConstructor
 public class ToolInventoryCapability extends InventoryModifierHookIterator<ModifierEntry> implements IItemHandlerModifiable {
   /** Boolean key to set in volatile mod data for the total slot count across all modifiers */
-  public static final ResourceLocation TOTAL_SLOTS = TConstruct.getResource("total_item_slots");
+  public static final ResourceLocation TOTAL_SLOTS = TConstruct.getDataKey("total_item_slots");
   /** Boolean key to set in volatile mod data to show the offand in the inventory menu */
-  public static final ResourceLocation INCLUDE_OFFHAND = TConstruct.getResource("inventory_show_offhand");
+  public static final ResourceLocation INCLUDE_OFFHAND = TConstruct.getDataKey("inventory_show_offhand");
   /** Boolean key to set to enable the 3x3 crafting table in the tool inventory */
-  public static final ResourceLocation CRAFTING_TABLE = TConstruct.getResource("crafting_table");
+  public static final ResourceLocation CRAFTING_TABLE = TConstruct.getDataKey("crafting_table");
   /** Boolean key to set to enable the 2x2 crafting table in the tool inventory */
-  public static final ResourceLocation INVENTORY_CRAFTING = TConstruct.getResource("inventory_crafting");
+  public static final ResourceLocation INVENTORY_CRAFTING = TConstruct.getDataKey("inventory_crafting");
 
   /** Modifier hook instance to make an inventory modifier */
   public static final ModuleHook<InventoryModifierHook> HOOK = ModifierHooks.register(TConstruct.getResource("inventory"), InventoryModifierHook.class, InventoryModifierHookMerger::new, new InventoryModifierHook() {
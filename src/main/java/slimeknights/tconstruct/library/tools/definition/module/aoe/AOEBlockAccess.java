@@ -0,0 +1,72 @@
+package slimeknights.tconstruct.library.tools.definition.module.aoe;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+
+import javax.annotation.Nullable;
+
+/**
+ * Helper for reading block states for many nearby positions, as is done by area of effect iterators.
+ * Caches the last chunk section so positions in the same section skip the chunk lookup in {@link Level#getBlockState(BlockPos)}.
+ * Instances are meant for a single pass over an area within a tick, as the cached section is not revalidated if the chunk unloads.
+ */
+public class AOEBlockAccess {
+  private final Level level;
+  /** Section containing the last position, null if the last position was not in a loaded section */
+  @Nullable
+  private LevelChunkSection section;
+  /** Section coordinates of {@link #section} */
+  private int sectionX, sectionY, sectionZ;
+
+  public AOEBlockAccess(Level level) {
+    this.level = level;
+  }
+
+  /**
+   * Gets the block state at the given position, equivalent to {@link Level#getBlockState(BlockPos)}
+   * @param pos  Position to fetch
+   * @return  Block state at the position
+   */
+  public BlockState getBlockState(BlockPos pos) {
+    int x = pos.getX();
+    int y = pos.getY();
+    int z = pos.getZ();
+    int sectionX = SectionPos.blockToSectionCoord(x);
+    int sectionY = SectionPos.blockToSectionCoord(y);
+    int sectionZ = SectionPos.blockToSectionCoord(z);
+    if (section == null || sectionX != this.sectionX || sectionY != this.sectionY || sectionZ != this.sectionZ) {
+      section = findSection(sectionX, sectionY, sectionZ);
+      if (section == null) {
+        // unloaded chunk, outside the world, or debug world; let the level handle it
+        return level.getBlockState(pos);
+      }
+      this.sectionX = sectionX;
+      this.sectionY = sectionY;
+      this.sectionZ = sectionZ;
+    }
+    return section.getBlockState(x & 15, y & 15, z & 15);
+  }
+
+  /** Finds the chunk section at the given section coordinates, or null if it should not be read directly */
+  @Nullable
+  private LevelChunkSection findSection(int sectionX, int sectionY, int sectionZ) {
+    // debug world generates block states on demand
+    if (level.isDebug()) {
+      return null;
+    }
+    // only read from loaded chunks, leave loading to the level
+    LevelChunk chunk = level.getChunkSource().getChunkNow(sectionX, sectionZ);
+    if (chunk == null) {
+      return null;
+    }
+    int index = chunk.getSectionIndexFromSectionY(sectionY);
+    if (index < 0 || index >= chunk.getSectionsCount()) {
+      return null;
+    }
+    return chunk.getSection(index);
+  }
+}
@@ -52,8 +52,8 @@ public interface AreaOfEffectIterator {
   Iterable<BlockPos> getBlocks(IToolStackView tool, UseOnContext context, BlockState state, AOEMatchType matchType);
 
   /** Checks if the tool is effective on the given block */
-  private static boolean isEffective(IToolStackView tool, Level world, BlockPos pos, float refHardness) {
-    BlockState state = world.getBlockState(pos);
+  private static boolean isEffective(IToolStackView tool, Level world, AOEBlockAccess blocks, BlockPos pos, float refHardness) {
+    BlockState state = blocks.getBlockState(pos);
     if (state.isAir()) {
       return false;
     }
@@ -73,19 +73,19 @@ public interface AreaOfEffectIterator {
   static Predicate<BlockPos> defaultBlockPredicate(IToolStackView tool, UseOnContext context, AOEMatchType matchType) {
     // requires effectiveness
     Level world = context.getLevel();
+    AOEBlockAccess blocks = new AOEBlockAccess(world);
     if (matchType == AOEMatchType.DISPLAY) {
-      return pos -> !world.isEmptyBlock(pos);
+      return pos -> !blocks.getBlockState(pos).isAir();
     } else {
       // don't let hardness vary too much
       BlockPos origin = context.getClickedPos();
       float refHardness = world.getBlockState(origin).getDestroySpeed(world, origin);
       if (matchType == AOEMatchType.TRANSFORM) {
         return pos -> {
-          Level level = context.getLevel();
-          if (isEffective(tool, level, pos, refHardness)) {
+          if (isEffective(tool, world, blocks, pos, refHardness)) {
             return true;
           }
-          BlockState offsetState = level.getBlockState(pos);
+          BlockState offsetState = blocks.getBlockState(pos);
           for (ModifierEntry entry : tool.getModifiers()) {
             if (entry.getHook(ModifierHooks.AOE_HIGHLIGHT).shouldHighlight(tool, entry, context, pos, offsetState)) {
               return true;
@@ -94,7 +94,7 @@ public interface AreaOfEffectIterator {
           return false;
         };
       }
-      return pos -> isEffective(tool, world, pos, refHardness);
+      return pos -> isEffective(tool, world, blocks, pos, refHardness);
     }
   }
 
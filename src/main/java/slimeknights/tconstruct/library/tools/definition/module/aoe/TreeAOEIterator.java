@@ -1,6 +1,10 @@
 package slimeknights.tconstruct.library.tools.definition.module.aoe;
 
 import com.google.common.collect.AbstractIterator;
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Direction.Plane;
@@ -15,10 +19,6 @@ import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 import slimeknights.tconstruct.tools.TinkerModifiers;
 
 import javax.annotation.Nullable;
-import java.util.ArrayDeque;
-import java.util.HashSet;
-import java.util.Queue;
-import java.util.Set;
 
 /**
  * Tree harvest logic that destroys a tree
@@ -85,23 +85,32 @@ public record TreeAOEIterator(int width, int depth) implements AreaOfEffectItera
    * The trunk can start new branches within a 3x3x1 square area, again requiring nothing to be below the block
    */
   public static class TreeIterator extends AbstractIterator<BlockPos> {
-    /** Queue of upcoming positions to try */
-    private final Queue<TreePos> upcomingPositions = new ArrayDeque<>();
-    /** Position for returns, saves some object allocation */
+    /** Flag set in {@link #upcomingData} if the position has been validated already for a log */
+    private static final int CHECKED = 0b1000;
+    /** Mask to fetch the direction from {@link #upcomingData} */
+    private static final int DIRECTION_MASK = 0b0111;
+
+    /** Queue of upcoming positions to try, stored as {@link BlockPos#asLong()} */
+    private final LongArrayFIFOQueue upcomingPositions = new LongArrayFIFOQueue();
+    /** Direction and checked flag for each position in {@link #upcomingPositions}, always enqueued and dequeued in parallel. Up means trunk, other directions are branches */
+    private final IntArrayFIFOQueue upcomingData = new IntArrayFIFOQueue();
+    /** Position for checks, saves some object allocation */
     private final BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
-    /** Branches that have been visited already */
-    private final Set<BlockPos> branchVisited = new HashSet<>();
+    /** Position currently being processed, also used for returns */
+    private final BlockPos.MutableBlockPos current = new BlockPos.MutableBlockPos();
+    /** Branches that have been visited already, stored as {@link BlockPos#asLong()} */
+    private final LongSet branchVisited = new LongOpenHashSet();
 
-    private final Level world;
+    private final AOEBlockAccess world;
     private final Block filter;
     /** Bounds for branch detection */
     private final int minX, maxX, minZ, maxZ;
     public TreeIterator(Level world, Block filter, BlockPos origin, Direction widthDir, int extraWidth, Direction depthDir, int extraDepth) {
-      this.world = world;
+      this.world = new AOEBlockAccess(world);
       this.filter = filter;
 
       // first, enqueue the origin
-      upcomingPositions.add(new TreePos(origin.above(), false));
+      enqueue(BlockPos.offset(origin.asLong(), Direction.UP), Direction.UP, false);
 
       // next, start adding AOE
       int minX = origin.getX();
@@ -116,7 +125,7 @@ public record TreeAOEIterator(int width, int depth) implements AreaOfEffectItera
               // if its valid, queue
               mutable.set(origin).move(depthDir, d).move(widthDir, w);
               if (isValidBlock(mutable)) {
-                upcomingPositions.add(new TreePos(mutable, true));
+                enqueue(mutable.asLong(), Direction.UP, true);
                 // update bounds
                 if (mutable.getX() < minX) minX = mutable.getX();
                 if (mutable.getX() > maxX) maxX = mutable.getX();
@@ -133,6 +142,17 @@ public record TreeAOEIterator(int width, int depth) implements AreaOfEffectItera
       this.maxZ = maxZ;
     }
 
+    /**
+     * Adds a position to the queue
+     * @param pos        Position as a long
+     * @param direction  Direction to continue, up for trunk
+     * @param isChecked  If true, the position is already validated for a log
+     */
+    private void enqueue(long pos, Direction direction, boolean isChecked) {
+      upcomingPositions.enqueue(pos);
+      upcomingData.enqueue(isChecked ? direction.get3DDataValue() | CHECKED : direction.get3DDataValue());
+    }
+
     /** Checks if the position matches the filter block */
     private boolean isValidBlock(BlockPos pos) {
       return world.getBlockState(pos).getBlock() == filter;
@@ -151,27 +171,27 @@ public record TreeAOEIterator(int width, int depth) implements AreaOfEffectItera
       // find the distance to the nearest corner
       int deltaX = Math.min(Math.abs(pos.getX() - minX), Math.abs(pos.getX() - maxX));
       int deltaZ = Math.min(Math.abs(pos.getZ() - minZ), Math.abs(pos.getZ() - maxZ));
-      if ((deltaX + deltaZ) > MAX_BRANCH_DISTANCE || branchVisited.contains(pos)) {
+      // add returns false if already visited
+      if ((deltaX + deltaZ) > MAX_BRANCH_DISTANCE || !branchVisited.add(pos.asLong())) {
         return false;
       }
-      branchVisited.add(pos.immutable());
       return isValidBlock(pos);
     }
 
     /** Adds a branch to the queue at the current mutable position */
     private void addBranch(Direction direction) {
-      upcomingPositions.add(new TreePos(mutable, direction));
+      enqueue(mutable.asLong(), direction, true);
     }
 
     /** Tries to find a branch at the current mutable position */
     private void tryBranch(Direction direction) {
       // block must not have log both above and below it to count
       if (isBranch(mutable)) {
-        // copies position, so safe to change after
-        TreePos branchPos = new TreePos(mutable, direction);
+        // store position, so safe to change after
+        long branchPos = mutable.asLong();
         // must have a non-solid block below, and must be a corner or be 1-2 blocks tall (dark oak support/jungle sapling thick branches)
         if (!world.getBlockState(mutable.move(0, -1, 0)).canOcclude()) {
-          upcomingPositions.add(branchPos);
+          enqueue(branchPos, direction, true);
         }
       }
     }
@@ -180,127 +200,99 @@ public record TreeAOEIterator(int width, int depth) implements AreaOfEffectItera
     protected BlockPos computeNext() {
       while (!upcomingPositions.isEmpty()) {
         // if the position matches the block, add it. Some positions are already added
-        TreePos treePos = upcomingPositions.remove();
+        current.set(upcomingPositions.dequeueLong());
+        int data = upcomingData.dequeueInt();
+        Direction treeDirection = Direction.from3DDataValue(data & DIRECTION_MASK);
 
         // trunk logic
-        if (treePos.direction == Direction.UP) {
-          boolean isTreeUp = treePos.isChecked || isValidBlock(treePos.pos);
+        if (treeDirection == Direction.UP) {
+          boolean isTreeUp = (data & CHECKED) != 0 || isValidBlock(current);
 
           // find branches in all 4 directions if going up, assuming we are in the
           for (Direction direction : Plane.HORIZONTAL) {
             // if the position is a branch, meaning its a log with no log above it, queue it
-            mutable.set(treePos.pos).move(direction);
+            mutable.set(current).move(direction);
             // if we did not find a log at the current position, treat the position as our new tree, for acacia
             tryBranch(!isTreeUp ? Direction.UP : direction);
           }
 
           if (isTreeUp) {
             // corner case, only care if we have a tree at current position
-            boolean isMinX = treePos.pos.getX() == minX;
-            boolean isMaxX = treePos.pos.getX() == maxX;
-            boolean isMinZ = treePos.pos.getZ() == minZ;
-            boolean isMaxZ = treePos.pos.getZ() == maxZ;
+            boolean isMinX = current.getX() == minX;
+            boolean isMaxX = current.getX() == maxX;
+            boolean isMinZ = current.getZ() == minZ;
+            boolean isMaxZ = current.getZ() == maxZ;
             // if either min or max on both axis, but not both (1x1), we are a corner, do corner case
             if (isMinX) {
               if (isMinZ) {
-                mutable.set(treePos.pos).move(-1, 0, -1);
+                mutable.set(current).move(-1, 0, -1);
                 tryBranch(Direction.WEST);
               }
               if (isMaxZ) {
-                mutable.set(treePos.pos).move(-1, 0, 1);
+                mutable.set(current).move(-1, 0, 1);
                 tryBranch(Direction.WEST);
               }
             }
             if (isMaxX) {
               if (isMinZ) {
-                mutable.set(treePos.pos).move(1, 0, -1);
+                mutable.set(current).move(1, 0, -1);
                 tryBranch(Direction.EAST);
               }
               if (isMaxZ) {
-                mutable.set(treePos.pos).move(1, 0, 1);
+                mutable.set(current).move(1, 0, 1);
                 tryBranch(Direction.EAST);
               }
             }
 
             // finally, return this position
-            // insert the updated position into the queue and return the current position
-            mutable.set(treePos.pos);
-            upcomingPositions.add(treePos.move());
+            // insert the position above into the queue and return the current position
+            enqueue(BlockPos.offset(current.asLong(), Direction.UP), Direction.UP, false);
             // acacia can continue outside the original trunk, so start marking it visited to prevent redundancy
-            if (outsideTrunk(treePos.pos)) {
-              branchVisited.add(treePos.pos);
+            if (outsideTrunk(current)) {
+              branchVisited.add(current.asLong());
             }
-            return mutable;
+            return current;
           }
         } else {
           // branch logic, should always be checked ahead of time (question is which further branches can we find)
           // continue in same direction
-          mutable.set(treePos.pos).move(0, 1, 0);
+          mutable.set(current).move(0, 1, 0);
           if (isBranch(mutable)) {
-            addBranch(treePos.direction);
+            addBranch(treeDirection);
             // just direction, no up
-          } else if (isBranch(mutable.move(treePos.direction).move(0, -1, 0))) {
-            addBranch(treePos.direction);
+          } else if (isBranch(mutable.move(treeDirection).move(0, -1, 0))) {
+            addBranch(treeDirection);
             // direction and up
           } else if (isBranch(mutable.move(0, 1, 0))) {
-            addBranch(treePos.direction);
+            addBranch(treeDirection);
           }
           // try each side, we check pos, above, then continuing the side
-          Direction rotated = treePos.direction.getClockWise();
-          mutable.set(treePos.pos).move(rotated);
+          Direction rotated = treeDirection.getClockWise();
+          mutable.set(current).move(rotated);
           if (isBranch(mutable)) {
             addBranch(rotated);
           } else if (isBranch(mutable.move(0, 1, 0))) {
             addBranch(rotated);
-          } else if (isBranch(mutable.move(treePos.direction).move(0, -1, 0))) {
+          } else if (isBranch(mutable.move(treeDirection).move(0, -1, 0))) {
             addBranch(rotated);
           } else if (isBranch(mutable.move(0, 1, 0))) {
             addBranch(rotated);
           }
           rotated = rotated.getOpposite();
-          mutable.set(treePos.pos).move(rotated);
+          mutable.set(current).move(rotated);
           if (isBranch(mutable)) {
             addBranch(rotated);
           } else if (isBranch(mutable.move(0, 1, 0))) {
             addBranch(rotated);
-          } else if (isBranch(mutable.move(treePos.direction).move(0, -1, 0))) {
+          } else if (isBranch(mutable.move(treeDirection).move(0, -1, 0))) {
             addBranch(rotated);
           } else if (isBranch(mutable.move(0, 1, 0))) {
             addBranch(rotated);
           }
-          return treePos.pos;
+          return current;
         }
       }
       return endOfData();
     }
   }
-
-  /** Helper class for queue contents */
-  private static class TreePos {
-    private final BlockPos.MutableBlockPos pos;
-    private final Direction direction;
-    /** If true, this position has been validated already for a log */
-    private boolean isChecked;
-
-    TreePos(BlockPos pos, boolean isChecked) {
-      // note this copies the mutable if already mutable
-      this.pos = pos.mutable();
-      this.direction = Direction.UP;
-      this.isChecked = isChecked;
-    }
-
-    TreePos(BlockPos pos, Direction direction) {
-      // note this copies the mutable if already mutable
-      this.pos = pos.mutable();
-      this.direction = direction;
-      this.isChecked = true;
-    }
-
-    /** Moves the tree position in the given direction */
-    public TreePos move() {
-      pos.move(direction);
-      isChecked = false;
-      return this;
-    }
-  }
 }
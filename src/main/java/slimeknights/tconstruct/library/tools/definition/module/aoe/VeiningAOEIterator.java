@@ -1,6 +1,10 @@
 package slimeknights.tconstruct.library.tools.definition.module.aoe;
 
 import com.google.common.collect.AbstractIterator;
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.item.context.UseOnContext;
@@ -12,17 +16,14 @@ import slimeknights.mantle.data.loadable.record.RecordLoadable;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 import slimeknights.tconstruct.tools.TinkerModifiers;
 
-import java.util.ArrayDeque;
-import java.util.HashSet;
-import java.util.Queue;
-import java.util.Set;
-
 /**
  * Harvest logic that breaks a block plus neighbors of the same type
  * @param maxDistance  Maximum distance from the starting block to vein, min of 0
  */
 public record VeiningAOEIterator(int maxDistance) implements AreaOfEffectIterator.Loadable {
   public static final RecordLoadable<VeiningAOEIterator> LOADER = RecordLoadable.create(IntLoadable.FROM_ZERO.defaultField("max_distance", 0, true, VeiningAOEIterator::maxDistance), VeiningAOEIterator::new);
+  /** Cached direction values, saves cloning the array for every block */
+  private static final Direction[] DIRECTIONS = Direction.values();
 
   @Override
   public RecordLoadable<VeiningAOEIterator> getLoader() {
@@ -50,35 +51,43 @@ public record VeiningAOEIterator(int maxDistance) implements AreaOfEffectIterato
 
   /** Iterator that navigates block and other similar blocks */
   private static class VeiningIterator extends AbstractIterator<BlockPos> {
-    private final Set<BlockPos> visited = new HashSet<>();
-    private final Queue<DistancePos> queue = new ArrayDeque<>();
+    /** Positions visited already, stored as {@link BlockPos#asLong()} to save allocating a position per neighbor */
+    private final LongSet visited = new LongOpenHashSet();
+    /** Queue of positions to check, stored as {@link BlockPos#asLong()} */
+    private final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+    /** Distance for each position in {@link #queue}, always enqueued and dequeued in parallel */
+    private final IntArrayFIFOQueue distances = new IntArrayFIFOQueue();
+    /** Position for returns, saves some object allocation */
+    private final BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
 
-    private final Level world;
+    private final AOEBlockAccess world;
     private final Block target;
     private final int maxDistance;
     private VeiningIterator(Level world, BlockPos origin, Block target, int maxDistance) {
-      this.world = world;
+      this.world = new AOEBlockAccess(world);
       this.target = target;
       this.maxDistance = maxDistance;
       // make use of origin
-      visited.add(origin);
+      long originPos = origin.asLong();
+      visited.add(originPos);
       if (maxDistance > 0) {
         // start off the queue with the position in each direction
-        enqueueNeighbors(origin, 1);
+        enqueueNeighbors(originPos, 1);
       }
     }
 
     /**
      * Enqueues all neighbors of this position
-     * @param pos       Position
+     * @param pos       Position as a long
      * @param distance  Distance for neighbors
      */
-    private void enqueueNeighbors(BlockPos pos, int distance) {
-      for (Direction direction : Direction.values()) {
-        BlockPos offset = pos.relative(direction);
-        if (!visited.contains(offset)) {
-          visited.add(offset); // mark position visited to prevent adding again before we get to it
-          queue.add(new DistancePos(offset, distance));
+    private void enqueueNeighbors(long pos, int distance) {
+      for (Direction direction : DIRECTIONS) {
+        long offset = BlockPos.offset(pos, direction);
+        // mark position visited to prevent adding again before we get to it
+        if (visited.add(offset)) {
+          queue.enqueue(offset);
+          distances.enqueue(distance);
         }
       }
     }
@@ -87,24 +96,20 @@ public record VeiningAOEIterator(int maxDistance) implements AreaOfEffectIterato
     protected BlockPos computeNext() {
       while (!queue.isEmpty()) {
         // grab the next queued position to check
-        DistancePos distancePos = queue.remove();
-        BlockPos pos = distancePos.pos;
+        long pos = queue.dequeueLong();
+        int distance = distances.dequeueInt();
         // must be a valid block
-        if (world.getBlockState(pos).is(target)) {
+        if (world.getBlockState(mutable.set(pos)).is(target)) {
           // if not at max distance yet, add blocks on all sides
-          int distance = distancePos.distance;
           if (distance < maxDistance) {
             enqueueNeighbors(pos, distance + 1);
           }
           // finally, return the position
-          return pos;
+          return mutable;
         }
       }
       // queue ran out of data
       return endOfData();
     }
   }
-
-  /** Helper data class */
-  private record DistancePos(BlockPos pos, int distance) {}
 }
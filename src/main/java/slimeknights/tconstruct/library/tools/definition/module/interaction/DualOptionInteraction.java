@@ -25,7 +25,7 @@ public enum DualOptionInteraction implements InteractionToolModule, ToolModule {
   /** Loader instance */
   public static final SingletonLoader<DualOptionInteraction> LOADER = new SingletonLoader<>(INSTANCE);
   /** Key for persistent data set of modifiers */
-  public static final ResourceLocation KEY = TConstruct.getResource("attack_modifiers");
+  public static final ResourceLocation KEY = TConstruct.getDataKey("attack_modifiers");
   /** Key for denoting this feature in the tooltip */
   private static final String MODIFIER_FORMAT = TConstruct.makeTranslationKey("modifier", "attack_toggled");
 
@@ -0,0 +1,193 @@
+package slimeknights.tconstruct.library.tools.helper;
+
+import cpw.mods.modlauncher.api.INameMappingService;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortArraySet;
+import it.unimi.dsi.fastutil.shorts.ShortSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.network.protocol.game.ClientboundBlockUpdatePacket;
+import net.minecraft.network.protocol.game.ClientboundSectionBlocksUpdatePacket;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.stats.Stats;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.ExperienceOrb;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.GameRules;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.LevelEvent;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.phys.Vec3;
+import net.minecraftforge.fml.util.ObfuscationReflectionHelper;
+import slimeknights.tconstruct.common.config.Config;
+import slimeknights.tconstruct.common.network.TinkerNetwork;
+import slimeknights.tconstruct.library.tools.context.ToolHarvestContext;
+import slimeknights.tconstruct.library.tools.nbt.ToolStack;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Batch of extra blocks broken by a single harvest, used by {@link ToolHarvestLogic} for area of effect breaking.
+ * Break events are fired for every block before any are removed, then all blocks are removed in a single pass.
+ * Side effects of the removal are collected and applied once at the end: drops are merged at the targeted block if enabled by {@link DropAggregator},
+ * experience is awarded as a single amount, client block updates are sent once per chunk section, and break particles are limited.
+ */
+public class BlockHarvestBatch {
+  /** Runtime name of {@link Block#playerDestroy(Level, Player, BlockPos, BlockState, BlockEntity, ItemStack)} */
+  private static final String PLAYER_DESTROY = ObfuscationReflectionHelper.remapName(INameMappingService.Domain.METHOD, "m_6240_");
+  /** True if the block class uses the default {@link Block#playerDestroy(Level, Player, BlockPos, BlockState, BlockEntity, ItemStack)}, meaning its drops come from {@link Block#getDrops(BlockState, ServerLevel, BlockPos, BlockEntity, Entity, ItemStack)} */
+  private static final ClassValue<Boolean> DEFAULT_DESTROY = new ClassValue<>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      for (Class<?> clazz = type; clazz != Block.class && clazz != null; clazz = clazz.getSuperclass()) {
+        try {
+          clazz.getDeclaredMethod(PLAYER_DESTROY, Level.class, Player.class, BlockPos.class, BlockState.class, BlockEntity.class, ItemStack.class);
+          return false;
+        } catch (NoSuchMethodException e) {
+          // not overridden here, check the parent
+        }
+      }
+      return true;
+    }
+  };
+
+  /** Harvest context of the originally targeted block */
+  private final ToolHarvestContext context;
+  /** Blocks that passed the break event and are waiting to be removed */
+  private final List<Pending> pending = new ArrayList<>();
+  /** Merged drops from all removed blocks, null if drop consolidation is disabled */
+  @Nullable
+  private final DropAggregator drops = DropAggregator.isEnabled() ? new DropAggregator() : null;
+  /** Positions sent to the client, as section relative positions keyed by section */
+  private final Long2ObjectMap<ShortSet> changedSections = new Long2ObjectOpenHashMap<>();
+  /** Total experience dropped by all removed blocks */
+  private int experience = 0;
+
+  /**
+   * Creates a new batch
+   * @param context  Context of the originally targeted block, must have a player
+   */
+  public BlockHarvestBatch(ToolHarvestContext context) {
+    this.context = context;
+  }
+
+  /** Checks if the batch has any blocks to remove */
+  public boolean isEmpty() {
+    return pending.isEmpty();
+  }
+
+  /**
+   * Fires the break event for the given block, queuing it for removal if the event passes
+   * @param context  Harvest context for the block
+   */
+  public void add(ToolHarvestContext context) {
+    int exp = ToolHarvestLogic.fireBreakEvent(context);
+    if (exp != -1) {
+      pending.add(new Pending(context, exp));
+    }
+  }
+
+  /**
+   * Removes all queued blocks from the world, then applies all collected side effects
+   * @param tool   Tool breaking the blocks
+   * @param stack  Stack instance for vanilla functions
+   * @return  Number of blocks harvested
+   */
+  public int harvest(ToolStack tool, ItemStack stack) {
+    ServerLevel world = context.getWorld();
+    int harvested = 0;
+    int maxParticles = Config.COMMON.harvestBatchParticles.get();
+    try {
+      for (Pending block : pending) {
+        ToolHarvestContext blockContext = block.context;
+        BlockPos pos = blockContext.getPos();
+        // an earlier removal may have changed this block, such as a plant popping off, in which case the event we fired no longer applies
+        if (world.getBlockState(pos) != blockContext.getState()) {
+          continue;
+        }
+        ToolHarvestLogic.harvestBlock(tool, stack, blockContext, block.experience, this);
+        // need to send the event to tell the client a block was broken, as the client only breaks the center block
+        // particles and sound are limited per batch, as hundreds of them at once just lag the client
+        if (harvested < maxParticles) {
+          world.levelEvent(LevelEvent.PARTICLES_DESTROY_BLOCK, pos, Block.getId(blockContext.getState()));
+        }
+        changedSections.computeIfAbsent(SectionPos.blockToSection(pos.asLong()), key -> new ShortArraySet()).add(SectionPos.sectionRelativePos(pos));
+        harvested++;
+      }
+    } finally {
+      pending.clear();
+    }
+    spawnDrops(world);
+    sendBlockUpdates(world);
+    return harvested;
+  }
+
+  /**
+   * Drops the block's resources into the merged drops, in place of {@link Block#playerDestroy(Level, Player, BlockPos, BlockState, BlockEntity, ItemStack)}.
+   * Blocks overriding that method may do more than drop resources, so they are left to spawn their own drops.
+   * @return  True if the drops were collected, false if the block should be destroyed normally
+   */
+  boolean collectDrops(ServerPlayer player, ServerLevel world, BlockPos pos, BlockState state, @Nullable BlockEntity te, ItemStack stack) {
+    Block block = state.getBlock();
+    if (drops == null || !DEFAULT_DESTROY.get(block.getClass())) {
+      return false;
+    }
+    // matches Block#playerDestroy and Block#dropResources
+    player.awardStat(Stats.BLOCK_MINED.get(block));
+    player.causeFoodExhaustion(0.005F);
+    for (ItemStack drop : Block.getDrops(state, world, pos, te, player, stack)) {
+      drops.add(drop);
+    }
+    state.spawnAfterBreak(world, pos, stack, true);
+    return true;
+  }
+
+  /** Awards experience from a removed block */
+  void addExperience(int amount) {
+    experience += amount;
+  }
+
+  /** Spawns all merged drops and experience */
+  private void spawnDrops(ServerLevel world) {
+    if (drops != null) {
+      drops.spawn(world, context.getPos());
+    }
+    if (experience > 0 && world.getGameRules().getBoolean(GameRules.RULE_DOBLOCKDROPS)) {
+      ExperienceOrb.award(world, Vec3.atCenterOf(context.getPos()), experience);
+    }
+    experience = 0;
+  }
+
+  /** Sends updates for all removed blocks to the breaking player, one packet per chunk section */
+  private void sendBlockUpdates(ServerLevel world) {
+    ServerPlayer player = context.getPlayer();
+    if (player == null) {
+      return;
+    }
+    TinkerNetwork network = TinkerNetwork.getInstance();
+    for (Long2ObjectMap.Entry<ShortSet> entry : changedSections.long2ObjectEntrySet()) {
+      SectionPos sectionPos = SectionPos.of(entry.getLongKey());
+      ShortSet positions = entry.getValue();
+      if (positions.size() == 1) {
+        network.sendVanillaPacket(player, new ClientboundBlockUpdatePacket(world, sectionPos.relativeToBlockPos(positions.iterator().nextShort())));
+      } else {
+        LevelChunk chunk = world.getChunk(sectionPos.x(), sectionPos.z());
+        LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(sectionPos.y()));
+        network.sendVanillaPacket(player, new ClientboundSectionBlocksUpdatePacket(sectionPos, positions, section));
+      }
+    }
+    changedSections.clear();
+  }
+
+  /** Block that passed the break event */
+  private record Pending(ToolHarvestContext context, int experience) {}
+}
@@ -0,0 +1,95 @@
+package slimeknights.tconstruct.library.tools.helper;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import slimeknights.tconstruct.common.config.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Merges identical drops from a single harvest into as few stacks as possible, so fewer item entities are spawned.
+ * Used for area of effect harvesting in {@link BlockHarvestBatch} and for loot processed by tool modifiers.
+ */
+public class DropAggregator {
+  /** Number of item entities avoided by merging since startup, only updated on the server thread so a plain long is sufficient */
+  private static long avoided = 0;
+
+  /** Merged stacks, in the order they were first added */
+  private final List<ItemStack> stacks = new ArrayList<>();
+  /** Number of non-empty stacks added since the last spawn */
+  private int added = 0;
+
+  /** Checks if drop consolidation is enabled in the config */
+  public static boolean isEnabled() {
+    return Config.COMMON.consolidateDrops.get();
+  }
+
+  /** Gets the number of item entities avoided by merging drops since startup */
+  public static long getAvoidedEntities() {
+    return avoided;
+  }
+
+  /**
+   * Adds a stack to the aggregator, merging it into existing stacks where possible
+   * @param stack  Stack to add, will not be modified
+   */
+  public void add(ItemStack stack) {
+    if (stack.isEmpty()) {
+      return;
+    }
+    added++;
+    stack = stack.copy();
+    for (ItemStack existing : stacks) {
+      int space = existing.getMaxStackSize() - existing.getCount();
+      if (space > 0 && ItemStack.isSameItemSameTags(existing, stack)) {
+        int moved = Math.min(space, stack.getCount());
+        existing.grow(moved);
+        stack.shrink(moved);
+        if (stack.isEmpty()) {
+          return;
+        }
+      }
+    }
+    stacks.add(stack);
+  }
+
+  /** Checks if no stacks were added */
+  public boolean isEmpty() {
+    return stacks.isEmpty();
+  }
+
+  /**
+   * Spawns all merged stacks at the given position
+   * @param level  Level to spawn drops
+   * @param pos    Position to spawn drops
+   */
+  public void spawn(Level level, BlockPos pos) {
+    for (ItemStack stack : stacks) {
+      Block.popResource(level, pos, stack);
+    }
+    avoided += added - stacks.size();
+    added = 0;
+    stacks.clear();
+  }
+
+  /**
+   * Merges identical stacks in the given list in place
+   * @param drops  Drop list to merge
+   */
+  public static void merge(List<ItemStack> drops) {
+    if (drops.size() > 1) {
+      DropAggregator aggregator = new DropAggregator();
+      for (ItemStack stack : drops) {
+        aggregator.add(stack);
+      }
+      if (aggregator.stacks.size() < drops.size()) {
+        avoided += drops.size() - aggregator.stacks.size();
+        drops.clear();
+        drops.addAll(aggregator.stacks);
+      }
+    }
+  }
+}
@@ -99,7 +99,7 @@ public class ToolAttackUtil {
         listBuilder.add(modifier);
       }
     };
-    for (ModifierEntry entry : tool.getModifierList()) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHooks.ATTRIBUTES)) {
       entry.getHook(ModifierHooks.ATTRIBUTES).addAttributes(tool, entry, EquipmentSlot.MAINHAND, attributeConsumer);
     }
     Multimap<Attribute,AttributeModifier> offhandModifiers = new SingleKeyMultimap<>(Attributes.ATTACK_DAMAGE, listBuilder.build());
@@ -203,8 +203,7 @@ public class ToolAttackUtil {
     // calculate actual damage
     // boost damage from traits
     float baseDamage = damage;
-    List<ModifierEntry> modifiers = tool.getModifierList();
-    for (ModifierEntry entry : modifiers) {
+    for (ModifierEntry entry : tool.getModifierList(ModifierHooks.MELEE_DAMAGE)) {
       damage = entry.getHook(ModifierHooks.MELEE_DAMAGE).getMeleeDamage(tool, entry, context, baseDamage, damage);
     }
 
@@ -269,6 +268,7 @@ public class ToolAttackUtil {
 
     // apply modifier knockback and special effects
     float baseKnockback = knockback;
+    List<ModifierEntry> modifiers = tool.getModifierList(ModifierHooks.MELEE_HIT);
     for (ModifierEntry entry : modifiers) {
       knockback = entry.getHook(ModifierHooks.MELEE_HIT).beforeMeleeHit(tool, entry, context, damage, baseKnockback, knockback);
     }
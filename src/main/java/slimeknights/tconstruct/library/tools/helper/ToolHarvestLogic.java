@@ -3,7 +3,6 @@ package slimeknights.tconstruct.library.tools.helper;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.ListTag;
-import net.minecraft.network.protocol.game.ClientboundBlockUpdatePacket;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.tags.BlockTags;
@@ -15,13 +14,11 @@ import net.minecraft.world.item.context.UseOnContext;
 import net.minecraft.world.level.GameType;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
-import net.minecraft.world.level.block.LevelEvent;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraftforge.common.ForgeHooks;
 import net.minecraftforge.common.ToolActions;
 import slimeknights.tconstruct.common.TinkerTags;
-import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.modifiers.ModifierHooks;
 import slimeknights.tconstruct.library.modifiers.hook.mining.HarvestEnchantmentsModifierHook;
@@ -34,6 +31,7 @@ import slimeknights.tconstruct.library.tools.nbt.ToolStack;
 import slimeknights.tconstruct.library.utils.BlockSideHitListener;
 import slimeknights.tconstruct.library.utils.Util;
 
+import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.Objects;
 
@@ -68,7 +66,7 @@ public class ToolHarvestLogic {
   private static boolean removeBlock(IToolStackView tool, ToolHarvestContext context) {
     Boolean removed = null;
     if (!tool.isBroken()) {
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHooks.REMOVE_BLOCK)) {
         removed = entry.getHook(ModifierHooks.REMOVE_BLOCK).removeBlock(tool, entry, context);
         if (removed != null) {
           break;
@@ -90,13 +88,11 @@ public class ToolHarvestLogic {
   }
 
   /**
-   * Called to break a block using this tool
-   * @param tool      Tool instance
-   * @param stack     Stack instance for vanilla functions
-   * @param context   Harvest context
-   * @return  True if broken
+   * Fires the forge break event for the given block
+   * @param context  Harvest context, must have a player
+   * @return  Experience to drop from the block, or -1 if the block may not be broken
    */
-  protected static boolean breakBlock(ToolStack tool, ItemStack stack, ToolHarvestContext context) {
+  static int fireBreakEvent(ToolHarvestContext context) {
     // have to rerun the event to get the EXP, also ensures extra blocks broken get EXP properly
     ServerPlayer player = Objects.requireNonNull(context.getPlayer());
     ServerLevel world = context.getWorld();
@@ -104,21 +100,51 @@ public class ToolHarvestLogic {
     GameType type = player.gameMode.getGameModeForPlayer();
     int exp = ForgeHooks.onBlockBreakEvent(world, type, player, pos);
     if (exp == -1) {
-      return false;
+      return -1;
     }
     // checked after the Forge hook, so we have to recheck
     // TODO: is this needed? Seems its called inside ForgeHooks.onBlockBreakEvent
     if (player.blockActionRestricted(world, pos, type)) {
+      return -1;
+    }
+    return exp;
+  }
+
+  /**
+   * Called to break a block using this tool
+   * @param tool      Tool instance
+   * @param stack     Stack instance for vanilla functions
+   * @param context   Harvest context
+   * @return  True if broken
+   */
+  protected static boolean breakBlock(ToolStack tool, ItemStack stack, ToolHarvestContext context) {
+    int exp = fireBreakEvent(context);
+    if (exp == -1) {
       return false;
     }
+    harvestBlock(tool, stack, context, exp, null);
+    return true;
+  }
 
+  /**
+   * Removes a block that passed the break event, handling drops, experience, and modifiers
+   * @param tool     Tool instance
+   * @param stack    Stack instance for vanilla functions
+   * @param context  Harvest context
+   * @param exp      Experience from the break event
+   * @param batch    Batch collecting the drops and experience, if null they are dropped directly
+   */
+  static void harvestBlock(ToolStack tool, ItemStack stack, ToolHarvestContext context, int exp, @Nullable BlockHarvestBatch batch) {
     // creative just removes the block
+    ServerPlayer player = Objects.requireNonNull(context.getPlayer());
     if (player.isCreative()) {
       removeBlock(tool, context);
-      return true;
+      return;
     }
 
     // determine damage to do
+    ServerLevel world = context.getWorld();
+    BlockPos pos = context.getPos();
     BlockState state = context.getState();
     int damage = getDamage(tool, world, pos, state);
 
@@ -129,25 +155,27 @@ public class ToolHarvestLogic {
 
     // harvest drops
     Block block = state.getBlock();
-    if (removed && canHarvest) {
+    if (removed && canHarvest && (batch == null || !batch.collectDrops(player, world, pos, state, te, stack))) {
       block.playerDestroy(world, player, pos, state, te, stack);
     }
 
     // drop XP
     if (removed && exp > 0) {
-      block.popExperience(world, pos, exp);
+      if (batch != null) {
+        batch.addExperience(exp);
+      } else {
+        block.popExperience(world, pos, exp);
+      }
     }
 
     // handle modifiers if not broken
     // broken means we are using "empty hand"
     if (!tool.isBroken() && removed) {
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHooks.BLOCK_BREAK)) {
         entry.getHook(ModifierHooks.BLOCK_BREAK).afterBlockBreak(tool, entry, context);
       }
       ToolDamageUtil.damageAnimated(tool, damage, player);
     }
-
-    return true;
   }
 
   /**
@@ -155,21 +183,14 @@ public class ToolHarvestLogic {
    * @param tool      Tool instance
    * @param stack     Stack instance for vanilla functions
    * @param context   Tool harvest context
+   * @return  True if broken
+   * @see BlockHarvestBatch for breaking several blocks at once
    */
   public static boolean breakExtraBlock(ToolStack tool, ItemStack stack, ToolHarvestContext context) {
-    // break the actual block
-    if (breakBlock(tool, stack, context)) {
-      Level world = context.getWorld();
-      BlockPos pos = context.getPos();
-      // need to send the event to tell the client a block was broken
-      // normally this is sent within one of the block breaking hooks that is called on both sides, suppressing the packet being sent to the breaking player
-      // we only break the center block client side, so need to send the event directly
-      // TODO: in theory, we can use this to reduce the number of sounds playing on breaking a lot of blocks, would require sending a custom packet if we want the particles still
-      world.levelEvent(LevelEvent.PARTICLES_DESTROY_BLOCK, pos, Block.getId(context.getState()));
-      TinkerNetwork.getInstance().sendVanillaPacket(Objects.requireNonNull(context.getPlayer()), new ClientboundBlockUpdatePacket(world, pos));
-      return true;
-    }
-    return false;
+    // a batch of one still sends the particles and block update the client needs, as the client only breaks the center block
+    BlockHarvestBatch batch = new BlockHarvestBatch(context);
+    batch.add(context);
+    return !batch.isEmpty() && batch.harvest(tool, stack) > 0;
   }
 
   /**
@@ -226,7 +247,7 @@ public class ToolHarvestLogic {
                                                           !player.isCreative() && state.canHarvestBlock(world, pos, player),
                                                           IsEffectiveToolHook.isEffective(tool, state));
       // tell modifiers we are about to harvest, lets them add for instance modifiers conditioned on harvesting
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHooks.BLOCK_HARVEST)) {
         entry.getHook(ModifierHooks.BLOCK_HARVEST).startHarvest(tool, entry, context);
       }
       // let armor change enchantments
@@ -242,24 +263,27 @@ public class ToolHarvestLogic {
         harvested += 1;
       }
       if (harvested > 0) {
+        // fire events for all extra blocks first, then remove them together so drops and client updates are sent once
+        BlockHarvestBatch batch = new BlockHarvestBatch(context);
         for (BlockPos extraPos : extraBlocks) {
           BlockState extraState = world.getBlockState(extraPos);
           // prevent calling that stuff for air blocks, could lead to unexpected behaviour since it fires events
           // this should never actually happen, but just in case some AOE is odd
           if (!extraState.isAir()) {
             // prevent mutable position leak, breakBlock has a few places wanting immutable
-            if (breakExtraBlock(tool, stack, context.forPosition(extraPos.immutable(), extraState))) {
-              harvested += 1;
-            }
+            batch.add(context.forPosition(extraPos.immutable(), extraState));
           }
         }
+        if (!batch.isEmpty()) {
+          harvested += batch.harvest(tool, stack);
+        }
       }
       // restore the enchantments harvest changed
       if (originalEnchantments != null) {
         HarvestEnchantmentsModifierHook.restoreEnchantments(stack, originalEnchantments);
       }
       // alert modifiers we finished harvesting
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHooks.BLOCK_HARVEST)) {
         entry.getHook(ModifierHooks.BLOCK_HARVEST).finishHarvest(tool, entry, context, harvested);
       }
     }
@@ -278,7 +302,7 @@ public class ToolHarvestLogic {
       // must not be broken, and the tool definition must be effective
       boolean isEffective = IsEffectiveToolHook.isEffective(tool, state);
       ToolHarvestContext context = new ToolHarvestContext((ServerLevel) worldIn, entityLiving, state, pos, Direction.UP, true, isEffective);
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHooks.BLOCK_BREAK)) {
         entry.getHook(ModifierHooks.BLOCK_BREAK).afterBlockBreak(tool, entry, context);
       }
       ToolDamageUtil.damageAnimated(tool, ToolHarvestLogic.getDamage(tool, worldIn, pos, state), entityLiving);
@@ -10,15 +10,15 @@ import slimeknights.tconstruct.library.tools.nbt.ModDataNBT;
 /** Base interface for all tools that can receive modifiers */
 public interface IModifiable extends ItemLike {
   /** Modifier key to make a tool spawn an indestructable entity */
-  ResourceLocation INDESTRUCTIBLE_ENTITY = TConstruct.getResource("indestructible");
+  ResourceLocation INDESTRUCTIBLE_ENTITY = TConstruct.getDataKey("indestructible");
   /** Modifier key to make a tool spawn an indestructable entity */
-  ResourceLocation SHINY = TConstruct.getResource("shiny");
+  ResourceLocation SHINY = TConstruct.getDataKey("shiny");
   /** Modifier key to make a tool spawn an indestructable entity */
-  ResourceLocation RARITY = TConstruct.getResource("rarity");
+  ResourceLocation RARITY = TConstruct.getDataKey("rarity");
   /** Modifier key to defer tool interaction to the offhand if present */
-  ResourceLocation DEFER_OFFHAND = TConstruct.getResource("defer_offhand");
+  ResourceLocation DEFER_OFFHAND = TConstruct.getDataKey("defer_offhand");
   /** Modifier key to entirely disable tool interaction */
-  ResourceLocation NO_INTERACTION = TConstruct.getResource("no_interaction");
+  ResourceLocation NO_INTERACTION = TConstruct.getDataKey("no_interaction");
 
   /** Gets the definition of this tool for building and applying modifiers */
   ToolDefinition getToolDefinition();
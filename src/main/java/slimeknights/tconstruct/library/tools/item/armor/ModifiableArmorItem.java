@@ -63,11 +63,11 @@ import java.util.function.Consumer;
 
 public class ModifiableArmorItem extends ArmorItem implements IModifiableDisplay {
   /** Volatile modifier tag to make piglins neutal when worn */
-  public static final ResourceLocation PIGLIN_NEUTRAL = TConstruct.getResource("piglin_neutral");
+  public static final ResourceLocation PIGLIN_NEUTRAL = TConstruct.getDataKey("piglin_neutral");
   /** Volatile modifier tag to make this item an elytra */
-  public static final ResourceLocation ELYTRA = TConstruct.getResource("elyta");
+  public static final ResourceLocation ELYTRA = TConstruct.getDataKey("elyta");
   /** Volatile flag for a boot item to walk on powdered snow. Cold immunity is handled through a tag */
-  public static final ResourceLocation SNOW_BOOTS = TConstruct.getResource("snow_boots");
+  public static final ResourceLocation SNOW_BOOTS = TConstruct.getDataKey("snow_boots");
 
   @Getter
   private final ToolDefinition toolDefinition;
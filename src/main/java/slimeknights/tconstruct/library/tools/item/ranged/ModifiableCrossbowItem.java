@@ -61,7 +61,7 @@ import static slimeknights.tconstruct.library.modifiers.hook.interaction.General
 
 public class ModifiableCrossbowItem extends ModifiableLauncherItem {
   /** Key containing the stored crossbow ammo */
-  public static final ResourceLocation KEY_CROSSBOW_AMMO = TConstruct.getResource("crossbow_ammo");
+  public static final ResourceLocation KEY_CROSSBOW_AMMO = TConstruct.getDataKey("crossbow_ammo");
   private static final String PROJECTILE_KEY = "item.minecraft.crossbow.projectile";
   @Getter
   private final Predicate<ItemStack> supportedHeldProjectiles;
@@ -70,6 +70,16 @@ public interface IToolContext {
     return getModifiers().getModifiers();
   }
 
+  /**
+   * Helper to get a list of all modifiers on the tool implementing the given hook, sorted by priority.
+   * Prefer this over {@link #getModifierList()} when dispatching a hook, as it skips modifiers using the default hook.
+   * @param hook  Hook to dispatch
+   * @return  List of modifiers implementing the hook
+   */
+  default List<ModifierEntry> getModifierList(ModuleHook<?> hook) {
+    return getModifiers().getModifiers(hook);
+  }
+
   /**
    * Gets the modifier entry for the given modifier ID
    * @param modifier  Modifier
@@ -3,7 +3,6 @@ package slimeknights.tconstruct.library.tools.nbt;
 import com.google.common.collect.ImmutableList;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.tags.TagKey;
@@ -12,24 +11,26 @@ import slimeknights.tconstruct.library.modifiers.Modifier;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.modifiers.ModifierId;
 import slimeknights.tconstruct.library.modifiers.ModifierManager;
+import slimeknights.tconstruct.library.module.ModuleHook;
 import slimeknights.tconstruct.library.tools.helper.ModifierBuilder;
 
 import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
  * NBT object containing all current modifiers
  */
-@EqualsAndHashCode
-@RequiredArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class ModifierNBT implements Iterable<ModifierEntry> {
 
   /** Instance containing no modifiers */
@@ -37,7 +38,29 @@ public class ModifierNBT implements Iterable<ModifierEntry> {
 
   /** Sorted list of modifiers */
   @Getter
+  @EqualsAndHashCode.Include
   private final List<ModifierEntry> modifiers;
+  /** Index of modifier ID to entry, to avoid scanning the list on every level lookup. Derived from {@link #modifiers} */
+  private final Map<ModifierId, ModifierEntry> index;
+  /** Cache of hook to the entries implementing that hook, filled as hooks are requested. Derived from {@link #modifiers} */
+  private final Map<ModuleHook<?>,List<ModifierEntry>> hookEntries = new ConcurrentHashMap<>();
+
+  public ModifierNBT(List<ModifierEntry> modifiers) {
+    this.modifiers = modifiers;
+    this.index = buildIndex(modifiers);
+  }
+
+  /** Builds the lookup index for the given list. First entry for an ID wins, matching the order used by iteration */
+  private static Map<ModifierId, ModifierEntry> buildIndex(List<ModifierEntry> modifiers) {
+    if (modifiers.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    Map<ModifierId, ModifierEntry> index = new HashMap<>(modifiers.size() * 2);
+    for (ModifierEntry entry : modifiers) {
+      index.putIfAbsent(entry.getId(), entry);
+    }
+    return index;
+  }
 
   /**
    * Checks if the NBT has no modifiers
@@ -53,12 +76,7 @@ public class ModifierNBT implements Iterable<ModifierEntry> {
    * @return  Modifier entry, or {@link ModifierEntry#EMPTY} if absent
    */
   public ModifierEntry getEntry(ModifierId modifier) {
-    for (ModifierEntry entry : modifiers) {
-      if (entry.matches(modifier)) {
-        return entry;
-      }
-    }
-    return ModifierEntry.EMPTY;
+    return index.getOrDefault(modifier, ModifierEntry.EMPTY);
   }
 
   /**
@@ -70,6 +88,30 @@ public class ModifierNBT implements Iterable<ModifierEntry> {
     return getEntry(modifier).getLevel();
   }
 
+  /**
+   * Gets all modifiers in this list that implement the given hook, in the same order as {@link #getModifiers()}.
+   * Used to skip modifiers that would just run the default no-op hook, list is computed once per hook.
+   * @param hook  Hook to check
+   * @return  List of entries implementing the hook
+   */
+  public List<ModifierEntry> getModifiers(ModuleHook<?> hook) {
+    if (modifiers.isEmpty()) {
+      return modifiers;
+    }
+    List<ModifierEntry> entries = hookEntries.get(hook);
+    if (entries == null) {
+      ImmutableList.Builder<ModifierEntry> builder = ImmutableList.builder();
+      for (ModifierEntry entry : modifiers) {
+        if (entry.getModifier().hasHook(hook)) {
+          builder.add(entry);
+        }
+      }
+      entries = builder.build();
+      hookEntries.put(hook, entries);
+    }
+    return entries;
+  }
+
   /**
    * Checks if the listing has the given modifier tag.
    * To check if it has a specific modifier, use {@link #getLevel(ModifierId)}.
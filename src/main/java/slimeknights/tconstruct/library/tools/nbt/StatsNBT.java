@@ -4,10 +4,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
-import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
-import lombok.ToString;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.FriendlyByteBuf;
@@ -26,32 +23,103 @@ import java.util.Map.Entry;
 import java.util.Set;
 
 /**
- * Generic container for tool stats, allows addons to select which stats they wish to use
+ * Generic container for tool stats, allows addons to select which stats they wish to use.
+ * Stats read from NBT by {@link ToolStack} are decoded lazily one stat at a time, as most uses only look at one or two stats.
  */
-@SuppressWarnings("ClassCanBeRecord")
-@AllArgsConstructor(access = AccessLevel.PACKAGE)
-@EqualsAndHashCode
-@ToString
 public class StatsNBT {
   /** Set of all tool stat IDs that failed to parse, to reduce log spam as they get parsed many times in UIs when dumb mods don't call proper methods */
   static final Set<String> ERRORED_IDS = new HashSet<>();
   /** Empty stats */
   public static final StatsNBT EMPTY = new StatsNBT(ImmutableMap.of());
+  /** Marker for a stat that was decoded but is not present in the NBT */
+  private static final Object MISSING = new Object();
 
-  /** All currently contained stats */
-  private final Map<IToolStat<?>, Object> stats;
+  /** All currently contained stats, null if not yet decoded from {@link #nbt} */
+  @Nullable
+  private volatile Map<IToolStat<?>, Object> stats;
+  /** NBT to decode stats from, null if this was not read from NBT */
+  @Nullable
+  private final CompoundTag nbt;
+  /** Stats decoded from {@link #nbt} so far, indexed by {@link ToolStats#getOrdinal(IToolStat)}. Null means not yet decoded. */
+  @Nullable
+  private final Object[] decoded;
+
+  StatsNBT(Map<IToolStat<?>, Object> stats) {
+    this.stats = stats;
+    this.nbt = null;
+    this.decoded = null;
+  }
+
+  /** Creates stats lazily decoding the given NBT, which must not be modified afterwards */
+  private StatsNBT(CompoundTag nbt) {
+    this.stats = null;
+    this.nbt = nbt;
+    this.decoded = new Object[ToolStats.getStatCount()];
+  }
 
   /** Creates a new stats builder */
   public static Builder builder() {
     return new Builder();
   }
 
+  /** Gets the map of all stats, decoding any remaining stats from NBT */
+  private Map<IToolStat<?>, Object> getStats() {
+    Map<IToolStat<?>, Object> stats = this.stats;
+    if (stats == null) {
+      assert nbt != null;
+      ImmutableMap.Builder<IToolStat<?>, Object> builder = ImmutableMap.builder();
+      // simply try each key as a tool stat
+      for (String key : nbt.getAllKeys()) {
+        IToolStat<?> stat = readStatIdFromNBT(key);
+        if (stat != null) {
+          Object value = getValue(stat);
+          if (value != null) {
+            builder.put(stat, value);
+          }
+        }
+      }
+      stats = builder.build();
+      this.stats = stats;
+    }
+    return stats;
+  }
+
+  /**
+   * Gets the value of the given stat, decoding it from NBT if needed
+   * @param stat  Stat to fetch
+   * @return  Value, or null if the stat is missing
+   */
+  @Nullable
+  private Object getValue(IToolStat<?> stat) {
+    Map<IToolStat<?>, Object> stats = this.stats;
+    if (stats != null) {
+      return stats.get(stat);
+    }
+    assert nbt != null && decoded != null;
+    // stats registered after we were created have no slot, just decode them each time
+    int ordinal = ToolStats.getOrdinal(stat);
+    Object value = ordinal >= 0 && ordinal < decoded.length ? decoded[ordinal] : null;
+    if (value == null) {
+      Tag tag = nbt.get(stat.getName().toString());
+      if (tag != null) {
+        value = stat.read(tag);
+      }
+      if (value == null) {
+        value = MISSING;
+      }
+      if (ordinal >= 0 && ordinal < decoded.length) {
+        decoded[ordinal] = value;
+      }
+    }
+    return value == MISSING ? null : value;
+  }
+
   /**
    * Gets a set of all stats contained
    * @return  Stat type set
    */
   public Set<IToolStat<?>> getContainedStats() {
-    return stats.keySet();
+    return getStats().keySet();
   }
 
   /**
@@ -60,7 +128,7 @@ public class StatsNBT {
    * @return  True if the stat is contained
    */
   public boolean hasStat(IToolStat<?> stat) {
-    return stats.containsKey(stat);
+    return getValue(stat) != null;
   }
 
   /**
@@ -70,7 +138,11 @@ public class StatsNBT {
    */
   @SuppressWarnings("unchecked")
   public <T> T get(IToolStat<T> stat) {
-    return (T)stats.getOrDefault(stat, stat.getDefaultValue());
+    Object value = getValue(stat);
+    if (value == null) {
+      return stat.getDefaultValue();
+    }
+    return (T)value;
   }
 
   /**
@@ -82,6 +154,24 @@ public class StatsNBT {
     return get(stat).intValue();
   }
 
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    return other instanceof StatsNBT stats && getStats().equals(stats.getStats());
+  }
+
+  @Override
+  public int hashCode() {
+    return getStats().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return "StatsNBT(stats=" + getStats() + ")";
+  }
+
 
   /* NBT parsing */
 
@@ -104,27 +194,21 @@ public class StatsNBT {
 
   /** Reads the stat from NBT */
   public static StatsNBT readFromNBT(@Nullable Tag inbt) {
-    if (inbt == null || inbt.getId() != Tag.TAG_COMPOUND) {
-      return EMPTY;
-    }
-
-    ImmutableMap.Builder<IToolStat<?>, Object> builder = ImmutableMap.builder();
+    StatsNBT stats = readLazy(inbt);
+    return stats == EMPTY ? EMPTY : new StatsNBT(stats.getStats());
+  }
 
-    // simply try each key as a tool stat
-    CompoundTag nbt = (CompoundTag)inbt;
-    for (String key : nbt.getAllKeys()) {
-      Tag tag = nbt.get(key);
-      if (tag != null) {
-        IToolStat<?> stat = readStatIdFromNBT(key);
-        if (stat != null) {
-          Object value = stat.read(tag);
-          if (value != null) {
-            builder.put(stat, value);
-          }
-        }
-      }
+  /**
+   * Reads the stat from NBT, stats are decoded when first requested.
+   * The returned stats keep a reference to the tag, so it must not be modified afterwards; tool stacks replace their stats tag on rebuild rather than editing it.
+   * @param inbt  Stats tag
+   * @return  Stats from the tag
+   */
+  static StatsNBT readLazy(@Nullable Tag inbt) {
+    if (inbt == null || inbt.getId() != Tag.TAG_COMPOUND || ((CompoundTag)inbt).isEmpty()) {
+      return EMPTY;
     }
-    return new StatsNBT(builder.build());
+    return new StatsNBT((CompoundTag)inbt);
   }
 
   /** Serializes a stat to NBT, method done to help with generics */
@@ -137,7 +221,7 @@ public class StatsNBT {
   /** Writes these stats to NBT */
   public CompoundTag serializeToNBT() {
     CompoundTag nbt = new CompoundTag();
-    for (Entry<IToolStat<?>,Object> entry : stats.entrySet()) {
+    for (Entry<IToolStat<?>,Object> entry : getStats().entrySet()) {
       IToolStat<?> stat = entry.getKey();
       Tag serialized = serialize(stat, entry.getValue());
       if (serialized != null) {
@@ -158,6 +242,7 @@ public class StatsNBT {
 
   /** Writes this to a packet buffer */
   public void toNetwork(FriendlyByteBuf buffer) {
+    Map<IToolStat<?>,Object> stats = getStats();
     buffer.writeVarInt(stats.size());
     for (Entry<IToolStat<?>,Object> entry : stats.entrySet()) {
       IToolStat<?> stat = entry.getKey();
@@ -222,7 +307,7 @@ public class StatsNBT {
 
     @Override
     public void serialize(StatsNBT stats, JsonObject json) {
-      for (Entry<IToolStat<?>,Object> entry : stats.stats.entrySet()) {
+      for (Entry<IToolStat<?>,Object> entry : stats.getStats().entrySet()) {
         IToolStat<?> stat = entry.getKey();
         json.add(stat.getName().toString(), serialize(stat, entry.getValue()));
       }
@@ -0,0 +1,173 @@
+package slimeknights.tconstruct.library.tools.nbt;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import slimeknights.tconstruct.library.events.MaterialsLoadedEvent;
+import slimeknights.tconstruct.library.modifiers.ModifierManager.ModifiersLoadedEvent;
+import slimeknights.tconstruct.library.tools.definition.ToolDefinition;
+import slimeknights.tconstruct.library.tools.definition.ToolDefinitionData;
+import slimeknights.tconstruct.library.tools.definition.module.ToolHooks;
+
+import javax.annotation.Nullable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Cache of parsed tool NBT shared between all {@link ToolStack} instances wrapping the same tag.
+ * Entries are keyed on the identity of the root tag and held weakly, so they are dropped along with the stack.
+ * Each parsed value is additionally validated against the identity of the sub-tag it was parsed from, so a tag replaced outside of {@link ToolStack} is never served stale.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ToolNBTCache {
+  /** Weak keys in guava compare on identity, which is exactly what we want for mutable tags */
+  private static final Cache<CompoundTag,ToolNBTCache> CACHE = CacheBuilder.newBuilder().weakKeys().build();
+  /** Tool traits for each material list, as the trait expansion only depends on the materials and tool definition */
+  private static final Cache<MaterialNBT,Traits> TRAITS = CacheBuilder.newBuilder().weakKeys().build();
+  /** Incremented whenever modifiers or materials reload, as parsed values hold references to the old instances */
+  private static final AtomicInteger INVALIDATION_COUNTER = new AtomicInteger(0);
+
+  /** Last count of the invalidation counter, if this is smaller than the global, time to invalidate */
+  private int invalidationCount = INVALIDATION_COUNTER.get();
+
+  final Parsed<MaterialNBT> materials = new Parsed<>();
+  final Parsed<ModifierNBT> upgrades = new Parsed<>();
+  final Parsed<ModifierNBT> modifiers = new Parsed<>();
+  final Parsed<StatsNBT> stats = new Parsed<>();
+  final Parsed<MultiplierNBT> multipliers = new Parsed<>();
+
+  /**
+   * Gets the cache for the given tool tag
+   * @param nbt  Root tool tag
+   * @return  Cache instance for that tag
+   */
+  static ToolNBTCache get(CompoundTag nbt) {
+    ToolNBTCache cache = CACHE.asMap().computeIfAbsent(nbt, tag -> new ToolNBTCache());
+    cache.checkInvalidation();
+    return cache;
+  }
+
+  /**
+   * Creates a cache for a copy of the given tag, reusing any parsed values that are still valid for the original.
+   * @param original  Original tag
+   * @param copy      Copy of the original tag
+   */
+  static void copy(CompoundTag original, CompoundTag copy) {
+    ToolNBTCache cache = CACHE.getIfPresent(original);
+    if (cache != null) {
+      cache.checkInvalidation();
+      ToolNBTCache copied = new ToolNBTCache();
+      copied.materials.copy(cache.materials, original.get(ToolStack.TAG_MATERIALS), copy.get(ToolStack.TAG_MATERIALS));
+      copied.upgrades.copy(cache.upgrades, original.get(ToolStack.TAG_UPGRADES), copy.get(ToolStack.TAG_UPGRADES));
+      copied.modifiers.copy(cache.modifiers, original.get(ToolStack.TAG_MODIFIERS), copy.get(ToolStack.TAG_MODIFIERS));
+      copied.stats.copy(cache.stats, original.get(ToolStack.TAG_STATS), copy.get(ToolStack.TAG_STATS));
+      copied.multipliers.copy(cache.multipliers, original.get(ToolStack.TAG_MULTIPLIERS), copy.get(ToolStack.TAG_MULTIPLIERS));
+      CACHE.put(copy, copied);
+    }
+  }
+
+  /** Clears all values if modifiers or materials reloaded since they were parsed */
+  private void checkInvalidation() {
+    int count = INVALIDATION_COUNTER.get();
+    if (invalidationCount < count) {
+      materials.clear();
+      upgrades.clear();
+      modifiers.clear();
+      stats.clear();
+      multipliers.clear();
+      invalidationCount = count;
+    }
+  }
+
+  /**
+   * Gets the tool traits for the given materials, computing them the first time these materials are seen on a definition
+   * @param definition  Tool definition
+   * @param data        Current definition data
+   * @param materials   Material list
+   * @return  Traits from the tool definition and materials
+   */
+  static ModifierNBT getTraits(ToolDefinition definition, ToolDefinitionData data, MaterialNBT materials) {
+    int count = INVALIDATION_COUNTER.get();
+    Traits traits = TRAITS.getIfPresent(materials);
+    if (traits == null || traits.definition != definition || traits.data != data || traits.invalidationCount != count) {
+      ModifierNBT.Builder builder = ModifierNBT.builder();
+      data.getHook(ToolHooks.TOOL_TRAITS).addTraits(definition, materials, builder);
+      traits = new Traits(definition, data, count, builder.build());
+      TRAITS.put(materials, traits);
+    }
+    return traits.traits;
+  }
+
+  /** Invalidates all parsed values and traits, called when modifiers or materials reload */
+  static void invalidate() {
+    INVALIDATION_COUNTER.incrementAndGet();
+  }
+
+  /** Invalidates all cached traits, called when tags reload as trait hooks may check item tags */
+  static void invalidateTraits() {
+    TRAITS.invalidateAll();
+  }
+
+  /** Registers event listeners with the forge event bus */
+  public static void init() {
+    MinecraftForge.EVENT_BUS.addListener(EventPriority.NORMAL, false, ModifiersLoadedEvent.class, e -> invalidate());
+    MinecraftForge.EVENT_BUS.addListener(EventPriority.NORMAL, false, MaterialsLoadedEvent.class, e -> invalidate());
+    MinecraftForge.EVENT_BUS.addListener(EventPriority.NORMAL, false, TagsUpdatedEvent.class, e -> invalidateTraits());
+  }
+
+  /** Cached tool traits for a material list */
+  private record Traits(ToolDefinition definition, ToolDefinitionData data, int invalidationCount, ModifierNBT traits) {}
+
+  /** Single parsed value along with the tag instance it was parsed from */
+  private record Entry<T>(@Nullable Tag tag, T value) {}
+
+  /** Holder for a parsed value, swapped atomically so the tag and value are always consistent */
+  static final class Parsed<T> {
+    @Nullable
+    private volatile Entry<T> entry;
+
+    /**
+     * Gets the parsed value for the given tag, parsing it if the tag changed since last parse
+     * @param tag     Current tag in the tool NBT
+     * @param parser  Logic to parse the tag
+     * @return  Parsed value
+     */
+    T get(@Nullable Tag tag, Function<Tag,T> parser) {
+      Entry<T> entry = this.entry;
+      if (entry != null && entry.tag == tag) {
+        return entry.value;
+      }
+      T value = parser.apply(tag);
+      this.entry = new Entry<>(tag, value);
+      return value;
+    }
+
+    /**
+     * Updates the value after it was written to the tool NBT
+     * @param tag    New tag in the tool NBT, null if the tag was removed
+     * @param value  Value represented by the tag
+     */
+    void set(@Nullable Tag tag, T value) {
+      this.entry = new Entry<>(tag, value);
+    }
+
+    /** Copies the value from another instance if it is still valid for the original tag */
+    private void copy(Parsed<T> other, @Nullable Tag original, @Nullable Tag copy) {
+      Entry<T> entry = other.entry;
+      if (entry != null && entry.tag == original) {
+        this.entry = new Entry<>(copy, entry.value);
+      }
+    }
+
+    /** Clears the parsed value */
+    private void clear() {
+      this.entry = null;
+    }
+  }
+}
@@ -5,6 +5,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.util.RandomSource;
@@ -34,8 +35,6 @@ import slimeknights.tconstruct.library.tools.stat.ToolStats;
 import slimeknights.tconstruct.library.utils.RestrictedCompoundTag;
 
 import javax.annotation.Nullable;
-import java.util.Collections;
-import java.util.List;
 import java.util.Set;
 
 /**
@@ -85,6 +84,9 @@ public class ToolStack implements IToolStackView {
   private final CompoundTag nbt;
   /** Public view of the internal NBT, to give to modifier hooks */
   private RestrictedCompoundTag restrictedNBT;
+  /** Parsed NBT shared with other tool stacks wrapping the same tag */
+  @Nullable
+  private ToolNBTCache parseCache;
 
   // durability
   /** Current damage of the tool, -1 means unloaded */
@@ -151,7 +153,9 @@ public class ToolStack implements IToolStackView {
         }
       }
     } else if (copyNbt) {
+      CompoundTag original = nbt;
       nbt = nbt.copy();
+      ToolNBTCache.copy(original, nbt);
     }
     return from(item, definition, nbt);
   }
@@ -209,6 +213,14 @@ public class ToolStack implements IToolStackView {
     return tool;
   }
 
+  /** Gets the parse cache shared by all tool stacks wrapping this NBT */
+  private ToolNBTCache getParseCache() {
+    if (parseCache == null) {
+      parseCache = ToolNBTCache.get(nbt);
+    }
+    return parseCache;
+  }
+
   /** Clears all cached data, used with capabilities to prevent cached data from being out of sync due to external changes */
   public void clearCache() {
     this.damage = -1;
@@ -365,7 +377,7 @@ public class ToolStack implements IToolStackView {
   @Override
   public StatsNBT getStats() {
     if (stats == null) {
-      stats = StatsNBT.readFromNBT(nbt.get(TAG_STATS));
+      stats = getParseCache().stats.get(nbt.get(TAG_STATS), StatsNBT::readLazy);
     }
     return stats;
   }
@@ -376,7 +388,9 @@ public class ToolStack implements IToolStackView {
    */
   protected void setStats(StatsNBT stats) {
     this.stats = stats;
-    nbt.put(TAG_STATS, stats.serializeToNBT());
+    CompoundTag tag = stats.serializeToNBT();
+    nbt.put(TAG_STATS, tag);
+    getParseCache().stats.set(tag, stats);
     // if we no longer have enough durability, decrease the damage and mark it broken
     int newMax = getStats().getInt(ToolStats.DURABILITY);
     if (getDamageRaw() >= newMax) {
@@ -387,7 +401,7 @@ public class ToolStack implements IToolStackView {
   @Override
   public MultiplierNBT getMultipliers() {
     if (multipliers == null) {
-      multipliers = MultiplierNBT.readFromNBT(nbt.get(TAG_MULTIPLIERS));
+      multipliers = getParseCache().multipliers.get(nbt.get(TAG_MULTIPLIERS), MultiplierNBT::readFromNBT);
     }
     return multipliers;
   }
@@ -400,9 +414,12 @@ public class ToolStack implements IToolStackView {
     if (multipliers.getContainedStats().isEmpty()) {
       this.multipliers = MultiplierNBT.EMPTY;
       nbt.remove(TAG_MULTIPLIERS);
+      getParseCache().multipliers.set(null, MultiplierNBT.EMPTY);
     } else {
       this.multipliers = multipliers;
-      nbt.put(TAG_MULTIPLIERS, multipliers.serializeToNBT());
+      CompoundTag tag = multipliers.serializeToNBT();
+      nbt.put(TAG_MULTIPLIERS, tag);
+      getParseCache().multipliers.set(tag, multipliers);
     }
   }
 
@@ -415,7 +432,7 @@ public class ToolStack implements IToolStackView {
       return MaterialNBT.EMPTY;
     }
     if (materials == null) {
-      materials = MaterialNBT.readFromNBT(nbt.get(TAG_MATERIALS));
+      materials = getParseCache().materials.get(nbt.get(TAG_MATERIALS), MaterialNBT::readFromNBT);
     }
     return materials;
   }
@@ -428,8 +445,11 @@ public class ToolStack implements IToolStackView {
     this.materials = materials;
     if (materials == MaterialNBT.EMPTY) {
       this.nbt.remove(TAG_MATERIALS);
+      getParseCache().materials.set(null, materials);
     } else {
-      this.nbt.put(TAG_MATERIALS, materials.serializeToNBT());
+      ListTag tag = materials.serializeToNBT();
+      this.nbt.put(TAG_MATERIALS, tag);
+      getParseCache().materials.set(tag, materials);
     }
   }
 
@@ -463,7 +483,7 @@ public class ToolStack implements IToolStackView {
   @Override
   public ModifierNBT getUpgrades() {
     if (upgrades == null) {
-      upgrades = ModifierNBT.readFromNBT(nbt.get(TAG_UPGRADES));
+      upgrades = getParseCache().upgrades.get(nbt.get(TAG_UPGRADES), ModifierNBT::readFromNBT);
     }
     return upgrades;
   }
@@ -473,11 +493,21 @@ public class ToolStack implements IToolStackView {
    * @param modifiers  New upgrades
    */
   public void setUpgrades(ModifierNBT modifiers) {
-    this.upgrades = modifiers;
-    nbt.put(TAG_UPGRADES, modifiers.serializeToNBT());
+    setUpgradesRaw(modifiers);
     rebuildStats();
   }
 
+  /**
+   * Updates the upgrades list on the tool without updating tool stats
+   * @param modifiers  New upgrades
+   */
+  private void setUpgradesRaw(ModifierNBT modifiers) {
+    this.upgrades = modifiers;
+    ListTag tag = modifiers.serializeToNBT();
+    nbt.put(TAG_UPGRADES, tag);
+    getParseCache().upgrades.set(tag, modifiers);
+  }
+
   /**
    * Adds a single modifier to this tool
    * @param modifier  Modifier to add
@@ -514,16 +544,14 @@ public class ToolStack implements IToolStackView {
     if (level <= 0) {
       throw new IllegalArgumentException("Invalid level, must be above 0");
     }
-    ModifierNBT newModifiers = getUpgrades().withoutModifier(modifier, level);
-    this.upgrades = newModifiers;
-    nbt.put(TAG_UPGRADES, newModifiers.serializeToNBT());
+    setUpgradesRaw(getUpgrades().withoutModifier(modifier, level));
     rebuildStats();
   }
 
   @Override
   public ModifierNBT getModifiers() {
     if (modifiers == null) {
-      modifiers = ModifierNBT.readFromNBT(nbt.get(TAG_MODIFIERS));
+      modifiers = getParseCache().modifiers.get(nbt.get(TAG_MODIFIERS), ModifierNBT::readFromNBT);
     }
     return modifiers;
   }
@@ -534,7 +562,9 @@ public class ToolStack implements IToolStackView {
    */
   protected void setModifiers(ModifierNBT modifiers) {
     this.modifiers = modifiers;
-    nbt.put(TAG_MODIFIERS, this.modifiers.serializeToNBT());
+    ListTag tag = modifiers.serializeToNBT();
+    nbt.put(TAG_MODIFIERS, tag);
+    getParseCache().modifiers.set(tag, modifiers);
   }
 
 
@@ -598,7 +628,7 @@ public class ToolStack implements IToolStackView {
     }
     // next, ensure modifiers validate
     Component result;
-    for (ModifierEntry entry : getModifierList()) {
+    for (ModifierEntry entry : getModifierList(ModifierHooks.VALIDATE)) {
       result = entry.getHook(ModifierHooks.VALIDATE).validate(this, entry);
       if (result != null) {
         return result;
@@ -640,20 +670,23 @@ public class ToolStack implements IToolStackView {
     // add tool slots to volatile data, ensures it is there even from an empty tool, and properly updates on datapack update
     ToolDefinitionData toolData = getDefinitionData();
 
-    // first, determine the list of modifiers, this is done in a couple stages
-    // we start by cloning upgrades and adding tool traits and material traits
     MaterialNBT materials = getMaterials();
+    ModifierNBT upgrades = getUpgrades();
+    ToolDataNBT persistentData = getPersistentData();
+
+    // first, determine the list of modifiers, this is done in a couple stages
+    // we start by cloning upgrades and adding tool traits and material traits, the latter is cached per material list
     ModifierNBT.Builder modBuilder = ModifierNBT.builder();
-    modBuilder.add(getUpgrades());
-    toolData.getHook(ToolHooks.TOOL_TRAITS).addTraits(definition, materials, modBuilder);
+    modBuilder.add(upgrades);
+    modBuilder.add(ToolNBTCache.getTraits(definition, toolData, materials));
     ModifierNBT beforeTraits = modBuilder.build();
 
     // temporary context while we add modifier traits, will recreate if we have modifiers
     // clear out volatile data, mostly affects the volatile data hook
-    ToolRebuildContext context = new ToolRebuildContext(item, definition, materials, getUpgrades(), beforeTraits, getPersistentData());
+    ToolRebuildContext context = new ToolRebuildContext(item, definition, materials, upgrades, beforeTraits, persistentData);
 
     // if we have modifiers, apply modifier traits, saves creating some builders if empty
-    List<ModifierEntry> modifierList = Collections.emptyList();
+    ModifierNBT allMods = ModifierNBT.EMPTY;
     if (beforeTraits.isEmpty()) {
       // if no modifiers, just clear modifiers
       setModifiers(ModifierNBT.EMPTY);
@@ -663,9 +696,8 @@ public class ToolStack implements IToolStackView {
       traitBuilder.add(beforeTraits);
 
       // set the final modifier list on the tool
-      ModifierNBT allMods = modBuilder.build();
+      allMods = modBuilder.build();
       setModifiers(allMods);
-      modifierList = allMods.getModifiers();
       // context for further modifier hooks
       context = context.withModifiers(allMods);
     }
@@ -673,7 +705,7 @@ public class ToolStack implements IToolStackView {
     // build volatile data first, it's a parameter to the other hooks
     ToolDataNBT volatileData = new ToolDataNBT();
     toolData.getHook(ToolHooks.VOLATILE_DATA).addVolatileData(context, volatileData);
-    for (ModifierEntry entry : modifierList) {
+    for (ModifierEntry entry : allMods.getModifiers(ModifierHooks.VOLATILE_DATA)) {
       entry.getHook(ModifierHooks.VOLATILE_DATA).addVolatileData(context, entry, volatileData);
     }
     setVolatileModData(volatileData);
@@ -681,14 +713,14 @@ public class ToolStack implements IToolStackView {
     // regular stats last so we can include volatile data
     ModifierStatsBuilder statBuilder = ModifierStatsBuilder.builder();
     toolData.getHook(ToolHooks.TOOL_STATS).addToolStats(context, statBuilder);
-    for (ModifierEntry entry : modifierList) {
+    for (ModifierEntry entry : allMods.getModifiers(ModifierHooks.TOOL_STATS)) {
       entry.getHook(ModifierHooks.TOOL_STATS).addToolStats(context, entry, statBuilder);
     }
     setStats(statBuilder.build());
     setMultipliers(statBuilder.buildMultipliers());
 
     // finally, update raw data, called last to make the parameters more convenient mostly, plus no other hooks should be responding to this data
-    for (ModifierEntry entry : modifierList) {
+    for (ModifierEntry entry : allMods.getModifiers(ModifierHooks.RAW_DATA)) {
       entry.getHook(ModifierHooks.RAW_DATA).addRawData(this, entry, getRestrictedNBT());
     }
   }
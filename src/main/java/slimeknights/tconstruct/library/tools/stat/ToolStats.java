@@ -1,6 +1,8 @@
 package slimeknights.tconstruct.library.tools.stat;
 
 import com.google.gson.JsonSyntaxException;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import slimeknights.mantle.data.loadable.primitive.StringLoadable;
@@ -37,6 +39,11 @@ public class ToolStats {
 
   /** Map of ID to stat */
   private static final Map<ToolStatId,IToolStat<?>> ALL_STATS = new HashMap<>();
+  /** Map of stat to its ordinal, used to index stats in arrays */
+  private static final Reference2IntMap<IToolStat<?>> ORDINALS = new Reference2IntOpenHashMap<>();
+  static {
+    ORDINALS.defaultReturnValue(-1);
+  }
 
   /** Tools durability, determines how long it lasts */
   public static final FloatToolStat DURABILITY = register(new FloatToolStat(name("durability"), 0xFF47CC47, 1, 1, Integer.MAX_VALUE, TinkerTags.Items.DURABILITY));
@@ -136,9 +143,24 @@ public class ToolStats {
       throw new IllegalArgumentException("Attempt to register duplicate tool stat " + toolStat.getName());
     }
     ALL_STATS.put(toolStat.getName(), toolStat);
+    ORDINALS.put(toolStat, ORDINALS.size());
     return toolStat;
   }
 
+  /**
+   * Gets the ordinal of the given stat, assigned in registration order
+   * @param stat  Stat
+   * @return  Ordinal, or -1 if the stat is not registered
+   */
+  public static int getOrdinal(IToolStat<?> stat) {
+    return ORDINALS.getInt(stat);
+  }
+
+  /** Gets the number of registered stats, all ordinals are less than this value */
+  public static int getStatCount() {
+    return ORDINALS.size();
+  }
+
   /** Gets a collection of all stat keys */
   public static Collection<IToolStat<?>> getAllStats() {
     return ALL_STATS.values();
@@ -7,10 +7,15 @@ import java.util.function.BiFunction;
 
 /**
  * Helper for use with our extensions of resource location for some type safety in IDs.
+ * Can be used directly for resource locations used as NBT keys, as it caches its string form.
  * Note we left {@link ResourceLocation#withPath(String)} and alike as returning {@link ResourceLocation} as there is not much use extending an ID.
  * @see IdParser
  */
-public abstract class ResourceId extends ResourceLocation {
+public class ResourceId extends ResourceLocation {
+  /** Cached string form, as IDs are commonly used as NBT keys and {@link ResourceLocation#toString()} builds a new string each call */
+  @Nullable
+  private String string;
+
   protected ResourceId(String namespace, String path, @Nullable Dummy pDummy) {
     super(namespace, path, pDummy);
   }
@@ -27,6 +32,14 @@ public abstract class ResourceId extends ResourceLocation {
     super(location);
   }
 
+  @Override
+  public String toString() {
+    if (string == null) {
+      string = super.toString();
+    }
+    return string;
+  }
+
 
   /* Helpers for static constructors */
 
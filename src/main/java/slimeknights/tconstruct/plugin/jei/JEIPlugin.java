@@ -49,6 +49,7 @@ import slimeknights.tconstruct.common.TinkerTags;
 import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.fluids.TinkerFluids;
 import slimeknights.tconstruct.fluids.fluids.PotionFluidType;
+import slimeknights.tconstruct.library.client.model.tools.ToolModelCache;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.modifiers.ModifierId;
 import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
@@ -470,6 +471,8 @@ public class JEIPlugin implements IModPlugin {
     if (!addItems.isEmpty()) {
       manager.addIngredientsAtRuntime(VanillaTypes.ITEM_STACK, addItems);
     }
+    // warm up the displayed tool models on the main thread, 2ms per client tick, so scrolling the ingredient list does not stall
+    ToolModelCache.setDisplayStacks(manager.getAllIngredients(VanillaTypes.ITEM_STACK));
 
     // fluid hiding, buckets are hidden via the creative tab logic
     // hide compat that is not present
@@ -22,6 +22,7 @@ import slimeknights.tconstruct.shared.command.subcommand.MaterialsCommand;
 import slimeknights.tconstruct.shared.command.subcommand.ModifierPriorityCommand;
 import slimeknights.tconstruct.shared.command.subcommand.ModifierUsageCommand;
 import slimeknights.tconstruct.shared.command.subcommand.ModifiersCommand;
+import slimeknights.tconstruct.shared.command.subcommand.PerformanceCommand;
 import slimeknights.tconstruct.shared.command.subcommand.SlotsCommand;
 import slimeknights.tconstruct.shared.command.subcommand.StatsCommand;
 
@@ -65,6 +66,7 @@ public class TConstructCommand {
     register(builder, "report", b -> {
       register(b, "modifier_usage", ModifierUsageCommand::register);
       register(b, "modifier_priority", ModifierPriorityCommand::register);
+      register(b, "performance", PerformanceCommand::register);
     });
     register(builder, "generate_part_textures", GeneratePartTexturesCommand::register);
 
@@ -0,0 +1,55 @@
+package slimeknights.tconstruct.shared.command.subcommand;
+
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.level.Level;
+import slimeknights.mantle.command.MantleCommand;
+import slimeknights.tconstruct.TConstruct;
+import slimeknights.tconstruct.library.tools.helper.DropAggregator;
+import slimeknights.tconstruct.smeltery.block.entity.FlowScheduler;
+import slimeknights.tconstruct.smeltery.block.entity.FlowScheduler.Counts;
+import slimeknights.tconstruct.smeltery.network.FluidDisplayBatcher;
+
+import java.util.Map;
+
+/** Command to print performance counters to the log */
+public class PerformanceCommand {
+  private static final Component SUCCESS = Component.translatable("command.tconstruct.performance");
+
+  /**
+   * Registers this sub command with the root command
+   * @param subCommand  Command builder
+   */
+  public static void register(LiteralArgumentBuilder<CommandSourceStack> subCommand) {
+    subCommand.requires(sender -> sender.hasPermission(MantleCommand.PERMISSION_EDIT_SPAWN))
+              .executes(PerformanceCommand::run);
+  }
+
+  /**
+   * Runs the command
+   * @param context  Command context
+   * @return  Integer return
+   */
+  private static int run(CommandContext<CommandSourceStack> context) {
+    StringBuilder builder = new StringBuilder();
+    builder.append("Performance counters:").append(System.lineSeparator());
+    builder.append("Item entities avoided by merging drops: ").append(DropAggregator.getAvoidedEntities()).append(System.lineSeparator());
+    for (Map.Entry<Level,Counts> entry : FlowScheduler.getCounts().entrySet()) {
+      Counts counts = entry.getValue();
+      builder.append("Channels in ").append(entry.getKey().dimension().location())
+             .append(": ").append(counts.getActive()).append(" active, ").append(counts.getSleeping()).append(" sleeping").append(System.lineSeparator());
+    }
+    long bundles = FluidDisplayBatcher.getBundlesSent();
+    builder.append("Fluid display updates: ").append(FluidDisplayBatcher.getQueuedUpdates()).append(" queued, ")
+           .append(FluidDisplayBatcher.getSentUpdates()).append(" sent in ").append(bundles).append(" bundles");
+    if (bundles > 0) {
+      builder.append(String.format(" (average bundle size %.2f)", FluidDisplayBatcher.getSentUpdates() / (double)bundles));
+    }
+    builder.append(System.lineSeparator());
+    TConstruct.LOG.info(builder.toString());
+    context.getSource().sendSuccess(() -> SUCCESS, true);
+    return 0;
+  }
+}
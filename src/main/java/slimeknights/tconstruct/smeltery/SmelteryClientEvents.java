@@ -21,6 +21,7 @@ import slimeknights.tconstruct.library.client.model.tools.ToolModel;
 import slimeknights.tconstruct.smeltery.client.render.CastingBlockEntityRenderer;
 import slimeknights.tconstruct.smeltery.client.render.ChannelBlockEntityRenderer;
 import slimeknights.tconstruct.smeltery.client.render.FaucetBlockEntityRenderer;
+import slimeknights.tconstruct.smeltery.client.render.FluidGeometry;
 import slimeknights.tconstruct.smeltery.client.render.HeatingStructureBlockEntityRenderer;
 import slimeknights.tconstruct.smeltery.client.render.ProxyTankBlockEntityRenderer;
 import slimeknights.tconstruct.smeltery.client.render.TankBlockEntityRenderer;
@@ -37,6 +38,7 @@ public class SmelteryClientEvents extends ClientEventBase {
   static void addResourceListener(RegisterClientReloadListenersEvent event) {
     FaucetFluid.initialize(event);
     ChannelFluids.initialize(event);
+    event.registerReloadListener(FluidGeometry.RELOAD_LISTENER);
   }
 
   @SubscribeEvent
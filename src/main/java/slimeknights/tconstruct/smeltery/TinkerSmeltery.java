@@ -97,6 +97,7 @@ import slimeknights.tconstruct.smeltery.block.controller.SmelteryControllerBlock
 import slimeknights.tconstruct.smeltery.block.entity.CastingBlockEntity;
 import slimeknights.tconstruct.smeltery.block.entity.ChannelBlockEntity;
 import slimeknights.tconstruct.smeltery.block.entity.FaucetBlockEntity;
+import slimeknights.tconstruct.smeltery.block.entity.FlowScheduler;
 import slimeknights.tconstruct.smeltery.block.entity.FluidCannonBlockEntity;
 import slimeknights.tconstruct.smeltery.block.entity.HeaterBlockEntity;
 import slimeknights.tconstruct.smeltery.block.entity.LanternBlockEntity;
@@ -120,6 +121,7 @@ import slimeknights.tconstruct.smeltery.menu.AlloyerContainerMenu;
 import slimeknights.tconstruct.smeltery.menu.HeatingStructureContainerMenu;
 import slimeknights.tconstruct.smeltery.menu.MelterContainerMenu;
 import slimeknights.tconstruct.smeltery.menu.SingleItemContainerMenu;
+import slimeknights.tconstruct.smeltery.network.FluidDisplayBatcher;
 import slimeknights.tconstruct.tools.TinkerToolParts;
 
 import java.util.function.Consumer;
@@ -135,6 +137,11 @@ import static slimeknights.mantle.Mantle.commonResource;
  */
 @SuppressWarnings("unused")
 public final class TinkerSmeltery extends TinkerModule {
+  public TinkerSmeltery() {
+    FluidDisplayBatcher.init();
+    FlowScheduler.init();
+  }
+
   /** Creative tab for smeltery, all contents related to the multiblocks */
   public static final RegistryObject<CreativeModeTab> tabSmeltery = CREATIVE_TABS.register(
     "smeltery", () -> CreativeModeTab.builder().title(TConstruct.makeTranslation("itemGroup", "smeltery"))
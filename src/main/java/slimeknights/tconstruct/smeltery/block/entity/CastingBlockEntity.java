@@ -38,8 +38,8 @@ import slimeknights.mantle.util.BlockEntityHelper;
 import slimeknights.tconstruct.TConstruct;
 import slimeknights.tconstruct.common.Sounds;
 import slimeknights.tconstruct.common.TinkerTags;
-import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
+import slimeknights.tconstruct.library.recipe.casting.CastingRecipeCache;
 import slimeknights.tconstruct.library.recipe.casting.ICastingRecipe;
 import slimeknights.tconstruct.library.recipe.molding.MoldingRecipe;
 import slimeknights.tconstruct.shared.block.entity.TableBlockEntity;
@@ -48,6 +48,7 @@ import slimeknights.tconstruct.smeltery.block.AbstractCastingBlock;
 import slimeknights.tconstruct.smeltery.block.entity.inventory.CastingContainerWrapper;
 import slimeknights.tconstruct.smeltery.block.entity.inventory.MoldingContainerWrapper;
 import slimeknights.tconstruct.smeltery.block.entity.tank.CastingFluidHandler;
+import slimeknights.tconstruct.smeltery.network.FluidDisplayBatcher;
 import slimeknights.tconstruct.smeltery.network.FluidUpdatePacket;
 
 import javax.annotation.Nonnull;
@@ -92,6 +93,10 @@ public abstract class CastingBlockEntity extends TableBlockEntity implements Wor
   private ResourceLocation recipeName;
   /** Cache recipe to reduce time during recipe lookups. Not saved to Tag */
   private ICastingRecipe lastCastingRecipe;
+  /** If true, the inputs changed since the last attempt to resume a casting with no recipe */
+  private boolean inputsChanged = true;
+  /** Value of {@link CastingRecipeCache#getReloadCount()} during the last attempt to resume a casting with no recipe */
+  private int checkedReloads = -1;
   /** Last recipe output for client side display */
   private ItemStack lastOutput = null;
   /** If true, this block is allowed to cast without a cast */
@@ -221,6 +226,7 @@ public abstract class CastingBlockEntity extends TableBlockEntity implements Wor
   public void setItem(int slot, ItemStack stack) {
     ItemStack original = getItem(slot);
     super.setItem(slot, stack);
+    inputsChanged = true;
     // if the stack changed emptiness, update
     if (original.isEmpty() != stack.isEmpty()) {
       updateAnalogSignal();
@@ -270,9 +276,16 @@ public abstract class CastingBlockEntity extends TableBlockEntity implements Wor
   /** Handles cooling the casting recipe */
   private void serverTick(Level level, BlockPos pos) {
     // no recipe
-    // TODO: should consider the case where the tank has fluid, but there is no current recipe
-    // would like to avoid doing a recipe lookup every tick, so need some way to handle the case of no recipe found, ideally without fluid voiding
     if (currentRecipe == null) {
+      // tank may still have fluid if the recipe was lost, retry only when something changed that may give a new result
+      if (!tank.isEmpty()) {
+        int reloads = CastingRecipeCache.getReloadCount();
+        if (inputsChanged || checkedReloads != reloads) {
+          inputsChanged = false;
+          checkedReloads = reloads;
+          resumeCasting();
+        }
+      }
       return;
     }
     // fully filled
@@ -339,7 +352,7 @@ public abstract class CastingBlockEntity extends TableBlockEntity implements Wor
     if (this.lastCastingRecipe != null && this.lastCastingRecipe.matches(castingInventory, level)) {
       return this.lastCastingRecipe;
     }
-    ICastingRecipe castingRecipe = level.getRecipeManager().getRecipeFor(this.castingType, castingInventory, level).orElse(null);
+    ICastingRecipe castingRecipe = CastingRecipeCache.findRecipe(this.castingType, castingInventory, level);
     if (castingRecipe != null) {
       this.lastCastingRecipe = castingRecipe;
     }
@@ -422,6 +435,20 @@ public abstract class CastingBlockEntity extends TableBlockEntity implements Wor
     return 0;
   }
 
+  /**
+   * Attempts to find a new recipe for the fluid already in the tank.
+   * Recipes needing less fluid than the tank holds are skipped, as the extra fluid would be voided.
+   */
+  private void resumeCasting() {
+    FluidStack fluid = tank.getFluid();
+    int capacity = initNewCasting(fluid, FluidAction.SIMULATE);
+    if (capacity >= fluid.getAmount()) {
+      initNewCasting(fluid, FluidAction.EXECUTE);
+      tank.setCapacity(capacity);
+      onContentsChanged();
+    }
+  }
+
   /**
    * Resets the casting table recipe to the default empty state
    */
@@ -452,7 +479,7 @@ public abstract class CastingBlockEntity extends TableBlockEntity implements Wor
     Level world = getLevel();
     if (world != null && !world.isClientSide) {
       BlockPos pos = getBlockPos();
-      TinkerNetwork.getInstance().sendToClientsAround(new FluidUpdatePacket(pos, fluidStack), world, pos);
+      FluidDisplayBatcher.queueFluid(world, pos, fluidStack);
     }
   }
 
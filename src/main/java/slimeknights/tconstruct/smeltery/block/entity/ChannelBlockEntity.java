@@ -1,5 +1,6 @@
 package slimeknights.tconstruct.smeltery.block.entity;
 
+import lombok.Getter;
 import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -21,15 +22,13 @@ import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
 import net.minecraftforge.fluids.capability.templates.EmptyFluidHandler;
 import slimeknights.mantle.block.entity.MantleBlockEntity;
 import slimeknights.mantle.util.WeakConsumerWrapper;
-import slimeknights.tconstruct.common.network.TinkerNetwork;
 import slimeknights.tconstruct.library.fluid.FillOnlyFluidHandler;
 import slimeknights.tconstruct.smeltery.TinkerSmeltery;
 import slimeknights.tconstruct.smeltery.block.ChannelBlock;
 import slimeknights.tconstruct.smeltery.block.ChannelBlock.ChannelConnection;
 import slimeknights.tconstruct.smeltery.block.entity.tank.ChannelSideTank;
 import slimeknights.tconstruct.smeltery.block.entity.tank.ChannelTank;
-import slimeknights.tconstruct.smeltery.network.ChannelFlowPacket;
-import slimeknights.tconstruct.smeltery.network.FluidUpdatePacket;
+import slimeknights.tconstruct.smeltery.network.FluidDisplayBatcher;
 import slimeknights.tconstruct.smeltery.network.FluidUpdatePacket.IFluidPacketReceiver;
 
 import javax.annotation.Nullable;
@@ -65,6 +64,11 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
 
 	/** Stores if the channel is currently flowing, set to 2 to allow a small buffer */
 	private final byte[] isFlowing = new byte[5];
+	/** Puts the channel to sleep when it has nothing to do */
+	private final FlowScheduler scheduler = new FlowScheduler();
+	/** Incremented when the fluid or flow changes, lets the renderer know to rebuild cached geometry */
+	@Getter
+	private int renderVersion = 0;
 
 	public ChannelBlockEntity(BlockPos pos, BlockState state) {
 		this(TinkerSmeltery.channel.get(), pos, state);
@@ -93,6 +97,7 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
 			if (neighborTanks.get(side) == capability) {
 				neighborTanks.remove(side);
 			}
+			scheduler.wake();
 		}
 	}
 
@@ -157,6 +162,7 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
 	 */
 	public void removeCachedNeighbor(Direction side) {
 		neighborTanks.remove(side);
+		scheduler.wake();
 	}
 
 	/**
@@ -165,6 +171,7 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
 	 * @param side   Side to update
 	 */
 	public void refreshNeighbor(BlockState state, Direction side) {
+		scheduler.wake();
 		// for below, only thing that needs to invalidate is if we are no longer connected down, remove the listener below
 		if (side == Direction.DOWN) {
 			if (!state.getValue(ChannelBlock.DOWN)) {
@@ -236,9 +243,12 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
 		boolean wasFlowing = isFlowing[index] > 0;
 		isFlowing[index] = (byte)(flowing ? 2 : 0);
 
-		// send packet to client if it changed
-		if(wasFlowing != flowing && level != null && !level.isClientSide) {
-			syncFlowToClient(side, flowing);
+		if (wasFlowing != flowing) {
+			renderVersion++;
+			// send packet to client if it changed
+			if (level != null && !level.isClientSide) {
+				syncFlowToClient(side, flowing);
+			}
 		}
 	}
 
@@ -296,21 +306,48 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
 	 * @param flowing  Flowing state to sync
 	 */
 	private void syncFlowToClient(Direction side, boolean flowing) {
-		TinkerNetwork.getInstance().sendToClientsAround(new ChannelFlowPacket(worldPosition, side, flowing), level, worldPosition);
+		FluidDisplayBatcher.queueFlow(level, worldPosition, side, flowing);
 	}
 
 
 	/* Flow */
 
+	/**
+	 * Wakes the channel so it tries to flow next tick, called when fluid is added
+	 */
+	public void wake() {
+		scheduler.wake();
+	}
+
+	@Override
+	public void onLoad() {
+		super.onLoad();
+		if (level != null && !level.isClientSide) {
+			scheduler.track(level);
+		}
+	}
+
+	@Override
+	public void setRemoved() {
+		super.setRemoved();
+		scheduler.untrack();
+	}
+
 	/**
 	 * Server ticking logic
 	 */
 	private void tick(BlockState state) {
+		if (!scheduler.tick()) {
+			return;
+		}
+
 		// must have fluid first
 		FluidStack fluid = tank.getFluid();
+		// fluid added this tick cannot flow yet, so a failure to flow only means the outputs are full if nothing was locked
+		boolean allUsable = !fluid.isEmpty() && tank.getMaxUsable() == fluid.getAmount();
+		boolean hasFlown = false;
 		if (!fluid.isEmpty()) {
 			// if we have down and can flow, skip sides
-			boolean hasFlown = false;
 			if(state.getValue(ChannelBlock.DOWN)) {
 				hasFlown = trySide(Direction.DOWN, FaucetBlockEntity.MB_PER_TICK);
 			}
@@ -321,12 +358,13 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
 				int flowRate = Mth.clamp(tank.getMaxUsable() / outputs, 1, FaucetBlockEntity.MB_PER_TICK);
 				// then transfer on each side
 				for(Direction side : Plane.HORIZONTAL) {
-					trySide(side, flowRate);
+					hasFlown |= trySide(side, flowRate);
 				}
 			}
 		}
 
 		// clear flowing if we should no longer flow on a side
+		boolean anyFlowing = false;
 		for (int i = 0; i < 5; i++) {
 			if (isFlowing[i] > 0) {
 				isFlowing[i]--;
@@ -338,11 +376,24 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
 						direction = Direction.from3DDataValue(i + 1);
 					}
 					syncFlowToClient(direction, false);
+				} else {
+					anyFlowing = true;
 				}
 			}
 		}
 
 		tank.freeFluid();
+
+		// once the flowing display settles, sleep if there is nothing to do
+		if (!anyFlowing) {
+			if (tank.isEmpty()) {
+				// fill wakes us
+				scheduler.sleep();
+			} else if (allUsable && !hasFlown) {
+				// outputs may drain without telling us, so check back later
+				scheduler.sleepAndRetry();
+			}
+		}
 	}
 
 	/**
@@ -402,13 +453,14 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
 	 */
 	public void sendFluidUpdate() {
 		if (level != null && !level.isClientSide) {
-			TinkerNetwork.getInstance().sendToClientsAround(new FluidUpdatePacket(worldPosition, getFluid()), level, worldPosition);
+			FluidDisplayBatcher.queueFluid(level, worldPosition, getFluid());
 		}
 	}
 
 	@Override
   public void updateFluidTo(FluidStack fluid) {
 		tank.setFluid(fluid);
+		renderVersion++;
 	}
 
   @Override
@@ -446,5 +498,6 @@ public class ChannelBlockEntity extends MantleBlockEntity implements IFluidPacke
 		// tank
 		CompoundTag tankTag = nbt.getCompound(TAG_TANK);
 		tank.readFromNBT(tankTag);
+		renderVersion++;
 	}
 }
@@ -52,15 +52,26 @@ public class FaucetBlockEntity extends MantleBlockEntity {
   private FluidStack renderFluid = FluidStack.EMPTY;
   /** Used for pulse detection */
   private boolean lastRedstoneState = false;
+  /** Puts the faucet to sleep while powered but unable to pour */
+  private final FlowScheduler scheduler = new FlowScheduler();
+  /** Incremented when the rendered fluid or pouring state changes, lets the renderer know to rebuild cached geometry */
+  @Getter
+  private int renderVersion = 0;
 
   /** Fluid handler of the input to the faucet */
   private LazyOptional<IFluidHandler> inputHandler;
   /** Fluid handler of the output from the faucet */
   private LazyOptional<IFluidHandler> outputHandler;
   /** Listener for when the input handler is invalidated */
-  private final NonNullConsumer<LazyOptional<IFluidHandler>> inputListener = new WeakConsumerWrapper<>(this, (self, handler) -> self.inputHandler = null);
+  private final NonNullConsumer<LazyOptional<IFluidHandler>> inputListener = new WeakConsumerWrapper<>(this, (self, handler) -> {
+    self.inputHandler = null;
+    self.scheduler.wake();
+  });
   /** Listener for when the output handler is invalidated */
-  private final NonNullConsumer<LazyOptional<IFluidHandler>> outputListener = new WeakConsumerWrapper<>(this, (self, handler) -> self.outputHandler = null);
+  private final NonNullConsumer<LazyOptional<IFluidHandler>> outputListener = new WeakConsumerWrapper<>(this, (self, handler) -> {
+    self.outputHandler = null;
+    self.scheduler.wake();
+  });
 
   public FaucetBlockEntity(BlockPos pos, BlockState state) {
     this(TinkerSmeltery.faucet.get(), pos, state);
@@ -131,6 +142,7 @@ public class FaucetBlockEntity extends MantleBlockEntity {
     } else if (worldPosition.equals(neighbor.relative(getBlockState().getValue(FACING)))) {
       inputHandler = null;
     }
+    scheduler.wake();
   }
 
 
@@ -154,6 +166,7 @@ public class FaucetBlockEntity extends MantleBlockEntity {
     if (level == null || level.isClientSide) {
       return;
     }
+    scheduler.wake();
     // already pouring? we want to start
     switch (faucetState) {
       // off activates the faucet
@@ -178,6 +191,7 @@ public class FaucetBlockEntity extends MantleBlockEntity {
   public void handleRedstone(boolean hasSignal) {
     if (hasSignal != lastRedstoneState) {
       lastRedstoneState = hasSignal;
+      scheduler.wake();
       if (hasSignal) {
         if (level != null){
           level.scheduleTick(worldPosition, this.getBlockState().getBlock(), 2);
@@ -197,9 +211,15 @@ public class FaucetBlockEntity extends MantleBlockEntity {
     // nothing to do if not pouring
     if (faucetState == FaucetState.OFF) {
       return;
-      // if powered and we can transfer, schedule transfer for next tick
-    } else if (faucetState == FaucetState.POWERED && doTransfer(false)) {
+    }
+    // powered but sleeping means there was nothing to pour recently
+    if (!scheduler.tick()) {
+      return;
+    }
+    // if powered and we can transfer, schedule transfer for next tick
+    if (faucetState == FaucetState.POWERED && doTransfer(false)) {
       faucetState = FaucetState.POURING;
+      scheduler.wake();
       return;
     }
 
@@ -212,6 +232,10 @@ public class FaucetBlockEntity extends MantleBlockEntity {
       // otherwise keep going
     } else {
       doTransfer(true);
+      // still waiting on fluid or space, the input may fill and the output may drain without notifying us
+      if (faucetState == FaucetState.POWERED) {
+        scheduler.sleepAndRetry();
+      }
     }
   }
 
@@ -340,6 +364,7 @@ public class FaucetBlockEntity extends MantleBlockEntity {
     // pouring and powered are interchangable on the client
     this.faucetState = isPouring ? FaucetState.POURING : FaucetState.OFF;
     this.renderFluid = fluid;
+    this.renderVersion++;
   }
 
   @Override
@@ -384,6 +409,7 @@ public class FaucetBlockEntity extends MantleBlockEntity {
     } else {
       renderFluid = FluidStack.EMPTY;
     }
+    renderVersion++;
   }
 
   private enum FaucetState {
@@ -0,0 +1,146 @@
+package slimeknights.tconstruct.smeltery.block.entity;
+
+import lombok.Getter;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.level.LevelEvent;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Tracks whether a fluid transfer block entity has work to do, so idle channels and faucets can skip their tick.
+ * A block entity sleeps either until woken by an event such as a fill or neighbor change, or with a retry for conditions that change without an event, such as an output draining.
+ * Retries back off while the block entity stays idle.
+ */
+public class FlowScheduler {
+  /** Delay before the first retry */
+  private static final int MIN_RETRY = 2;
+  /** Maximum delay between retries */
+  private static final int MAX_RETRY = 20;
+  /** Active and sleeping counts for tracked schedulers in each level. Only accessed on the server thread */
+  private static final Map<Level,Counts> COUNTS = new HashMap<>();
+  private static boolean init = false;
+
+  /** If true, the block entity is sleeping */
+  private boolean sleeping = false;
+  /** Counts for the level containing this block entity, null if not tracked */
+  @Nullable
+  private Counts counts;
+  /** Ticks until the next retry, or -1 to wait for an event */
+  private int retryTimer = -1;
+  /** Delay used for the last retry */
+  private int backoff = 0;
+
+  /** Initializes the level unload listener */
+  public static void init() {
+    if (init) {
+      return;
+    }
+    init = true;
+    MinecraftForge.EVENT_BUS.addListener(FlowScheduler::onLevelUnload);
+  }
+
+  /** Drops counts for an unloaded level */
+  private static void onLevelUnload(LevelEvent.Unload event) {
+    if (event.getLevel() instanceof Level level) {
+      COUNTS.remove(level);
+    }
+  }
+
+  /** Gets the active and sleeping counts for each level */
+  public static Map<Level,Counts> getCounts() {
+    return Collections.unmodifiableMap(COUNTS);
+  }
+
+  /**
+   * Adds this scheduler to the counts for the given level, call when the block entity loads on the server
+   * @param level  Level containing the block entity
+   */
+  public void track(Level level) {
+    untrack();
+    counts = COUNTS.computeIfAbsent(level, key -> new Counts());
+    counts.add(sleeping, 1);
+  }
+
+  /** Removes this scheduler from the level counts, call when the block entity is removed or unloaded */
+  public void untrack() {
+    if (counts != null) {
+      counts.add(sleeping, -1);
+      counts = null;
+    }
+  }
+
+  /** Updates the sleeping state, moving this scheduler between the counts */
+  private void setSleeping(boolean sleeping) {
+    if (this.sleeping != sleeping) {
+      if (counts != null) {
+        counts.add(this.sleeping, -1);
+        counts.add(sleeping, 1);
+      }
+      this.sleeping = sleeping;
+    }
+  }
+
+  /** Checks if the block entity is currently sleeping */
+  public boolean isSleeping() {
+    return sleeping;
+  }
+
+  /**
+   * Called at the start of each tick
+   * @return  True if the block entity should run its tick logic
+   */
+  public boolean tick() {
+    if (sleeping) {
+      if (retryTimer < 0) {
+        return false;
+      }
+      if (retryTimer > 0) {
+        retryTimer--;
+        return false;
+      }
+      // retry, keeping the backoff in case it fails again
+      setSleeping(false);
+    }
+    return true;
+  }
+
+  /** Sleeps until woken by an event */
+  public void sleep() {
+    setSleeping(true);
+    retryTimer = -1;
+    backoff = 0;
+  }
+
+  /** Sleeps until woken by an event, or until a retry, for when the blocking condition may change silently */
+  public void sleepAndRetry() {
+    setSleeping(true);
+    backoff = backoff == 0 ? MIN_RETRY : Math.min(backoff * 2, MAX_RETRY);
+    retryTimer = backoff;
+  }
+
+  /** Wakes the block entity, running its logic next tick */
+  public void wake() {
+    setSleeping(false);
+    backoff = 0;
+  }
+
+  /** Number of active and sleeping schedulers in a level */
+  @Getter
+  public static class Counts {
+    private int active = 0;
+    private int sleeping = 0;
+
+    /** Adds the given amount to the count for the state */
+    private void add(boolean sleeping, int amount) {
+      if (sleeping) {
+        this.sleeping += amount;
+      } else {
+        this.active += amount;
+      }
+    }
+  }
+}
@@ -55,9 +55,10 @@ public class FoundryBlockEntity extends HeatingStructureBlockEntity {
 
     // the next set of behaviors all require fuel, skip if no tanks
     if (structure.hasTanks()) {
-      // every second, interact with entities, will consume fuel if needed
+      // every 4 ticks, interact with a share of the entities, will consume fuel if needed
+      // each entity is still interacted with once a second
       boolean entityMelted = false;
-      if (tick == 12) {
+      if (tick % 4 == 0) {
         entityMelted = entityModule.interactWithEntities();
       }
 
@@ -112,6 +113,7 @@ public class FoundryBlockEntity extends HeatingStructureBlockEntity {
       // fuel rate: every 20 blocks in the wall makes the fuel cost 1 more
       // perimeter: to prevent double counting, frame just added on X and floor
       fuelRate = 1 + (2 * ((dx+2) * dy) + 2 * (dy * dz) + ((dx+2) * (dz+2))) / BLOCKS_PER_FUEL;
+      fuelModule.setBatchFuel(fuelRate * FUEL_BATCH_CYCLES);
     }
   }
 }
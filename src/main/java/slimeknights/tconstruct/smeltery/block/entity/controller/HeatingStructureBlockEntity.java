@@ -57,9 +57,11 @@ import javax.annotation.Nullable;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import static slimeknights.mantle.util.RetexturedHelper.TAG_TEXTURE;
@@ -106,6 +108,8 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
   /** Fuel module */
   @Getter
   protected final MultitankFuelModule fuelModule = new MultitankFuelModule(this, () -> structure != null ? structure.getTanks() : Collections.emptyList());
+  /** Number of fuel consumption cycles worth of fuel to drain at once, larger structures burn fuel fast enough to drain several units */
+  protected static final int FUEL_BATCH_CYCLES = 25;
   /** Current fuel consumption rate */
   protected int fuelRate = 1;
 
@@ -121,6 +125,10 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
   private int expandCounter = 0;
   /** If true, structure will check for an update next tick */
   private boolean structureUpdateQueued = false;
+  /** If true, the next structure check will detect the whole structure instead of checking changed positions */
+  private boolean fullStructureCheck = false;
+  /** Positions that changed since the last structure check */
+  private final Set<BlockPos> changedPositions = new HashSet<>();
   /** If true, fluids have changed since the last update and should be synced to the client, synced at most once every 4 ticks */
   private boolean fluidUpdateQueued = false;
   /** Cache of the bounds for the case of no structure */
@@ -231,15 +239,16 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
           expandCounter = 0;
           // instead of rechecking the whole structure, just recheck the layer above and queue an update if its usable
           if (multiblock.canExpand(structure, level)) {
-            updateStructure();
+            updateStructure(structure.getMaxPos().above());
           } else {
             updateErrorPos();
           }
         }
       } else if (tick % 4 == 0) {
         // check the next inside position to see if its a valid inner block every other tick
-        if (!multiblock.isInnerBlock(level, structure.getNextInsideCheck())) {
-          updateStructure();
+        BlockPos inside = structure.getNextInsideCheck();
+        if (!multiblock.isInnerBlock(level, inside)) {
+          updateStructure(inside);
         }
       }
 
@@ -304,6 +313,16 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
    */
   public void updateStructure() {
     structureUpdateQueued = true;
+    fullStructureCheck = true;
+  }
+
+  /**
+   * Marks the smeltery for a structure check of a single changed position
+   * @param pos  Position that changed
+   */
+  private void updateStructure(BlockPos pos) {
+    structureUpdateQueued = true;
+    changedPositions.add(pos.immutable());
   }
 
   /**
@@ -324,7 +343,16 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
     }
     boolean wasFormed = getBlockState().getValue(ControllerBlock.IN_STRUCTURE);
     StructureData oldStructure = structure;
-    StructureData newStructure = multiblock.detectMultiblock(level, worldPosition, getBlockState().getValue(BlockStateProperties.HORIZONTAL_FACING));
+    // if only a few positions changed, check just those instead of the whole structure
+    StructureData newStructure = null;
+    if (!fullStructureCheck && oldStructure != null && !changedPositions.isEmpty()) {
+      newStructure = multiblock.revalidate(level, oldStructure, worldPosition, changedPositions);
+    }
+    if (newStructure == null) {
+      newStructure = multiblock.detectMultiblock(level, worldPosition, getBlockState().getValue(BlockStateProperties.HORIZONTAL_FACING));
+    }
+    changedPositions.clear();
+    fullStructureCheck = false;
 
     // update block state
     boolean formed = newStructure != null;
@@ -346,6 +374,10 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
       // set master positions
       newStructure.assignMaster(this, oldStructure);
       setStructure(newStructure);
+
+      // structure changed, so resend the whole tank rather than changes
+      tank.queueFullSync();
+      fluidUpdateQueued = true;
     } else {
       // remove tank capability
       if (fluidCapability.isPresent()) {
@@ -387,7 +419,7 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
 
     assert level != null;
     if (multiblock.shouldUpdate(level, structure, pos, state)) {
-      updateStructure();
+      updateStructure(pos);
     }
   }
 
@@ -445,6 +477,10 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
       // mark that fluids need an update on the client
       fluidUpdateQueued = true;
       this.setChangedFast();
+      // fluid leaving the tank may make room for slots waiting on space
+      if (type != FluidChange.ADDED) {
+        meltingInventory.wakeBlocked();
+      }
     }
   }
 
@@ -610,6 +646,8 @@ public abstract class HeatingStructureBlockEntity extends NameableBlockEntity im
   public CompoundTag getUpdateTag() {
     // Tag that just syncs to client
     CompoundTag nbt = super.getUpdateTag();
+    // send the fluids as of the last sync with its version, so later deltas apply without a resync
+    nbt.put(TAG_TANK, tank.writeSynced(new CompoundTag()));
     if (structure != null) {
       nbt.put(TAG_STRUCTURE, structure.writeClientTag(this.worldPosition));
     }
@@ -127,6 +127,13 @@ public class MelterBlockEntity extends NameableBlockEntity implements ITankInven
     this.inventoryHolder.invalidate();
   }
 
+  @Override
+  public void onTankContentsChanged() {
+    ITankInventoryBlockEntity.super.onTankContentsChanged();
+    // draining the tank may make room for slots waiting on space
+    meltingInventory.wakeBlocked();
+  }
+
   /*
    * Melting
    */
@@ -61,9 +61,10 @@ public class SmelteryBlockEntity extends HeatingStructureBlockEntity {
 
     // the next set of behaviors all require fuel, skip if no tanks
     if (structure.hasTanks()) {
-      // every second, interact with entities, will consume fuel if needed
+      // every 4 ticks, interact with a share of the entities, will consume fuel if needed
+      // each entity is still interacted with once a second
       boolean entityMelted = false;
-      if (tick == 12) {
+      if (tick % 4 == 0) {
         entityMelted = entityModule.interactWithEntities();
       }
       // run in four phases alternating each tick, so each thing runs once every 4 ticks
@@ -125,6 +126,7 @@ public class SmelteryBlockEntity extends HeatingStructureBlockEntity {
       // fuel rate: every 15 blocks in the wall makes the fuel cost 1 more
       // perimeter: 2 of the X and the Z wall, one of the floor
       fuelRate = 1 + ((2 * (dx * dy) + 2 * (dy * dz) + (dx * dz))) / BLOCKS_PER_FUEL;
+      fuelModule.setBatchFuel(fuelRate * FUEL_BATCH_CYCLES);
     }
   }
 
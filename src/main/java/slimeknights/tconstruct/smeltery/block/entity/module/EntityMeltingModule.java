@@ -23,6 +23,10 @@ import slimeknights.tconstruct.library.recipe.entitymelting.EntityMeltingRecipe;
 import slimeknights.tconstruct.library.recipe.entitymelting.EntityMeltingRecipeCache;
 
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
@@ -33,6 +37,9 @@ import java.util.function.Supplier;
  */
 @RequiredArgsConstructor
 public class EntityMeltingModule {
+  /** Number of calls to {@link #interactWithEntities()} to spread the entities in the structure across */
+  public static final int PASSES = 5;
+
   // TODO: migrate to whatever mojang is doing
   private final MantleBlockEntity parent;
   private final IFluidHandler tank;
@@ -43,9 +50,15 @@ public class EntityMeltingModule {
   /** Function that returns the bounds to check for entities */
   private final Supplier<AABB> bounds;
 
+  /** Recipe for each entity type seen by this structure, null values mean the type has no recipe */
+  private final Map<EntityType<?>,EntityMeltingRecipe> recipes = new IdentityHashMap<>();
+  /** Recipe reload count when {@link #recipes} was filled */
+  private int recipeReloadCount = -1;
 
-  @Nullable
-  private EntityMeltingRecipe lastRecipe;
+  /** Entities found in the structure, interacted with over several passes */
+  private final List<Entity> entities = new ArrayList<>();
+  /** Index of the next pass over {@link #entities}, 0 means entities will be searched again */
+  private int pass = 0;
 
   /** Gets a nonnull world instance from the parent */
   private Level getLevel() {
@@ -82,17 +95,30 @@ public class EntityMeltingModule {
    */
   @Nullable
   private EntityMeltingRecipe findRecipe(EntityType<?> type) {
-    if (lastRecipe != null && lastRecipe.matches(type)) {
-      return lastRecipe;
+    // clear our recipes if the global cache cleared
+    int reloadCount = EntityMeltingRecipeCache.getReloadCount();
+    if (recipeReloadCount != reloadCount) {
+      recipes.clear();
+      recipeReloadCount = reloadCount;
     }
-    // find a new recipe if the last recipe does not match
-    EntityMeltingRecipe recipe = EntityMeltingRecipeCache.findRecipe(getLevel().getRecipeManager(), type);
-    if (recipe != null) {
-      lastRecipe = recipe;
+    if (recipes.containsKey(type)) {
+      return recipes.get(type);
     }
+    EntityMeltingRecipe recipe = lookupRecipe(type);
+    recipes.put(type, recipe);
     return recipe;
   }
 
+  /**
+   * Looks up the recipe for an entity type not yet seen by this structure
+   * @param type  Entity type
+   * @return  Recipe, or null if no recipe for this type
+   */
+  @Nullable
+  protected EntityMeltingRecipe lookupRecipe(EntityType<?> type) {
+    return EntityMeltingRecipeCache.findRecipe(getLevel().getRecipeManager(), type);
+  }
+
   /**
    * Gets the default fluid result
    * @return  Default fluid
@@ -117,19 +143,33 @@ public class EntityMeltingModule {
   }
 
   /**
-   * Interacts with entities in the structure
+   * Interacts with entities in the structure. Entities are searched on the first of every {@link #PASSES} calls,
+   * with each call interacting with an equal share of them so large mob farms do not melt everything in a single tick.
+   * Each entity is interacted with once per {@link #PASSES} calls.
    * @return True if something was melted and fuel is needed
    */
   public boolean interactWithEntities() {
     AABB boundingBox = bounds.get();
     if (boundingBox == null) {
+      entities.clear();
+      pass = 0;
       return false;
     }
+    if (pass == 0) {
+      entities.clear();
+      entities.addAll(getLevel().getEntitiesOfClass(Entity.class, boundingBox));
+    }
+    int size = entities.size();
+    int start = size * pass / PASSES;
+    int end = size * (pass + 1) / PASSES;
+    pass = (pass + 1) % PASSES;
 
     Boolean canMelt = null;
     boolean melted = false;
-    for (Entity entity : getLevel().getEntitiesOfClass(Entity.class, boundingBox)) {
-      if (!entity.isAlive()) {
+    for (int i = start; i < end; i++) {
+      Entity entity = entities.get(i);
+      // entity may have died or left the structure since we searched
+      if (!entity.isAlive() || !boundingBox.intersects(entity.getBoundingBox())) {
         continue;
       }
 
@@ -175,6 +215,10 @@ public class EntityMeltingModule {
         }
       }
     }
+    // don't hold onto entities between searches
+    if (pass == 0) {
+      entities.clear();
+    }
     return melted;
   }
 }
@@ -4,6 +4,7 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.world.inventory.ContainerData;
@@ -54,6 +55,12 @@ public abstract class FuelModule implements ContainerData {
   /** Amount to progress recipes by per time step */
   @Getter
   protected int rate = 0;
+  /**
+   * Minimum amount of fuel to gather each time liquid fuel is consumed. If larger than the fuel duration, multiple units of fuel are drained at once.
+   * Used by structures that burn fuel quickly to drain their tanks less often, temperature and rate are unaffected.
+   */
+  @Setter
+  protected int batchFuel = 0;
 
 
   /*
@@ -118,6 +125,19 @@ public abstract class FuelModule implements ContainerData {
 
   /* Fuel updating */
 
+  /**
+   * Gets the number of fuel units to consume at once to reach the batch fuel
+   * @param duration   Fuel duration of a single unit
+   * @param available  Number of units available in the tank, at least 1
+   * @return  Number of units to consume
+   */
+  protected int getBatchUnits(int duration, int available) {
+    if (duration <= 0 || batchFuel <= duration) {
+      return 1;
+    }
+    return Math.min(available, (batchFuel + duration - 1) / duration);
+  }
+
   /**
    * Trys to consume fuel from the given fluid handler
    * @param handler  Handler to consume fuel from
@@ -130,12 +150,14 @@ public abstract class FuelModule implements ContainerData {
       int amount = recipe.getAmount(fluid.getFluid());
       if (fluid.getAmount() >= amount) {
         if (consume) {
-          FluidStack drained = handler.drain(new FluidStack(fluid, amount), FluidAction.EXECUTE);
-          if (drained.getAmount() != amount) {
+          int units = getBatchUnits(recipe.getDuration(), fluid.getAmount() / amount);
+          FluidStack drained = handler.drain(new FluidStack(fluid, amount * units), FluidAction.EXECUTE);
+          if (drained.getAmount() != amount * units) {
             TConstruct.LOG.error("Invalid amount of fuel drained from tank");
           }
-          fuel += recipe.getDuration();
-          fuelQuality = recipe.getDuration();
+          int duration = recipe.getDuration() * units;
+          fuel += duration;
+          fuelQuality = duration;
           temperature = recipe.getTemperature();
           rate = recipe.getRate();
           parent.setChangedFast();
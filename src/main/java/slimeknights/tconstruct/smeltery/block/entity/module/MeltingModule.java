@@ -10,12 +10,11 @@ import net.minecraftforge.items.ItemHandlerHelper;
 import slimeknights.mantle.block.entity.MantleBlockEntity;
 import slimeknights.tconstruct.common.network.InventorySlotSyncPacket;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
-import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
 import slimeknights.tconstruct.library.recipe.melting.IMeltingContainer;
 import slimeknights.tconstruct.library.recipe.melting.IMeltingRecipe;
+import slimeknights.tconstruct.library.recipe.melting.MeltingRecipeCache;
 
 import javax.annotation.Nullable;
-import java.util.Optional;
 import java.util.function.Predicate;
 
 /**
@@ -28,9 +27,9 @@ public class MeltingModule implements IMeltingContainer, ContainerData {
   private static final String TAG_CURRENT_TIME = "time";
   private static final String TAG_REQUIRED_TIME = "required";
   private static final String TAG_REQUIRED_TEMP = "temp";
-  private static final int CURRENT_TIME = 0;
-  private static final int REQUIRED_TIME = 1;
-  private static final int REQUIRED_TEMP = 2;
+  public static final int CURRENT_TIME = 0;
+  public static final int REQUIRED_TIME = 1;
+  public static final int REQUIRED_TEMP = 2;
 
   /** Tile entity containing this melting module */
   private final MantleBlockEntity parent;
@@ -176,12 +175,11 @@ public class MeltingModule implements IMeltingContainer, ContainerData {
       return last;
     }
     // if that fails, try to find a new recipe
-    Optional<IMeltingRecipe> newRecipe = world.getRecipeManager().getRecipeFor(TinkerRecipeTypes.MELTING.get(), this, world);
-    if (newRecipe.isPresent()) {
-      lastRecipe = newRecipe.get();
-      return lastRecipe;
+    IMeltingRecipe newRecipe = MeltingRecipeCache.findRecipe(this, world);
+    if (newRecipe != null) {
+      lastRecipe = newRecipe;
     }
-    return null;
+    return newRecipe;
   }
 
   /**
@@ -1,9 +1,9 @@
 package slimeknights.tconstruct.smeltery.block.entity.module;
 
+import lombok.Getter;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
-import net.minecraft.world.inventory.ContainerData;
 import net.minecraft.world.item.ItemStack;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
@@ -16,19 +16,18 @@ import slimeknights.tconstruct.library.recipe.melting.IMeltingRecipe;
 
 import javax.annotation.Nonnull;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.function.Consumer;
 
 /**
- * Inventory composite made of a set of melting module inventories
+ * Inventory composite made of a set of melting module inventories.
+ * Slots are tracked by what they are waiting on, so heating only visits slots that can make progress:
+ * empty slots and slots without a recipe are skipped entirely, slots too hot for the current temperature sleep until the temperature changes,
+ * and slots that finished but could not fit their fluid sleep until {@link #wakeBlocked()} is called when tank space may have freed up.
  */
 public class MeltingModuleInventory implements IItemHandlerModifiable {
-  /**
-   * There are {@link Short#MAX_VALUE} data slots in a standard container instance.
-   * The smeltery requires 6 slots for fuel syncing. It also requires 3 slots per inventory slot.
-   * Thus, the largest number of slots we can have without breaking syncing is the below equation.
-   * This does leave us with 1 extra unused slot. If we add anything that uses more slots we will want to adjust this number.
-   */
-  private static final int MAX_SIZE = (Short.MAX_VALUE - 7) / 3;
+  /** Slot item updates are synced using a short index, so that limits the number of slots */
+  private static final int MAX_SIZE = Short.MAX_VALUE;
   private static final String TAG_SLOT = "slot";
   private static final String TAG_ITEMS = "items";
   private static final String TAG_SIZE = "size";
@@ -44,6 +43,18 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
   /** Number of nuggets to produce when melting an ore */
   private final IOreRate oreRate;
 
+  /** Slots with a recipe that may progress at the current temperature */
+  private final BitSet awake = new BitSet();
+  /** Slots with a recipe requiring a higher temperature than the last heating temperature */
+  private final BitSet cold = new BitSet();
+  /** Slots that finished heating but did not have space in the tank */
+  private final BitSet blocked = new BitSet();
+  /** Temperature from the last call to {@link #heatItems(int, int)} */
+  private int lastTemperature = 0;
+  /** Incremented whenever slot progress may have changed, used to skip syncing progress when nothing happened */
+  @Getter
+  private int progressVersion = 0;
+
   /**
    * Creates a new inventory with a fixed size
    * @param parent         Parent tile
@@ -174,6 +185,10 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
 
     // resize the module array
     modules = Arrays.copyOf(modules, newSize);
+    clearSlotsFrom(newSize);
+    // resizing typically changes the tank capacity
+    wakeBlocked();
+    progressVersion++;
     parent.setChangedFast();
   }
 
@@ -207,6 +222,8 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
         }
         getModule(slot).setStack(stack);
       }
+      updateSlot(slot);
+      progressVersion++;
     }
   }
 
@@ -253,6 +270,43 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
   }
 
 
+  /* Slot tracking */
+
+  /** Removes all tracking for slots from the given index onwards */
+  private void clearSlotsFrom(int start) {
+    int end = Math.max(start, Math.max(awake.length(), Math.max(cold.length(), blocked.length())));
+    awake.clear(start, end);
+    cold.clear(start, end);
+    blocked.clear(start, end);
+  }
+
+  /**
+   * Updates which set contains the given slot based on its module state
+   * @param slot  Slot to update
+   */
+  private void updateSlot(int slot) {
+    awake.clear(slot);
+    cold.clear(slot);
+    blocked.clear(slot);
+    MeltingModule module = modules[slot];
+    if (module != null) {
+      if (module.getCurrentTime() == MeltingModule.NO_SPACE) {
+        blocked.set(slot);
+      } else if (module.getRequiredTime() > 0) {
+        awake.set(slot);
+      }
+    }
+  }
+
+  /** Wakes all slots waiting on tank space, call when fluid is removed from the tank or the capacity increases */
+  public void wakeBlocked() {
+    if (!blocked.isEmpty()) {
+      awake.or(blocked);
+      blocked.clear();
+    }
+  }
+
+
   /* Heating */
 
   /**
@@ -261,7 +315,14 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
    * @return  True if a slot can heat
    */
   public boolean canHeat(int temperature) {
-    for (MeltingModule module : modules) {
+    // blocked slots cannot heat, so only need to check those with a recipe
+    return canHeat(awake, temperature) || canHeat(cold, temperature);
+  }
+
+  /** Checks if any slot in the given set can heat */
+  private boolean canHeat(BitSet slots, int temperature) {
+    for (int i = slots.nextSetBit(0); i >= 0; i = slots.nextSetBit(i + 1)) {
+      MeltingModule module = modules[i];
       if (module != null && module.canHeatItem(temperature)) {
         return true;
       }
@@ -289,9 +350,26 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
    * @param temperature  Heating structure temperature
    */
   public void heatItems(int temperature, int rate) {
-    for (MeltingModule module : modules) {
-      if (module != null) {
+    // a new temperature may be enough for slots that were too cold
+    if (temperature != lastTemperature) {
+      lastTemperature = temperature;
+      awake.or(cold);
+      cold.clear();
+    }
+    if (!awake.isEmpty()) {
+      progressVersion++;
+    }
+    for (int i = awake.nextSetBit(0); i >= 0; i = awake.nextSetBit(i + 1)) {
+      MeltingModule module = modules[i];
+      if (module == null) {
+        awake.clear(i);
+      } else if (module.getCurrentTime() != MeltingModule.NO_SPACE && module.getRequiredTime() > 0 && temperature < module.getRequiredTemp()) {
+        // too cold, nothing will happen until the temperature changes
+        awake.clear(i);
+        cold.set(i);
+      } else {
         module.heatItem(temperature, rate);
+        updateSlot(i);
       }
     }
   }
@@ -300,9 +378,25 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
    * Cools down all items in the inventory, used when there is no fuel
    */
   public void coolItems() {
-    for (MeltingModule module : modules) {
-      if (module != null) {
+    coolItems(awake);
+    coolItems(cold);
+  }
+
+  /** Cools down all items in the given set of slots */
+  private void coolItems(BitSet slots) {
+    if (!slots.isEmpty()) {
+      progressVersion++;
+    }
+    for (int i = slots.nextSetBit(0); i >= 0; i = slots.nextSetBit(i + 1)) {
+      MeltingModule module = modules[i];
+      if (module == null) {
+        slots.clear(i);
+      } else {
         module.coolItem();
+        // a slot retrying its output may have emptied or still lack space
+        if (module.getCurrentTime() == MeltingModule.NO_SPACE || module.getRequiredTime() <= 0) {
+          updateSlot(i);
+        }
       }
     }
   }
@@ -317,14 +411,14 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
     for (int i = 0; i < modules.length; i++) {
       if (modules[i] != null && !modules[i].getStack().isEmpty()) {
         CompoundTag moduleTag = modules[i].writeToTag();
-        moduleTag.putByte(TAG_SLOT, (byte)i);
+        writeIndex(moduleTag, TAG_SLOT, i);
         list.add(moduleTag);
       }
     }
     if (!list.isEmpty()) {
       nbt.put(TAG_ITEMS, list);
     }
-    nbt.putByte(TAG_SIZE, (byte)modules.length);
+    writeIndex(nbt, TAG_SIZE, modules.length);
     return nbt;
   }
 
@@ -334,11 +428,13 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
    */
   public void readFromTag(CompoundTag nbt) {
     if (!strictSize) {
-      int newSize = nbt.getByte(TAG_SIZE) & 255;
+      int newSize = readIndex(nbt, TAG_SIZE);
       if (newSize != modules.length) {
         modules = Arrays.copyOf(modules, newSize);
       }
     }
+    clearSlotsFrom(0);
+    progressVersion++;
     // remove old data
     for (MeltingModule module : modules) {
       if (module != null) {
@@ -349,25 +445,31 @@ public class MeltingModuleInventory implements IItemHandlerModifiable {
     ListTag list = nbt.getList(TAG_ITEMS, Tag.TAG_COMPOUND);
     for (int i = 0; i < list.size(); i++) {
       CompoundTag item = list.getCompound(i);
-      if (item.contains(TAG_SLOT, Tag.TAG_BYTE)) {
-        int slot = item.getByte(TAG_SLOT) & 255;
+      if (item.contains(TAG_SLOT, Tag.TAG_ANY_NUMERIC)) {
+        int slot = readIndex(item, TAG_SLOT);
         if (validSlot(slot)) {
           getModule(slot).readFromTag(item);
+          updateSlot(slot);
         }
       }
     }
   }
 
 
-  /* Container sync */
+  /** Writes a slot index or size as a byte when it fits, keeping the common case readable by older versions */
+  private static void writeIndex(CompoundTag nbt, String key, int value) {
+    if (value <= Byte.MAX_VALUE) {
+      nbt.putByte(key, (byte)value);
+    } else {
+      nbt.putInt(key, value);
+    }
+  }
 
-  /**
-   * Sets up all sub slots for tracking
-   * @param consumer  IIntArray consumer
-   */
-  public void trackInts(Consumer<ContainerData> consumer) {
-    for (int i = 0; i < getSlots(); i++) {
-      consumer.accept(getModule(i));
+  /** Reads a slot index or size, supporting the unsigned bytes used before sizes could exceed 255 */
+  private static int readIndex(CompoundTag nbt, String key) {
+    if (nbt.contains(key, Tag.TAG_BYTE)) {
+      return nbt.getByte(key) & 255;
     }
+    return nbt.getInt(key);
   }
 }
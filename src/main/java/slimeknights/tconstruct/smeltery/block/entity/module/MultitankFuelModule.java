@@ -14,10 +14,12 @@ import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.templates.EmptyFluidHandler;
 import slimeknights.mantle.block.entity.MantleBlockEntity;
 import slimeknights.mantle.util.WeakConsumerWrapper;
+import slimeknights.tconstruct.library.recipe.fuel.MeltingFuelLookup;
 import slimeknights.tconstruct.library.utils.Util;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -41,8 +43,15 @@ public class MultitankFuelModule extends FuelModule implements IFluidHandler {
     if (self.tankHandlers != null) {
       self.tankHandlers.values().remove(cap);
     }
+    self.emptyContents = null;
   });
 
+  /** Contents of each tank handler the last time a search of all tanks found no fuel, null if the next search must check the tanks */
+  @Nullable
+  private List<FluidStack> emptyContents;
+  /** Fuel reload count when {@link #emptyContents} was saved */
+  private int emptyReloadCount;
+
   public MultitankFuelModule(MantleBlockEntity parent, Supplier<List<BlockPos>> tankSupplier) {
     super(parent);
     this.tankSupplier = tankSupplier;
@@ -73,6 +82,7 @@ public class MultitankFuelModule extends FuelModule implements IFluidHandler {
       }
       tankHandlers = null;
     }
+    emptyContents = null;
   }
 
   /** Gets the map from position to fluid handler */
@@ -97,6 +107,36 @@ public class MultitankFuelModule extends FuelModule implements IFluidHandler {
 
   /* Fuel finding */
 
+  /** Checks if no tank changed since the last search that found no fuel, meaning searching again will also find nothing */
+  private boolean isUnchangedSinceEmpty() {
+    if (emptyContents == null || emptyReloadCount != MeltingFuelLookup.getReloadCount()) {
+      return false;
+    }
+    Map<BlockPos,LazyOptional<IFluidHandler>> handlers = getTankHandlers();
+    if (handlers.size() != emptyContents.size()) {
+      return false;
+    }
+    int i = 0;
+    for (LazyOptional<IFluidHandler> handler : handlers.values()) {
+      if (!handler.orElse(EmptyFluidHandler.INSTANCE).getFluidInTank(0).isFluidStackIdentical(emptyContents.get(i))) {
+        return false;
+      }
+      i++;
+    }
+    return true;
+  }
+
+  /** Saves the contents of all tanks after a search found no fuel */
+  private void saveEmptyContents() {
+    Map<BlockPos,LazyOptional<IFluidHandler>> handlers = getTankHandlers();
+    List<FluidStack> contents = new ArrayList<>(handlers.size());
+    for (LazyOptional<IFluidHandler> handler : handlers.values()) {
+      contents.add(handler.orElse(EmptyFluidHandler.INSTANCE).getFluidInTank(0).copy());
+    }
+    emptyContents = contents;
+    emptyReloadCount = MeltingFuelLookup.getReloadCount();
+  }
+
   /**
    * Tries to consume fuel from the given position
    * @param pos  Position
@@ -141,15 +181,19 @@ public class MultitankFuelModule extends FuelModule implements IFluidHandler {
       }
     }
 
-    // find a new handler among our tanks
-    for (BlockPos pos : tankSupplier.get()) {
-      // already checked the last position above, no reason to try again
-      if (!pos.equals(lastPos)) {
-        int posTemp = tryFuelPosition(pos, consume);
-        if (posTemp > 0) {
-          return posTemp;
+    // find a new handler among our tanks, unless the tanks are unchanged since the last search found nothing
+    if (!isUnchangedSinceEmpty()) {
+      emptyContents = null;
+      for (BlockPos pos : tankSupplier.get()) {
+        // already checked the last position above, no reason to try again
+        if (!pos.equals(lastPos)) {
+          int posTemp = tryFuelPosition(pos, consume);
+          if (posTemp > 0) {
+            return posTemp;
+          }
         }
       }
+      saveEmptyContents();
     }
 
     // no handler found, tell client of the lack of fuel
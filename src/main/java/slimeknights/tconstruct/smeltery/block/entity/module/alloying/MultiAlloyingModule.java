@@ -2,8 +2,8 @@ package slimeknights.tconstruct.smeltery.block.entity.module.alloying;
 
 import net.minecraft.world.level.Level;
 import slimeknights.mantle.block.entity.MantleBlockEntity;
-import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
 import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipe;
+import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipeCache;
 import slimeknights.tconstruct.library.recipe.alloying.IAlloyTank;
 import slimeknights.tconstruct.library.recipe.alloying.IMutableAlloyTank;
 
@@ -47,7 +47,7 @@ public class MultiAlloyingModule implements IAlloyingModule {
    */
   private List<AlloyRecipe> getRecipes() {
     if (lastRecipes == null) {
-      lastRecipes = getLevel().getRecipeManager().getRecipesFor(TinkerRecipeTypes.ALLOYING.get(), alloyTank, getLevel());
+      lastRecipes = AlloyRecipeCache.findRecipes(alloyTank, getLevel());
     }
     return lastRecipes;
   }
@@ -96,7 +96,8 @@ public class MultiAlloyingModule implements IAlloyingModule {
   }
 
   /**
-   * Clears the list of cached recipes, called when the tank gains a new fluid
+   * Clears the list of cached recipes, called when the tank gains a new fluid.
+   * Amount changes and removed fluids do not need to clear, as recipes that stop matching are removed from the list as they are run.
    */
   public void clearCachedRecipes() {
     lastRecipes = null;
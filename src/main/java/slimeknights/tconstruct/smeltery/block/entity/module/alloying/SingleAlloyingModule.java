@@ -3,13 +3,12 @@ package slimeknights.tconstruct.smeltery.block.entity.module.alloying;
 import lombok.RequiredArgsConstructor;
 import net.minecraft.world.level.Level;
 import slimeknights.mantle.block.entity.MantleBlockEntity;
-import slimeknights.tconstruct.library.recipe.TinkerRecipeTypes;
 import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipe;
+import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipeCache;
 import slimeknights.tconstruct.library.recipe.alloying.IMutableAlloyTank;
 
 import javax.annotation.Nullable;
 import java.util.Objects;
-import java.util.Optional;
 
 /** Alloying module that supports only a single output */
 @RequiredArgsConstructor
@@ -32,20 +31,13 @@ public class SingleAlloyingModule implements IAlloyingModule {
     }
     // fetch the first recipe that matches the inputs and fits in the tank
     // means if for some reason two recipes both are vaiud, the tank contents can be used to choose
-    Optional<AlloyRecipe> recipe = world.getRecipeManager()
-                                        .byType(TinkerRecipeTypes.ALLOYING.get())
-                                        .values().stream()
-                                        .filter(r -> r instanceof AlloyRecipe)
-                                        .map(r -> (AlloyRecipe) r)
-                                        .filter(r -> alloyTank.canFit(r.getOutput(), 0) && r.canPerform(alloyTank))
-                                        .findAny();
-    // if found, cache and return
-    if (recipe.isPresent()) {
-      lastRecipe = recipe.get();
-      return lastRecipe;
-    } else {
-      return null;
+    // canPerform checks the inputs with their amounts, so no need to check matches first
+    AlloyRecipe recipe = AlloyRecipeCache.findRecipe(alloyTank, world, r -> alloyTank.canFit(r.getOutput(), 0) && r.canPerform(alloyTank));
+    // if found, cache
+    if (recipe != null) {
+      lastRecipe = recipe;
     }
+    return recipe;
   }
 
   @Override
@@ -69,6 +69,19 @@ public abstract class HeatingStructureMultiblock<T extends MantleBlockEntity & I
     return super.detectMultiblock(world, master, facing);
   }
 
+  @Override
+  @Nullable
+  public StructureData revalidate(Level world, StructureData structure, BlockPos master, Set<BlockPos> changed) {
+    // keep tanks that did not change, changed positions will add themselves back if still a tank
+    tanks.clear();
+    for (BlockPos tank : structure.getTanks()) {
+      if (!changed.contains(tank)) {
+        tanks.add(tank);
+      }
+    }
+    return super.revalidate(world, structure, master, changed);
+  }
+
   @Override
   @Nullable
   public StructureData readFromTag(CompoundTag nbt, BlockPos controllerPos) {
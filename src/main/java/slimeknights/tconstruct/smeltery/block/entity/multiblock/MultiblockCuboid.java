@@ -25,6 +25,8 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -224,6 +226,128 @@ public abstract class MultiblockCuboid<T extends MultiblockStructureData> {
     return create(minPos, maxPos, extraBlocks.build());
   }
 
+  /**
+   * Updates an existing structure after some positions changed, checking only the changed positions instead of the whole cuboid.
+   * A failed position above the controller layer cuts the structure off below that layer, same as {@link #detectMultiblock(Level, BlockPos, Direction)} would.
+   * Changes directly above the structure detect new layers upwards. Layers cut off earlier must be detected again, as their blocks stop reporting changes once released.
+   * @param world      Level instance
+   * @param structure  Current structure, must have been detected by this multiblock
+   * @param master     Position of the master
+   * @param changed    Positions that changed since the structure was last checked
+   * @return  Updated structure, or null if the changes need a full detection. Structures with a ceiling or without a floor always need a full detection
+   */
+  @Nullable
+  public T revalidate(Level world, T structure, BlockPos master, Set<BlockPos> changed) {
+    if (!hasFloor || hasCeiling) {
+      return null;
+    }
+    BlockPos min = structure.getMinPos();
+    BlockPos max = structure.getMaxPos();
+    int floorY = min.getY();
+    // layers from the controller down were found first, so losing one of those may lose the floor
+    int centerY = Math.max(master.getY(), floorY + 1);
+    int maxY = max.getY();
+    Set<BlockPos> extra = new HashSet<>(structure.extra);
+    MultiblockResult failure = null;
+    boolean expand = false;
+
+    // go bottom up, so the lowest failing layer determines the new top
+    List<BlockPos> sorted = new ArrayList<>(changed);
+    sorted.sort(Comparator.comparingInt(BlockPos::getY));
+    for (BlockPos pos : sorted) {
+      int y = pos.getY();
+      if (y < floorY || y > maxY + 1 || pos.getX() < min.getX() || pos.getX() > max.getX() || pos.getZ() < min.getZ() || pos.getZ() > max.getZ()) {
+        continue;
+      }
+      if (y > maxY) {
+        // one above the structure, only matters if we did not lose any layers
+        expand = failure == null;
+        continue;
+      }
+      extra.remove(pos);
+      boolean edgeX = pos.getX() == min.getX() || pos.getX() == max.getX();
+      boolean edgeZ = pos.getZ() == min.getZ() || pos.getZ() == max.getZ();
+      if (y == floorY) {
+        // without a frame, floor edges are not part of the structure
+        boolean valid;
+        if (edgeX || edgeZ) {
+          valid = !hasFrame || isValidBlock(world, pos, CuboidSide.FLOOR, true);
+        } else {
+          valid = isValidBlock(world, pos, CuboidSide.FLOOR, false);
+        }
+        if (!valid) {
+          return null;
+        }
+      } else {
+        MultiblockResult result = checkLayerPosition(world, pos, edgeX, edgeZ, extra);
+        if (!result.isSuccess()) {
+          if (y <= centerY) {
+            return null;
+          }
+          maxY = y - 1;
+          failure = result;
+          expand = false;
+        }
+      }
+    }
+
+    if (failure != null) {
+      // drop anything from the layers we lost
+      int newMax = maxY;
+      extra.removeIf(pos -> pos.getY() > newMax);
+      setLastResult(failure);
+    } else if (expand) {
+      // same as the upwards search in detectMultiblock, which stops one short of the max height
+      BlockPos from = new BlockPos(min.getX(), 0, min.getZ());
+      BlockPos to = new BlockPos(max.getX(), 0, max.getZ());
+      Consumer<Collection<BlockPos>> posConsumer = extra::addAll;
+      MultiblockResult layerResult = MultiblockResult.SUCCESS;
+      for (int y = maxY + 1; y - floorY < maxHeight; y++) {
+        layerResult = detectLayer(world, from.atY(y), to.atY(y), posConsumer);
+        if (!layerResult.isSuccess()) {
+          break;
+        }
+        maxY = y;
+      }
+      setLastResult(layerResult);
+    }
+    return create(min, new BlockPos(max.getX(), maxY, max.getZ()), ImmutableSet.copyOf(extra));
+  }
+
+  /**
+   * Checks a single position in a wall layer of the structure
+   * @param world  Level instance
+   * @param pos    Position to check
+   * @param edgeX  If true, the position is on the min or max X edge
+   * @param edgeZ  If true, the position is on the min or max Z edge
+   * @param extra  Extra positions, updated if the position is a non-air inner block
+   * @return  Result of the check
+   */
+  private MultiblockResult checkLayerPosition(Level world, BlockPos pos, boolean edgeX, boolean edgeZ, Set<BlockPos> extra) {
+    // inside
+    if (!edgeX && !edgeZ) {
+      if (!isInnerBlock(world, pos)) {
+        return MultiblockResult.error(pos, INVALID_INNER_BLOCK);
+      }
+      if (!isAirBlock(world, pos)) {
+        extra.add(pos);
+      }
+      return MultiblockResult.SUCCESS;
+    }
+    // corner, only part of the structure with a frame
+    if (edgeX && edgeZ) {
+      if (hasFrame && !isValidBlock(world, pos, CuboidSide.WALL, true)) {
+        return MultiblockResult.error(pos, INVALID_WALL_FRAME);
+      }
+      return MultiblockResult.SUCCESS;
+    }
+    if (!isValidBlock(world, pos, CuboidSide.WALL, false)) {
+      return MultiblockResult.error(pos, INVALID_WALL_BLOCK);
+    }
+    return MultiblockResult.SUCCESS;
+  }
+
+
   /* Layer detection */
 
   /**
@@ -16,6 +16,7 @@ import slimeknights.tconstruct.common.multiblock.IServantLogic;
 import slimeknights.tconstruct.smeltery.block.component.SearedBlock;
 
 import javax.annotation.Nullable;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -38,6 +39,8 @@ public class MultiblockStructureData {
 
   /** Contains all positions not in the standard areas, typically inside */
   protected final Set<BlockPos> extra;
+  /** Bitmap of extra positions inside the structure, indexed by {@link #getInsideIndex(BlockPos)} */
+  private final BitSet occupied;
 
   /** Booleans to determine bound check parameters */
   private final boolean hasCeiling, hasFrame, hasFloor;
@@ -76,6 +79,19 @@ public class MultiblockStructureData {
     innerY = maxInside.getY() - minInside.getY() + 1;
     innerZ = maxInside.getZ() - minInside.getZ() + 1;
     bounds = new AABB(minInside, maxInside.offset(1, 1, 1));
+
+    // inside positions are the bulk of the checks in contains, so use a bitmap over hashing positions
+    occupied = new BitSet();
+    for (BlockPos pos : extraPositons) {
+      if (isInside(pos)) {
+        occupied.set(getInsideIndex(pos));
+      }
+    }
+  }
+
+  /** Gets the index of a position inside the structure in the occupancy bitmap */
+  private int getInsideIndex(BlockPos pos) {
+    return ((pos.getY() - minInside.getY()) * innerX + (pos.getX() - minInside.getX())) * innerZ + (pos.getZ() - minInside.getZ());
   }
 
   /**
@@ -124,7 +140,9 @@ public class MultiblockStructureData {
    */
   private boolean containsBase(BlockPos pos) {
     // blocks in the inner region are added to the extra positions, fall back to that
-    if (!isInside(pos)) {
+    if (isInside(pos)) {
+      return occupied.get(getInsideIndex(pos));
+    } else {
       // if there is a frame, shape is a full cube so the subtraction is all we need
       if (hasFrame) {
         return true;
@@ -142,7 +160,7 @@ public class MultiblockStructureData {
       }
     }
 
-    // inner blocks and frame blocks (no frame) can both be added
+    // frame blocks (no frame) can be added
     // though note checking code does not currently support finding extra frame blocks
     return extra.contains(pos);
   }
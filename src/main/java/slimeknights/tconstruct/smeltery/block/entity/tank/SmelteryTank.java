@@ -1,39 +1,67 @@
 package slimeknights.tconstruct.smeltery.block.entity.tank;
 
 import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import lombok.Getter;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import slimeknights.mantle.block.entity.MantleBlockEntity;
 import slimeknights.tconstruct.common.network.TinkerNetwork;
+import slimeknights.tconstruct.smeltery.network.SmelteryTankDeltaPacket;
 import slimeknights.tconstruct.smeltery.network.SmelteryTankUpdatePacket;
 import slimeknights.tconstruct.smeltery.block.entity.tank.ISmelteryTankHandler.FluidChange;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.ListIterator;
 
 /**
  * Fluid handler implementation for the smeltery
  */
 public class SmelteryTank<T extends MantleBlockEntity & ISmelteryTankHandler> implements IFluidHandler {
+  /** Sync version for a tank whose contents did not come from a sync packet, such as after loading from NBT */
+  public static final int UNKNOWN_VERSION = -1;
+  /** Ticks to wait for a response to a resync request before sending another */
+  private static final int RESYNC_TIMEOUT = 40;
+
   private final T parent;
   /** Fluids actually contained in the tank */
   @Getter
   private final List<FluidStack> fluids;
+  /** Index of each fluid in {@link #fluids}, to avoid comparing against every fluid on fill and drain */
+  private final Object2IntMap<FluidKey> fluidIndex = new Object2IntOpenHashMap<>();
   /** Maximum capacity of the smeltery */
   private int capacity;
   /** Current amount of fluid in the tank */
   @Getter
   private int contained;
+  /** Incremented whenever the fluids or capacity change, lets renderers know to rebuild cached geometry */
+  @Getter
+  private int changeCount = 0;
+
+  /* Sync */
+  /** Copy of the fluids as of the last sync, used server side to send only the changes */
+  private final List<FluidStack> syncedFluids = new ArrayList<>();
+  /** Version of the last synced fluids, incremented on every sync. Client side, this is the version of the fluids received from the server */
+  @Getter
+  private int syncVersion = UNKNOWN_VERSION;
+  /** If true, the next sync sends all fluids instead of the changes */
+  private boolean fullSyncQueued = true;
+  /** Game time the client last requested a resync, or -1 if no request is pending */
+  private long resyncRequestTime = -1;
 
   public SmelteryTank(T parent) {
     fluids = Lists.newArrayList();
+    fluidIndex.defaultReturnValue(-1);
     capacity = 0;
     contained = 0;
     this.parent = parent;
@@ -46,10 +74,90 @@ public class SmelteryTank<T extends MantleBlockEntity & ISmelteryTankHandler> im
     Level world = parent.getLevel();
     if (world != null && !world.isClientSide) {
       BlockPos pos = parent.getBlockPos();
-      TinkerNetwork.getInstance().sendToClientsAround(new SmelteryTankUpdatePacket(pos, fluids), world, pos);
+      int baseVersion = syncVersion;
+      int version = (baseVersion + 1) & Integer.MAX_VALUE;
+      Object packet;
+      if (fullSyncQueued || baseVersion == UNKNOWN_VERSION) {
+        packet = new SmelteryTankUpdatePacket(pos, version, fluids);
+      } else {
+        packet = SmelteryTankDeltaPacket.create(pos, baseVersion, version, syncedFluids, fluids);
+        // nothing changed since the last sync
+        if (packet == null) {
+          return;
+        }
+      }
+      fullSyncQueued = false;
+      syncVersion = version;
+      syncedFluids.clear();
+      for (FluidStack fluid : fluids) {
+        syncedFluids.add(fluid.copy());
+      }
+      TinkerNetwork.getInstance().sendToClientsAround(packet, world, pos);
     }
   }
 
+  /** Marks the next sync to send the full contents, for when the structure changes */
+  public void queueFullSync() {
+    fullSyncQueued = true;
+  }
+
+  /**
+   * Sends the fluids as of the last sync to the given player, in response to a resync request
+   * @param player  Player to receive the fluids
+   */
+  public void sendFullSync(ServerPlayer player) {
+    // pending changes will follow in the next delta, which is relative to the last synced fluids
+    List<FluidStack> fluids = syncVersion == UNKNOWN_VERSION ? this.fluids : syncedFluids;
+    TinkerNetwork.getInstance().sendTo(new SmelteryTankUpdatePacket(parent.getBlockPos(), syncVersion, fluids), player);
+  }
+
+  /**
+   * Updates the fluids from a full sync packet, client side
+   * @param version  Version of the fluids
+   * @param fluids   New fluids
+   */
+  public void applyFullSync(int version, List<FluidStack> fluids) {
+    syncVersion = version;
+    resyncRequestTime = -1;
+    parent.updateFluidsFromPacket(fluids);
+  }
+
+  /**
+   * Updates the fluids from a delta packet, client side
+   * @param baseVersion  Version the delta applies to
+   * @param version      Version after applying the delta
+   * @param delta        Changes to apply
+   * @return  True if applied, false if the delta does not match the current fluids and a resync is needed
+   */
+  public boolean applyDelta(int baseVersion, int version, SmelteryTankDeltaPacket delta) {
+    if (syncVersion == UNKNOWN_VERSION || baseVersion != syncVersion) {
+      return false;
+    }
+    List<FluidStack> updated = delta.apply(fluids);
+    if (updated == null) {
+      syncVersion = UNKNOWN_VERSION;
+      return false;
+    }
+    syncVersion = version;
+    parent.updateFluidsFromPacket(updated);
+    return true;
+  }
+
+  /**
+   * Marks that the client requested a resync
+   * @return  True if a request should be sent, false if one is already pending and has not timed out
+   */
+  public boolean requestResync() {
+    Level world = parent.getLevel();
+    long time = world == null ? 0 : world.getGameTime();
+    // if the response got lost, or was older than the rejected delta, ask again
+    if (resyncRequestTime != -1 && time >= resyncRequestTime && time - resyncRequestTime < RESYNC_TIMEOUT) {
+      return false;
+    }
+    resyncRequestTime = time;
+    return true;
+  }
+
 
   /* Capacity and space */
 
@@ -58,7 +166,10 @@ public class SmelteryTank<T extends MantleBlockEntity & ISmelteryTankHandler> im
    * @param maxCapacity  New max capacity
    */
   public void setCapacity(int maxCapacity) {
-    this.capacity = maxCapacity;
+    if (this.capacity != maxCapacity) {
+      this.capacity = maxCapacity;
+      changeCount++;
+    }
   }
 
   /**
@@ -128,11 +239,33 @@ public class SmelteryTank<T extends MantleBlockEntity & ISmelteryTankHandler> im
       FluidStack fluid = fluids.get(index);
       fluids.remove(index);
       fluids.add(0, fluid);
+      reindex(0);
+      changeCount++;
       parent.notifyFluidsChanged(FluidChange.CHANGED, FluidStack.EMPTY);
     }
   }
 
 
+  /**
+   * Gets the index of the given fluid in the tank
+   * @param fluid  Fluid to find, amount is ignored
+   * @return  Index of the fluid, or -1 if not contained
+   */
+  public int indexOf(FluidStack fluid) {
+    if (fluid.isEmpty()) {
+      return -1;
+    }
+    return fluidIndex.getInt(new FluidKey(fluid));
+  }
+
+  /** Updates the index for all fluids starting from the given position, call after fluids are moved or removed */
+  private void reindex(int start) {
+    for (int i = start; i < fluids.size(); i++) {
+      fluidIndex.put(FluidKey.stored(fluids.get(i)), i);
+    }
+  }
+
+
   /* Filling and draining */
 
   @Override
@@ -156,20 +289,22 @@ public class SmelteryTank<T extends MantleBlockEntity & ISmelteryTankHandler> im
 
     // add contained fluid amount
     contained += usable;
+    changeCount++;
 
     // check if we already have the given liquid
-    for (FluidStack fluid : fluids) {
-      if (fluid.isFluidEqual(resource)) {
-        // yup. add it
-        fluid.grow(usable);
-        parent.notifyFluidsChanged(FluidChange.CHANGED, fluid);
-        return usable;
-      }
+    int index = indexOf(resource);
+    if (index != -1) {
+      // yup. add it
+      FluidStack fluid = fluids.get(index);
+      fluid.grow(usable);
+      parent.notifyFluidsChanged(FluidChange.CHANGED, fluid);
+      return usable;
     }
 
     // not present yet, add it
     resource = resource.copy();
     resource.setAmount(usable);
+    fluidIndex.put(FluidKey.stored(resource), fluids.size());
     fluids.add(resource);
     parent.notifyFluidsChanged(FluidChange.ADDED, resource);
     return usable;
@@ -194,9 +329,12 @@ public class SmelteryTank<T extends MantleBlockEntity & ISmelteryTankHandler> im
     if (action.execute()) {
       fluid.shrink(drainable);
       contained -= drainable;
+      changeCount++;
       // if now empty, remove from the list
       if (fluid.getAmount() <= 0) {
-        fluids.remove(fluid);
+        fluids.remove(0);
+        fluidIndex.removeInt(new FluidKey(fluid));
+        reindex(0);
         parent.notifyFluidsChanged(FluidChange.REMOVED, fluid);
       } else {
         parent.notifyFluidsChanged(FluidChange.CHANGED, fluid);
@@ -211,42 +349,58 @@ public class SmelteryTank<T extends MantleBlockEntity & ISmelteryTankHandler> im
   @Override
   public FluidStack drain(FluidStack toDrain, FluidAction action) {
     // search for the resource
-    ListIterator<FluidStack> iter = fluids.listIterator();
-    while (iter.hasNext()) {
-      FluidStack fluid = iter.next();
-      if (fluid.isFluidEqual(toDrain)) {
-        // if found, determine how much we can drain
-        int drainable = Math.min(toDrain.getAmount(), fluid.getAmount());
-
-        // copy contained fluid to return for accuracy
-        FluidStack ret = fluid.copy();
-        ret.setAmount(drainable);
-
-        // update tank if executing
-        if (action.execute()) {
-          fluid.shrink(drainable);
-          contained -= drainable;
-          // if now empty, remove from the list
-          if (fluid.getAmount() <= 0) {
-            iter.remove();
-            parent.notifyFluidsChanged(FluidChange.REMOVED, fluid);
-          } else {
-            parent.notifyFluidsChanged(FluidChange.CHANGED, fluid);
-          }
-        }
+    int index = indexOf(toDrain);
+    if (index == -1) {
+      // nothing drained
+      return FluidStack.EMPTY;
+    }
 
-        return ret;
+    // if found, determine how much we can drain
+    FluidStack fluid = fluids.get(index);
+    int drainable = Math.min(toDrain.getAmount(), fluid.getAmount());
+
+    // copy contained fluid to return for accuracy
+    FluidStack ret = fluid.copy();
+    ret.setAmount(drainable);
+
+    // update tank if executing
+    if (action.execute()) {
+      fluid.shrink(drainable);
+      contained -= drainable;
+      changeCount++;
+      // if now empty, remove from the list
+      if (fluid.getAmount() <= 0) {
+        fluids.remove(index);
+        fluidIndex.removeInt(new FluidKey(fluid));
+        reindex(index);
+        parent.notifyFluidsChanged(FluidChange.REMOVED, fluid);
+      } else {
+        parent.notifyFluidsChanged(FluidChange.CHANGED, fluid);
       }
     }
 
-    // nothing drained
-    return FluidStack.EMPTY;
+    return ret;
+  }
+
+  /** Key for a fluid in the index, matching {@link FluidStack#isFluidEqual(FluidStack)} */
+  private record FluidKey(Fluid fluid, @Nullable CompoundTag tag) {
+    /** Creates a key to look up the given fluid, only valid while the fluid is unchanged */
+    private FluidKey(FluidStack stack) {
+      this(stack.getFluid(), stack.getTag());
+    }
+
+    /** Creates a key to store in the index, copying the tag so later changes to the fluid do not change its hash */
+    static FluidKey stored(FluidStack stack) {
+      CompoundTag tag = stack.getTag();
+      return new FluidKey(stack.getFluid(), tag == null ? null : tag.copy());
+    }
   }
 
   /* Saving and loading */
 
   private static final String TAG_FLUIDS = "fluids";
   private static final String TAG_CAPACITY = "capacity";
+  private static final String TAG_VERSION = "sync_version";
 
   /**
    * Updates fluids in the tank, typically from a packet
@@ -256,7 +410,10 @@ public class SmelteryTank<T extends MantleBlockEntity & ISmelteryTankHandler> im
     FluidStack oldFirst = getFluidInTank(0);
     this.fluids.clear();
     this.fluids.addAll(fluids);
+    fluidIndex.clear();
+    reindex(0);
     contained = fluids.stream().mapToInt(FluidStack::getAmount).reduce(0, Integer::sum);
+    changeCount++;
     FluidStack newFirst = getFluidInTank(0);
     if (!oldFirst.isFluidEqual(newFirst)) {
       parent.notifyFluidsChanged(FluidChange.ORDER_CHANGED, newFirst);
@@ -265,6 +422,25 @@ public class SmelteryTank<T extends MantleBlockEntity & ISmelteryTankHandler> im
 
   /** Writes the tank to NBT */
   public CompoundTag write(CompoundTag nbt) {
+    return write(nbt, fluids);
+  }
+
+  /**
+   * Writes the tank as of the last sync to NBT, along with the sync version so the client can apply the following deltas
+   * @param nbt  Tag to write into
+   * @return  Tag for the client
+   */
+  public CompoundTag writeSynced(CompoundTag nbt) {
+    if (syncVersion == UNKNOWN_VERSION) {
+      return write(nbt, fluids);
+    }
+    write(nbt, syncedFluids);
+    nbt.putInt(TAG_VERSION, syncVersion);
+    return nbt;
+  }
+
+  /** Writes the given fluids and the capacity to NBT */
+  private CompoundTag write(CompoundTag nbt, List<FluidStack> fluids) {
     ListTag list = new ListTag();
     for (FluidStack liquid : fluids) {
       CompoundTag fluidTag = new CompoundTag();
@@ -278,17 +454,30 @@ public class SmelteryTank<T extends MantleBlockEntity & ISmelteryTankHandler> im
 
   /** Reads the tank from NBT */
   public void read(CompoundTag tag) {
+    // fluids saved to disk are not tied to any sync, client side this means the next delta triggers a resync
+    syncVersion = tag.contains(TAG_VERSION, Tag.TAG_INT) ? tag.getInt(TAG_VERSION) : UNKNOWN_VERSION;
+    resyncRequestTime = -1;
+    syncedFluids.clear();
     ListTag list = tag.getList(TAG_FLUIDS, Tag.TAG_COMPOUND);
     fluids.clear();
+    fluidIndex.clear();
     contained = 0;
     for (int i = 0; i < list.size(); i++) {
       CompoundTag fluidTag = list.getCompound(i);
       FluidStack fluid = FluidStack.loadFluidStackFromNBT(fluidTag);
       if (!fluid.isEmpty()) {
+        fluidIndex.put(FluidKey.stored(fluid), fluids.size());
         fluids.add(fluid);
         contained += fluid.getAmount();
       }
     }
     capacity = tag.getInt(TAG_CAPACITY);
+    // fluids from a client tag are the synced fluids for its version
+    if (syncVersion != UNKNOWN_VERSION) {
+      for (FluidStack fluid : fluids) {
+        syncedFluids.add(fluid.copy());
+      }
+    }
+    changeCount++;
   }
 }
@@ -22,7 +22,13 @@ import slimeknights.tconstruct.smeltery.block.ChannelBlock;
 import slimeknights.tconstruct.smeltery.block.ChannelBlock.ChannelConnection;
 import slimeknights.tconstruct.smeltery.block.entity.ChannelBlockEntity;
 
+import java.util.Map;
+import java.util.WeakHashMap;
+
 public class ChannelBlockEntityRenderer implements BlockEntityRenderer<ChannelBlockEntity> {
+	/** Cached fluid quads for each channel, weak so unloaded channels are dropped */
+	private final Map<ChannelBlockEntity,FluidGeometry> fluidGeometry = new WeakHashMap<>();
+
   public ChannelBlockEntityRenderer(Context context) {}
 
 	@Override
@@ -44,14 +50,53 @@ public class ChannelBlockEntityRenderer implements BlockEntityRenderer<ChannelBl
 			return;
 		}
 
+		// edges render against blocks other than channels, the channel is not told when those change so check them each frame
+		int edges = 0;
+		for (Direction direction : Plane.HORIZONTAL) {
+			if (state.getValue(ChannelBlock.DIRECTION_MAP.get(direction)).canFlow() && te.isFlowing(direction)
+					&& !world.getBlockState(pos.relative(direction)).is(state.getBlock())) {
+				edges |= 1 << direction.get2DDataValue();
+			}
+		}
+
 		// fluid attributes
 		IClientFluidTypeExtensions attributes = IClientFluidTypeExtensions.of(fluid.getFluid());
-		TextureAtlasSprite still = FluidRenderer.getBlockSprite(attributes.getStillTexture(fluid));
-		TextureAtlasSprite flowing = FluidRenderer.getBlockSprite(attributes.getFlowingTexture(fluid));
 		VertexConsumer builder = buffer.getBuffer(MantleRenderTypes.FLUID);
-		int color = attributes.getTintColor(fluid);
-		light = FluidRenderer.withBlockLight(light, fluid.getFluid().getFluidType().getLightLevel(fluid));
+		int lightLevel = fluid.getFluid().getFluidType().getLightLevel(fluid);
+
+		// channel quads only change when the fluid, flow, or connections change, so replay them when possible
+		FluidGeometry geometry = fluidGeometry.computeIfAbsent(te, t -> new FluidGeometry());
+		ChannelKey key = new ChannelKey(te.getRenderVersion(), state, edges);
+		if (!geometry.isCurrent(key)) {
+			geometry.begin(key);
+			TextureAtlasSprite still = FluidRenderer.getBlockSprite(attributes.getStillTexture(fluid));
+			TextureAtlasSprite flowing = FluidRenderer.getBlockSprite(attributes.getFlowingTexture(fluid));
+			buildFluids(te, state, model, edges, new PoseStack(), geometry.layer(lightLevel), still, flowing, attributes.getTintColor(fluid));
+		}
+		geometry.render(matrices.last(), builder, light);
 
+		// render into the block(s) below, depends on the blocks below so is not cached
+		if (state.getValue(ChannelBlock.DOWN) && te.isFlowing(Direction.DOWN)) {
+			TextureAtlasSprite still = FluidRenderer.getBlockSprite(attributes.getStillTexture(fluid));
+			TextureAtlasSprite flowing = FluidRenderer.getBlockSprite(attributes.getFlowingTexture(fluid));
+			RenderingHelper.renderFaucetFluids(world, pos, Direction.DOWN, matrices, builder, still, flowing, attributes.getTintColor(fluid), FluidRenderer.withBlockLight(light, lightLevel));
+		}
+	}
+
+	/**
+	 * Builds the fluid quads within the channel block
+	 * @param te        Channel block entity
+	 * @param state     Channel block state
+	 * @param model     Channel fluid model
+	 * @param edges     Bitmask of horizontal sides rendering an edge, by 2D data value
+	 * @param matrices  Matrix stack relative to the channel, will be rotated while building
+	 * @param builder   Builder receiving the quads, lighting is applied on replay
+	 * @param still     Still fluid sprite
+	 * @param flowing   Flowing fluid sprite
+	 * @param color     Fluid tint color
+	 */
+	private static void buildFluids(ChannelBlockEntity te, BlockState state, ChannelFluids model, int edges, PoseStack matrices, VertexConsumer builder,
+																	TextureAtlasSprite still, TextureAtlasSprite flowing, int color) {
 		// render sides first, while doing so we will determine center "flow"
 		FluidCuboid cube;
 		boolean isRotated;
@@ -77,13 +122,13 @@ public class ChannelBlockEntityRenderer implements BlockEntityRenderer<ChannelBl
 						}
 					}
 					// render the extra edge against other blocks
-					if (!world.getBlockState(pos.relative(direction)).is(state.getBlock())) {
-						FluidRenderer.renderCuboid(matrices, builder, model.side().edge(), 0, still, flowing, color, light, false);
+					if ((edges & (1 << direction.get2DDataValue())) != 0) {
+						FluidRenderer.renderCuboid(matrices, builder, model.side().edge(), 0, still, flowing, color, 0, false);
 					}
 				} else {
 					cube = model.side().still();
 				}
-				FluidRenderer.renderCuboid(matrices, builder, cube, 0, still, flowing, color, light, false);
+				FluidRenderer.renderCuboid(matrices, builder, cube, 0, still, flowing, color, 0, false);
 				// undo rotation
 				if (isRotated) {
 					matrices.popPose();
@@ -100,18 +145,17 @@ public class ChannelBlockEntityRenderer implements BlockEntityRenderer<ChannelBl
 			isRotated = RenderingHelper.applyRotation(matrices, centerFlow);
 		}
 		// render the cube and pop back
-		FluidRenderer.renderCuboid(matrices, builder, cube, 0, still, flowing, color, light, false);
+		FluidRenderer.renderCuboid(matrices, builder, cube, 0, still, flowing, color, 0, false);
 		if (isRotated) {
 			matrices.popPose();
 		}
 
 		// render flow downwards
 		if (state.getValue(ChannelBlock.DOWN) && te.isFlowing(Direction.DOWN)) {
-			cube = model.down();
-			FluidRenderer.renderCuboid(matrices, builder, cube, 0, still, flowing, color, light, false);
-
-			// render into the block(s) below
-			RenderingHelper.renderFaucetFluids(world, pos, Direction.DOWN, matrices, builder, still, flowing, color, light);
+			FluidRenderer.renderCuboid(matrices, builder, model.down(), 0, still, flowing, color, 0, false);
 		}
 	}
+
+	/** Everything the channel fluid geometry depends on */
+	private record ChannelKey(int renderVersion, BlockState state, int edges) {}
 }
@@ -23,9 +23,14 @@ import slimeknights.tconstruct.smeltery.block.FaucetBlock;
 import slimeknights.tconstruct.smeltery.block.entity.FaucetBlockEntity;
 
 import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.function.Function;
 
 public class FaucetBlockEntityRenderer implements BlockEntityRenderer<FaucetBlockEntity> {
+  /** Cached fluid quads for each faucet, weak so unloaded faucets are dropped */
+  private final Map<FaucetBlockEntity,FluidGeometry> fluidGeometry = new WeakHashMap<>();
+
   public FaucetBlockEntityRenderer(Context context) {}
 
   @Override
@@ -45,9 +50,7 @@ public class FaucetBlockEntityRenderer implements BlockEntityRenderer<FaucetBloc
     BlockState state = tileEntity.getBlockState();
     List<FluidCuboid> fluids = FluidCuboid.REGISTRY.get(state, List.of());
     if (!fluids.isEmpty()) {
-      // if side, rotate fluid model
       Direction direction = state.getValue(FaucetBlock.FACING);
-      boolean isRotated = RenderingHelper.applyRotation(matrices, direction);
 
       // fluid props
       IClientFluidTypeExtensions attributes = IClientFluidTypeExtensions.of(renderFluid.getFluid());
@@ -56,17 +59,29 @@ public class FaucetBlockEntityRenderer implements BlockEntityRenderer<FaucetBloc
       TextureAtlasSprite still = spriteGetter.apply(attributes.getStillTexture(renderFluid));
       TextureAtlasSprite flowing = spriteGetter.apply(attributes.getFlowingTexture(renderFluid));
       FluidType fluidType = renderFluid.getFluid().getFluidType();
-      boolean isGas = fluidType.isLighterThanAir();
-      combinedLightIn = FluidRenderer.withBlockLight(combinedLightIn, fluidType.getLightLevel(renderFluid));
-
-      // render all cubes in the model
+      int lightLevel = fluidType.getLightLevel(renderFluid);
       VertexConsumer buffer = bufferIn.getBuffer(MantleRenderTypes.FLUID);
-      for (FluidCuboid cube : fluids) {
-        FluidRenderer.renderCuboid(matrices, buffer, cube, 0, still, flowing, color, combinedLightIn, isGas);
+
+      // faucet quads only change when the fluid or state changes, so replay them when possible
+      FluidGeometry geometry = fluidGeometry.computeIfAbsent(tileEntity, te -> new FluidGeometry());
+      FaucetKey key = new FaucetKey(tileEntity.getRenderVersion(), state);
+      if (!geometry.isCurrent(key)) {
+        geometry.begin(key);
+        // if side, rotate fluid model
+        PoseStack relative = new PoseStack();
+        RenderingHelper.applyRotation(relative, direction);
+        // render all cubes in the model, lighting is applied on replay
+        VertexConsumer builder = geometry.layer(lightLevel);
+        boolean isGas = fluidType.isLighterThanAir();
+        for (FluidCuboid cube : fluids) {
+          FluidRenderer.renderCuboid(relative, builder, cube, 0, still, flowing, color, 0, isGas);
+        }
       }
+      geometry.render(matrices.last(), buffer, combinedLightIn);
 
-      // render into the block(s) below
-      RenderingHelper.renderFaucetFluids(world, tileEntity.getBlockPos(), direction, matrices, buffer, still, flowing, color, combinedLightIn);
+      // render into the block(s) below, depends on the blocks below so is not cached
+      boolean isRotated = RenderingHelper.applyRotation(matrices, direction);
+      RenderingHelper.renderFaucetFluids(world, tileEntity.getBlockPos(), direction, matrices, buffer, still, flowing, color, FluidRenderer.withBlockLight(combinedLightIn, lightLevel));
 
       // if rotated, pop back rotation
       if(isRotated) {
@@ -74,4 +89,7 @@ public class FaucetBlockEntityRenderer implements BlockEntityRenderer<FaucetBloc
       }
     }
   }
+
+  /** Everything the faucet fluid geometry depends on */
+  private record FaucetKey(int renderVersion, BlockState state) {}
 }
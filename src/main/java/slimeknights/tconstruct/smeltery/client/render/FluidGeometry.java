@@ -0,0 +1,188 @@
+package slimeknights.tconstruct.smeltery.client.render;
+
+import com.mojang.blaze3d.vertex.PoseStack.Pose;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import net.minecraft.util.FastColor;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import slimeknights.mantle.client.render.FluidRenderer;
+import slimeknights.mantle.data.listener.ISafeManagerReloadListener;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * Fluid quads for a single block entity, built once relative to the block entity and replayed each frame.
+ * Rebuilding the quads each frame is expensive for large structures or many channels, while the contents rarely change.
+ * Lighting is applied on replay, so the geometry does not need rebuilding when the light level changes.
+ */
+public class FluidGeometry {
+  /** Floats per vertex: x, y, z, u, v, normal x, normal y, normal z */
+  private static final int STRIDE = 8;
+  /** Number of times resources reloaded, as reloading may move the fluid sprites */
+  private static int reloadCount = 0;
+  /** Listener to rebuild all geometry on resource reload */
+  public static final ISafeManagerReloadListener RELOAD_LISTENER = manager -> reloadCount++;
+
+  /** Vertex positions and texture coordinates */
+  private float[] vertices = new float[STRIDE * 64];
+  /** Packed ARGB color for each vertex */
+  private int[] colors = new int[64];
+  /** Number of vertices recorded */
+  private int vertexCount = 0;
+  /** Light level emitted by the fluid in each layer */
+  private final IntList layerLight = new IntArrayList();
+  /** Vertex index where each layer starts */
+  private final IntList layerStart = new IntArrayList();
+  /** If true, the recorded quads set normals, which need transforming on replay */
+  private boolean hasNormals = false;
+  /** Recorder for the current layer */
+  private final Recorder recorder = new Recorder();
+
+  /* Values the geometry was built from */
+  /** Everything the quads depend on besides resources, compared by equality */
+  @Nullable
+  private Object key;
+  private int builtReload = -1;
+
+  /**
+   * Checks if this geometry was built for the given key
+   * @param key  Key for the current state, such as a record of the values used to build the quads
+   * @return  True if the geometry can be replayed as is
+   */
+  public boolean isCurrent(Object key) {
+    return builtReload == reloadCount && key.equals(this.key);
+  }
+
+  /**
+   * Clears the geometry to start a rebuild
+   * @param key  Key for the state being built
+   */
+  public void begin(Object key) {
+    this.key = key;
+    this.builtReload = reloadCount;
+    vertexCount = 0;
+    hasNormals = false;
+    layerLight.clear();
+    layerStart.clear();
+  }
+
+  /**
+   * Starts a new fluid layer
+   * @param lightLevel  Light level emitted by the fluid
+   * @return  Consumer to record the layer's quads, in structure relative coordinates. Lighting passed to the consumer is ignored
+   */
+  public VertexConsumer layer(int lightLevel) {
+    layerLight.add(lightLevel);
+    layerStart.add(vertexCount);
+    return recorder;
+  }
+
+  /** Checks if there is nothing to render */
+  public boolean isEmpty() {
+    return vertexCount == 0;
+  }
+
+  /**
+   * Replays the recorded quads
+   * @param pose        Pose for the block entity origin
+   * @param builder     Builder to receive the quads
+   * @param brightness  Packed lighting at the block entity
+   */
+  public void render(Pose pose, VertexConsumer builder, int brightness) {
+    Matrix4f matrix = pose.pose();
+    Matrix3f normal = pose.normal();
+    int layers = layerStart.size();
+    for (int layer = 0; layer < layers; layer++) {
+      int start = layerStart.getInt(layer);
+      int end = layer + 1 < layers ? layerStart.getInt(layer + 1) : vertexCount;
+      int light = FluidRenderer.withBlockLight(brightness, layerLight.getInt(layer));
+      for (int v = start; v < end; v++) {
+        int i = v * STRIDE;
+        int color = colors[v];
+        builder.vertex(matrix, vertices[i], vertices[i + 1], vertices[i + 2])
+               .color(FastColor.ARGB32.red(color), FastColor.ARGB32.green(color), FastColor.ARGB32.blue(color), FastColor.ARGB32.alpha(color))
+               .uv(vertices[i + 3], vertices[i + 4])
+               .uv2(light);
+        if (hasNormals) {
+          builder.normal(normal, vertices[i + 5], vertices[i + 6], vertices[i + 7]);
+        }
+        builder.endVertex();
+      }
+    }
+  }
+
+  /** Vertex consumer storing the values needed by fluid render types, overlay is not used by any of them */
+  private class Recorder implements VertexConsumer {
+    private float x, y, z, u, v, nx, ny, nz;
+    private int color = -1;
+
+    @Override
+    public VertexConsumer vertex(double x, double y, double z) {
+      this.x = (float)x;
+      this.y = (float)y;
+      this.z = (float)z;
+      return this;
+    }
+
+    @Override
+    public VertexConsumer color(int red, int green, int blue, int alpha) {
+      color = FastColor.ARGB32.color(alpha, red, green, blue);
+      return this;
+    }
+
+    @Override
+    public VertexConsumer uv(float u, float v) {
+      this.u = u;
+      this.v = v;
+      return this;
+    }
+
+    @Override
+    public VertexConsumer overlayCoords(int u, int v) {
+      return this;
+    }
+
+    @Override
+    public VertexConsumer uv2(int u, int v) {
+      return this;
+    }
+
+    @Override
+    public VertexConsumer normal(float x, float y, float z) {
+      hasNormals = true;
+      nx = x;
+      ny = y;
+      nz = z;
+      return this;
+    }
+
+    @Override
+    public void endVertex() {
+      if (vertexCount == colors.length) {
+        colors = Arrays.copyOf(colors, vertexCount * 2);
+        vertices = Arrays.copyOf(vertices, vertexCount * 2 * STRIDE);
+      }
+      int i = vertexCount * STRIDE;
+      vertices[i] = x;
+      vertices[i + 1] = y;
+      vertices[i + 2] = z;
+      vertices[i + 3] = u;
+      vertices[i + 4] = v;
+      vertices[i + 5] = nx;
+      vertices[i + 6] = ny;
+      vertices[i + 7] = nz;
+      colors[vertexCount] = color;
+      vertexCount++;
+      color = -1;
+    }
+
+    @Override
+    public void defaultColor(int red, int green, int blue, int alpha) {}
+
+    @Override
+    public void unsetDefaultColor() {}
+  }
+}
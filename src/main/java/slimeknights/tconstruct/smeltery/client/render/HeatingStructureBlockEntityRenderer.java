@@ -3,6 +3,7 @@ package slimeknights.tconstruct.smeltery.client.render;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.mojang.math.Axis;
+import net.minecraft.client.Camera;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.LevelRenderer;
 import net.minecraft.client.renderer.MultiBufferSource;
@@ -14,13 +15,16 @@ import net.minecraft.client.renderer.texture.OverlayTexture;
 import net.minecraft.client.resources.model.BakedModel;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.util.Mth;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.Vec3;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraftforge.client.model.data.ModelData;
 import org.joml.Quaternionf;
+import org.joml.Vector3f;
 import slimeknights.tconstruct.common.config.Config;
 import slimeknights.tconstruct.library.client.TinkerRenderTypes;
 import slimeknights.tconstruct.library.TinkerItemDisplays;
@@ -29,8 +33,16 @@ import slimeknights.tconstruct.smeltery.block.entity.controller.HeatingStructure
 import slimeknights.tconstruct.smeltery.block.entity.module.MeltingModuleInventory;
 import slimeknights.tconstruct.smeltery.block.entity.multiblock.HeatingStructureMultiblock.StructureData;
 
+import java.util.Map;
+import java.util.WeakHashMap;
+
 public class HeatingStructureBlockEntityRenderer implements BlockEntityRenderer<HeatingStructureBlockEntity> {
   private static final float ITEM_SCALE = 15f/16f;
+  /** Distance behind the camera plane an item center may be and still be visible, a bit more than the item radius */
+  private static final float BEHIND_CAMERA = 1f;
+
+  /** Cached fluid quads for each structure, weak so unloaded structures are dropped */
+  private final Map<HeatingStructureBlockEntity,FluidGeometry> fluidGeometry = new WeakHashMap<>();
 
   public HeatingStructureBlockEntityRenderer(Context context) {}
 
@@ -75,29 +87,74 @@ public class HeatingStructureBlockEntityRenderer implements BlockEntityRenderer<
     matrices.pushPose();
     matrices.translate(minPos.getX() - pos.getX(), minPos.getY() - pos.getY(), minPos.getZ() - pos.getZ());
     // render tank fluids, use minPos for brightness
-    SmelteryTankRenderer.renderFluids(matrices, buffer, smeltery.getTank(), minPos, maxPos, LevelRenderer.getLightColor(world, minPos));
+    FluidGeometry geometry = fluidGeometry.computeIfAbsent(smeltery, s -> new FluidGeometry());
+    SmelteryTankRenderer.renderFluids(matrices, buffer, geometry, smeltery.getTank(), minPos, maxPos, LevelRenderer.getLightColor(world, minPos));
 
     // render items
+    int max = Config.CLIENT.maxSmelteryItemQuads.get();
+    if (max != 0) {
+      renderItems(smeltery, world, state, minPos, maxPos, matrices, buffer, max);
+    }
+
+    matrices.popPose();
+  }
+
+  /**
+   * Renders items in the structure, skipping those too far from or behind the camera
+   * @param smeltery  Structure block entity
+   * @param world     Level instance
+   * @param state     Controller state
+   * @param minPos    Min position inside the structure, matrices are relative to this position
+   * @param maxPos    Max position inside the structure
+   * @param matrices  Matrix stack instance
+   * @param buffer    Buffer instance
+   * @param max       Maximum number of quads to render, or -1 for no limit
+   */
+  private static void renderItems(HeatingStructureBlockEntity smeltery, Level world, BlockState state, BlockPos minPos, BlockPos maxPos, PoseStack matrices, MultiBufferSource buffer, int max) {
+    Minecraft mc = Minecraft.getInstance();
+    Camera camera = mc.gameRenderer.getMainCamera();
+    Vec3 cameraPos = camera.getPosition();
+    Vector3f look = camera.getLookVector();
+    int distance = Config.CLIENT.smelteryItemRenderDistance.get();
+    double maxDistanceSqr = distance == 0 ? Double.MAX_VALUE : distance * distance;
+    // skip the whole structure if the closest point inside is too far
+    double nearX = Mth.clamp(cameraPos.x, minPos.getX(), maxPos.getX() + 1);
+    double nearY = Mth.clamp(cameraPos.y, minPos.getY(), maxPos.getY() + 1);
+    double nearZ = Mth.clamp(cameraPos.z, minPos.getZ(), maxPos.getZ() + 1);
+    if (cameraPos.distanceToSqr(nearX, nearY, nearZ) > maxDistanceSqr) {
+      return;
+    }
+
     int xd = 1 + maxPos.getX() - minPos.getX();
     int zd = 1 + maxPos.getZ() - minPos.getZ();
     int layer = xd * zd;
     Direction facing = state.getValue(ControllerBlock.FACING);
     Quaternionf itemRotation = Axis.YP.rotationDegrees(-90.0F * (float)facing.get2DDataValue());
     MeltingModuleInventory inventory = smeltery.getMeltingInventory();
-    Minecraft mc = Minecraft.getInstance();
     ItemRenderer itemRenderer = mc.getItemRenderer();
-    int max = Config.CLIENT.maxSmelteryItemQuads.get();
-    if (max != 0) {
-      int quadsRendered = 0;
-      for (int i = 0; i < inventory.getSlots(); i++) {
+    int slots = inventory.getSlots();
+    int quadsRendered = 0;
+    for (int start = 0, height = 0; start < slots; start += layer, height++) {
+      // skip layers too far above or below the camera
+      double dy = minPos.getY() + height + 0.5 - cameraPos.y;
+      if (dy * dy > maxDistanceSqr) {
+        continue;
+      }
+      int end = Math.min(start + layer, slots);
+      for (int i = start; i < end; i++) {
         ItemStack stack = inventory.getStackInSlot(i);
         if (!stack.isEmpty()) {
           // calculate position inside the smeltery from slot index
-          int height = i / layer;
-          int layerIndex = i % layer;
+          int layerIndex = i - start;
           int offsetX = layerIndex % xd;
           int offsetZ = layerIndex / xd;
           BlockPos itemPos = minPos.offset(offsetX, height, offsetZ);
+          // cull items out of range or behind the camera
+          double dx = itemPos.getX() + 0.5 - cameraPos.x;
+          double dz = itemPos.getZ() + 0.5 - cameraPos.z;
+          if (dx * dx + dy * dy + dz * dz > maxDistanceSqr || dx * look.x() + dy * look.y() + dz * look.z() < -BEHIND_CAMERA) {
+            continue;
+          }
 
           // offset to the slot position in the structure, scale, and rotate the item
           matrices.pushPose();
@@ -114,7 +171,7 @@ public class HeatingStructureBlockEntityRenderer implements BlockEntityRenderer<
             if (model.isCustomRenderer()) {
               quadsRendered += 100;
             } else {
-              RandomSource random = smeltery.getLevel().getRandom();
+              RandomSource random = world.getRandom();
               // not setting the seed on the random and ignoring the forge layered model stuff means this is just an estimate, but since this is for the sake of performance its not a huge deal for it to be exact
               for (Direction direction : Direction.values()) {
                 quadsRendered += model.getQuads(null, direction, random, ModelData.EMPTY, null).size();
@@ -122,14 +179,12 @@ public class HeatingStructureBlockEntityRenderer implements BlockEntityRenderer<
               quadsRendered += model.getQuads(null, null, random, ModelData.EMPTY, null).size();
             }
             if (quadsRendered > max) {
-              break;
+              return;
             }
           }
         }
       }
     }
-
-    matrices.popPose();
   }
 
   @Override
@@ -24,6 +24,8 @@ public class SmelteryTankRenderer {
   private static final float FLUID_OFFSET = 0.005f;
   /** Amount to subtract from the height for fluid offset */
   private static final int HEIGHT_OFFSET = (int) (FLUID_OFFSET * 2000d);
+  /** Geometry is built relative to the structure, the pose is applied when rendered */
+  private static final Matrix4f IDENTITY = new Matrix4f();
 
   /**
    * Gets the integer bounds for rendering a fluid with the given delta
@@ -51,16 +53,38 @@ public class SmelteryTankRenderer {
   }
 
   /**
-   * Renders the smeltery tank fluids, relative to tankMinPos
+   * Renders the smeltery tank fluids, relative to tankMinPos. Quads are only rebuilt when the tank or bounds change
    * @param matrices    Matrix stack instance
    * @param buffer      Buffer instance
+   * @param geometry    Cached fluid geometry for this tank
    * @param tank        Smeltery tank
    * @param brightness  Packed lighting values
    * @param tankMinPos  Min position for fluid rendering
    * @param tankMaxPos  Max position for fluid rendering
    */
-  public static void renderFluids(PoseStack matrices, MultiBufferSource buffer, SmelteryTank<?> tank,
+  public static void renderFluids(PoseStack matrices, MultiBufferSource buffer, FluidGeometry geometry, SmelteryTank<?> tank,
                                   BlockPos tankMinPos, BlockPos tankMaxPos, int brightness) {
+    TankKey key = new TankKey(tank.getChangeCount(), tankMinPos, tankMaxPos);
+    if (!geometry.isCurrent(key)) {
+      geometry.begin(key);
+      buildFluids(geometry, tank, tankMinPos, tankMaxPos);
+    }
+    if (!geometry.isEmpty()) {
+      geometry.render(matrices.last(), buffer.getBuffer(TinkerRenderTypes.SMELTERY_FLUID), brightness);
+    }
+  }
+
+  /** Everything the tank fluid geometry depends on */
+  private record TankKey(int changeCount, BlockPos minPos, BlockPos maxPos) {}
+
+  /**
+   * Builds the quads for the smeltery tank fluids, relative to tankMinPos
+   * @param geometry    Geometry to receive the quads
+   * @param tank        Smeltery tank
+   * @param tankMinPos  Min position for fluid rendering
+   * @param tankMaxPos  Max position for fluid rendering
+   */
+  private static void buildFluids(FluidGeometry geometry, SmelteryTank<?> tank, BlockPos tankMinPos, BlockPos tankMaxPos) {
     List<FluidStack> fluids = tank.getFluids();
     // empty smeltery :(
     if(!fluids.isEmpty()) {
@@ -79,12 +103,11 @@ public class SmelteryTankRenderer {
       // one block height = 1000 mb
       int[] heights = GuiSmelteryTank.calcLiquidHeights(fluids, tank.getCapacity(), yd * 1000 - HEIGHT_OFFSET, 100);
 
-      // rendering time
-      VertexConsumer builder = buffer.getBuffer(TinkerRenderTypes.SMELTERY_FLUID);
+      // rendering time, lighting is applied when the geometry is rendered
       float curY = FLUID_OFFSET;
       for (int i = 0; i < fluids.size(); i++) {
         float h = (float) heights[i] / 1000f;
-        renderLargeFluidCuboid(matrices, builder, fluids.get(i), brightness, xd, xBounds, zd, zBounds, curY, curY + h);
+        renderLargeFluidCuboid(geometry, fluids.get(i), xd, xBounds, zd, zBounds, curY, curY + h);
         curY += h;
       }
     }
@@ -92,10 +115,8 @@ public class SmelteryTankRenderer {
 
   /**
    * Renders a large fluid cuboid
-   * @param matrices   Matrix stack intance
-   * @param builder    Builder instance
+   * @param geometry   Geometry to receive the quads
    * @param fluid      Fluid to render
-   * @param brightness Packed lighting values
    * @param xd         X size for renderer
    * @param xBounds    X positions to render
    * @param zd         Z size for renderer
@@ -103,8 +124,7 @@ public class SmelteryTankRenderer {
    * @param yMin       Min y position
    * @param yMax       Max y position
    */
-  private static void renderLargeFluidCuboid(PoseStack matrices, VertexConsumer builder, FluidStack fluid, int brightness,
-                                             int xd, float[] xBounds, int zd, float[] zBounds, float yMin, float yMax) {
+  private static void renderLargeFluidCuboid(FluidGeometry geometry, FluidStack fluid, int xd, float[] xBounds, int zd, float[] zBounds, float yMin, float yMax) {
     if(yMin >= yMax || fluid.isEmpty()) {
       return;
     }
@@ -113,7 +133,9 @@ public class SmelteryTankRenderer {
     TextureAtlasSprite still = FluidRenderer.getBlockSprite(attributes.getStillTexture(fluid));
     int color = attributes.getTintColor(fluid);
     FluidType fluidType = fluid.getFluid().getFluidType();
-    brightness = FluidRenderer.withBlockLight(brightness, fluidType.getLightLevel(fluid));
+    VertexConsumer builder = geometry.layer(fluidType.getLightLevel(fluid));
+    // lighting is applied by the geometry, so skip it here
+    int brightness = 0;
     boolean upsideDown = fluidType.isLighterThanAir();
 
     // the liquid can stretch over more blocks than the subtracted height is if yMin's decimal is bigger than yMax's decimal (causing UV over 1)
@@ -126,7 +148,7 @@ public class SmelteryTankRenderer {
     float[] yBounds = getBlockBounds(yd, yMin, yMax);
 
     // render each side
-    Matrix4f matrix = matrices.last().pose();
+    Matrix4f matrix = IDENTITY;
     Vector3f from = new Vector3f();
     Vector3f to = new Vector3f();
     int rotation = upsideDown ? 180 : 0;
@@ -2,6 +2,7 @@ package slimeknights.tconstruct.smeltery.menu;
 
 import lombok.Getter;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.Container;
 import net.minecraft.world.SimpleContainer;
 import net.minecraft.world.entity.player.Inventory;
@@ -22,6 +23,7 @@ import slimeknights.tconstruct.smeltery.block.entity.controller.HeatingStructure
 import slimeknights.tconstruct.smeltery.block.entity.module.MeltingModuleInventory;
 import slimeknights.tconstruct.smeltery.block.entity.module.MultitankFuelModule;
 import slimeknights.tconstruct.smeltery.block.entity.tank.SmelteryTank;
+import slimeknights.tconstruct.smeltery.network.MeltingProgressTracker;
 import slimeknights.tconstruct.tables.menu.module.SideInventoryContainer;
 
 import javax.annotation.Nullable;
@@ -37,6 +39,11 @@ public class HeatingStructureContainerMenu extends TriggeringMultiModuleContaine
   @Getter
   private TransferDirection transferDirection = TransferDirection.AUTO;
   private final Slot bucketResultSlot;
+  /** Syncs melting progress to the player, only set on the server */
+  @Nullable
+  private MeltingProgressTracker progressTracker = null;
+  @Nullable
+  private ServerPlayer progressPlayer = null;
   public HeatingStructureContainerMenu(int id, @Nullable Inventory inv, @Nullable HeatingStructureBlockEntity structure) {
     super(TinkerSmeltery.smelteryContainer.get(), id, inv, structure);
     bucketContainer = new SimpleContainer(2);
@@ -59,7 +66,11 @@ public class HeatingStructureContainerMenu extends TriggeringMultiModuleContaine
 
       Consumer<DataSlot> referenceConsumer = this::addDataSlot;
       ValidZeroDataSlot.trackIntArray(referenceConsumer, structure.getFuelModule());
-      inventory.trackInts(array -> ValidZeroDataSlot.trackIntArray(referenceConsumer, array));
+      // slot progress is synced separately as container data is compared every tick
+      if (inv.player instanceof ServerPlayer serverPlayer) {
+        progressPlayer = serverPlayer;
+        progressTracker = new MeltingProgressTracker(inventory, structure.getBlockPos());
+      }
     } else {
       sideInventory = null;
       bucketResultSlot = null;
@@ -76,6 +87,14 @@ public class HeatingStructureContainerMenu extends TriggeringMultiModuleContaine
     return 138;
   }
 
+  @Override
+  public void broadcastChanges() {
+    super.broadcastChanges();
+    if (progressTracker != null && progressPlayer != null) {
+      progressTracker.sync(progressPlayer);
+    }
+  }
+
   /** Updates the bucket inventory */
   private void updateBucket(Player player) {
     // changing mode means we might have an update
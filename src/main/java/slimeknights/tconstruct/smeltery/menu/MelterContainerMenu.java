@@ -4,6 +4,7 @@ import lombok.Getter;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.DataSlot;
@@ -23,6 +24,7 @@ import slimeknights.tconstruct.shared.inventory.TriggeringBaseContainerMenu;
 import slimeknights.tconstruct.smeltery.TinkerSmeltery;
 import slimeknights.tconstruct.smeltery.block.entity.controller.MelterBlockEntity;
 import slimeknights.tconstruct.smeltery.block.entity.module.MeltingModuleInventory;
+import slimeknights.tconstruct.smeltery.network.MeltingProgressTracker;
 
 import javax.annotation.Nullable;
 import java.util.function.Consumer;
@@ -35,6 +37,11 @@ public class MelterContainerMenu extends TriggeringBaseContainerMenu<MelterBlock
   private final Slot[] inputs;
   @Getter
   private boolean hasFuelSlot = false;
+  /** Syncs melting progress to the player, only set on the server */
+  @Nullable
+  private MeltingProgressTracker progressTracker = null;
+  @Nullable
+  private ServerPlayer progressPlayer = null;
   public MelterContainerMenu(int id, @Nullable Inventory inv, @Nullable MelterBlockEntity melter) {
     super(TinkerSmeltery.melterContainer.get(), id, inv, melter);
 
@@ -64,7 +71,11 @@ public class MelterContainerMenu extends TriggeringBaseContainerMenu<MelterBlock
       // syncing
       Consumer<DataSlot> referenceConsumer = this::addDataSlot;
       ValidZeroDataSlot.trackIntArray(referenceConsumer, melter.getFuelModule());
-      inventory.trackInts(array -> ValidZeroDataSlot.trackIntArray(referenceConsumer, array));
+      // slot progress is synced separately as container data is compared every tick
+      if (inv != null && inv.player instanceof ServerPlayer serverPlayer) {
+        progressPlayer = serverPlayer;
+        progressTracker = new MeltingProgressTracker(inventory, melter.getBlockPos());
+      }
     } else {
       inputs = new Slot[0];
     }
@@ -74,6 +85,14 @@ public class MelterContainerMenu extends TriggeringBaseContainerMenu<MelterBlock
     this(id, inv, getTileEntityFromBuf(buf, MelterBlockEntity.class));
   }
 
+  @Override
+  public void broadcastChanges() {
+    super.broadcastChanges();
+    if (progressTracker != null && progressPlayer != null) {
+      progressTracker.sync(progressPlayer);
+    }
+  }
+
   @Override
   public boolean clickMenuButton(Player player, int id) {
     if (0 <= id && id <= 3 && !player.isSpectator()) {
@@ -0,0 +1,127 @@
+package slimeknights.tconstruct.smeltery.network;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.event.TickEvent.Phase;
+import net.minecraftforge.event.TickEvent.ServerTickEvent;
+import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.fluids.FluidStack;
+import slimeknights.tconstruct.common.network.TinkerNetwork;
+import slimeknights.tconstruct.smeltery.network.FluidDisplayBundlePacket.Update;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Collects fluid and channel flow updates for the client during a server tick, sending them as one {@link FluidDisplayBundlePacket} per chunk at the end of the tick.
+ * Multiple updates to the same position in a tick are merged, so only the final state is sent.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class FluidDisplayBatcher {
+  /** Pending updates for each level, by chunk then position. Only accessed on the server thread */
+  private static final Map<Level,Long2ObjectMap<Map<BlockPos,Update>>> PENDING = new HashMap<>();
+  /** Number of updates queued, before merging. Only accessed on the server thread */
+  private static long queued = 0;
+  /** Number of updates sent, after merging */
+  private static long sent = 0;
+  /** Number of bundles sent */
+  private static long bundles = 0;
+  private static boolean init = false;
+
+  /** Initializes this listener */
+  public static void init() {
+    if (init) {
+      return;
+    }
+    init = true;
+    MinecraftForge.EVENT_BUS.addListener(FluidDisplayBatcher::onServerTick);
+    MinecraftForge.EVENT_BUS.addListener(FluidDisplayBatcher::onLevelUnload);
+  }
+
+  /** Gets the update for the given position, creating it if missing */
+  private static Update getUpdate(Level level, BlockPos pos) {
+    queued++;
+    return PENDING.computeIfAbsent(level, key -> new Long2ObjectOpenHashMap<>())
+                  .computeIfAbsent(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4), key -> new LinkedHashMap<>())
+                  .computeIfAbsent(pos.immutable(), Update::new);
+  }
+
+  /**
+   * Queues a fluid update to send to clients at the end of the tick, replacing any fluid queued earlier this tick
+   * @param level  Server level
+   * @param pos    Position of the block entity, must implement {@link FluidUpdatePacket.IFluidPacketReceiver} on the client
+   * @param fluid  New fluid
+   */
+  public static void queueFluid(Level level, BlockPos pos, FluidStack fluid) {
+    getUpdate(level, pos).setFluid(fluid.copy());
+  }
+
+  /**
+   * Queues a channel flow update to send to clients at the end of the tick, replacing any flow on that side queued earlier this tick
+   * @param level    Server level
+   * @param pos      Channel position
+   * @param side     Side that changed
+   * @param flowing  New flowing state
+   */
+  public static void queueFlow(Level level, BlockPos pos, Direction side, boolean flowing) {
+    getUpdate(level, pos).setFlow(side, flowing);
+  }
+
+  /** Sends all pending updates */
+  private static void onServerTick(ServerTickEvent event) {
+    if (event.phase != Phase.END || PENDING.isEmpty()) {
+      return;
+    }
+    TinkerNetwork network = TinkerNetwork.getInstance();
+    for (Map.Entry<Level,Long2ObjectMap<Map<BlockPos,Update>>> levelEntry : PENDING.entrySet()) {
+      Level level = levelEntry.getKey();
+      for (Long2ObjectMap.Entry<Map<BlockPos,Update>> chunkEntry : levelEntry.getValue().long2ObjectEntrySet()) {
+        Map<BlockPos,Update> updates = chunkEntry.getValue();
+        if (updates.isEmpty()) {
+          continue;
+        }
+        List<Update> list = new ArrayList<>(updates.values());
+        // all positions share a chunk, so any is fine for finding tracking players
+        network.sendToClientsAround(new FluidDisplayBundlePacket(list), level, list.get(0).getPos());
+        sent += list.size();
+        bundles++;
+      }
+    }
+    PENDING.clear();
+  }
+
+  /** Drops pending updates for an unloaded level */
+  private static void onLevelUnload(LevelEvent.Unload event) {
+    if (event.getLevel() instanceof Level level) {
+      PENDING.remove(level);
+    }
+  }
+
+
+  /* Stats */
+
+  /** Gets the number of updates queued since the game started */
+  public static long getQueuedUpdates() {
+    return queued;
+  }
+
+  /** Gets the number of updates sent after merging updates to the same position */
+  public static long getSentUpdates() {
+    return sent;
+  }
+
+  /** Gets the number of bundles sent since the game started, dividing {@link #getSentUpdates()} by this gives the average bundle size */
+  public static long getBundlesSent() {
+    return bundles;
+  }
+}
@@ -0,0 +1,159 @@
+package slimeknights.tconstruct.smeltery.network;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.level.Level;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.network.NetworkEvent.Context;
+import slimeknights.mantle.network.packet.IThreadsafePacket;
+import slimeknights.mantle.util.BlockEntityHelper;
+import slimeknights.tconstruct.smeltery.block.entity.ChannelBlockEntity;
+import slimeknights.tconstruct.smeltery.network.FluidUpdatePacket.IFluidPacketReceiver;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bundle of fluid and channel flow updates for positions within a single chunk, created by {@link FluidDisplayBatcher}.
+ * Each update is applied the same way as {@link FluidUpdatePacket} and {@link ChannelFlowPacket}.
+ */
+public class FluidDisplayBundlePacket implements IThreadsafePacket {
+  /** Flag set when the update contains a fluid, lower bits are the flow sides */
+  private static final int HAS_FLUID = 1 << 5;
+  /** Sides that may flow, indexed the same as the flow bits */
+  private static final Direction[] FLOW_SIDES = { Direction.DOWN, Direction.NORTH, Direction.SOUTH, Direction.WEST, Direction.EAST };
+
+  @Getter
+  private final List<Update> updates;
+
+  public FluidDisplayBundlePacket(List<Update> updates) {
+    this.updates = updates;
+  }
+
+  public FluidDisplayBundlePacket(FriendlyByteBuf buffer) {
+    int chunkX = buffer.readVarInt() << 4;
+    int chunkZ = buffer.readVarInt() << 4;
+    int size = buffer.readVarInt();
+    updates = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      int xz = buffer.readUnsignedByte();
+      int y = buffer.readVarInt();
+      // y was zigzag encoded to keep negative heights small
+      Update update = new Update(new BlockPos(chunkX + (xz >> 4), (y >>> 1) ^ -(y & 1), chunkZ + (xz & 15)));
+      int flags = buffer.readUnsignedByte();
+      update.flowMask = (byte)(flags & 31);
+      if (update.flowMask != 0) {
+        update.flowValues = buffer.readByte();
+      }
+      if ((flags & HAS_FLUID) != 0) {
+        update.fluid = buffer.readFluidStack();
+      }
+      updates.add(update);
+    }
+  }
+
+  @Override
+  public void encode(FriendlyByteBuf buffer) {
+    // all updates share a chunk, so the chunk is written once
+    BlockPos first = updates.isEmpty() ? BlockPos.ZERO : updates.get(0).pos;
+    buffer.writeVarInt(first.getX() >> 4);
+    buffer.writeVarInt(first.getZ() >> 4);
+    buffer.writeVarInt(updates.size());
+    for (Update update : updates) {
+      BlockPos pos = update.pos;
+      buffer.writeByte(((pos.getX() & 15) << 4) | (pos.getZ() & 15));
+      int y = pos.getY();
+      buffer.writeVarInt((y << 1) ^ (y >> 31));
+      buffer.writeByte(update.flowMask | (update.fluid != null ? HAS_FLUID : 0));
+      if (update.flowMask != 0) {
+        buffer.writeByte(update.flowValues);
+      }
+      if (update.fluid != null) {
+        buffer.writeFluidStack(update.fluid);
+      }
+    }
+  }
+
+  @Override
+  public void handleThreadsafe(Context context) {
+    HandleClient.handle(this);
+  }
+
+  /** Pending update for a single position */
+  @RequiredArgsConstructor
+  public static class Update {
+    @Getter
+    private final BlockPos pos;
+    /** New fluid, null if unchanged */
+    @Getter @Nullable
+    private FluidStack fluid;
+    /** Bits for each side in {@link #FLOW_SIDES} that changed */
+    private byte flowMask;
+    /** New flowing state for each side in {@link #flowMask} */
+    private byte flowValues;
+
+    /** Sets the fluid for this update */
+    void setFluid(FluidStack fluid) {
+      this.fluid = fluid;
+    }
+
+    /** Gets the index of the given side in the flow bits */
+    private static int flowIndex(Direction side) {
+      // matches the channel flow index, with up treated as down
+      return side.getAxis().isVertical() ? 0 : side.get3DDataValue() - 1;
+    }
+
+    /** Sets the flowing state for the given side */
+    void setFlow(Direction side, boolean flowing) {
+      int bit = 1 << flowIndex(side);
+      flowMask |= (byte)bit;
+      if (flowing) {
+        flowValues |= (byte)bit;
+      } else {
+        flowValues &= (byte)~bit;
+      }
+    }
+
+    /**
+     * Gets the flow state for the given side
+     * @param side  Side to check
+     * @return  New flowing state, or null if unchanged
+     */
+    @Nullable
+    public Boolean getFlow(Direction side) {
+      int bit = 1 << flowIndex(side);
+      if ((flowMask & bit) == 0) {
+        return null;
+      }
+      return (flowValues & bit) != 0;
+    }
+  }
+
+  /** Safely runs client side only code in a method only called on client */
+  private static class HandleClient {
+    private static void handle(FluidDisplayBundlePacket packet) {
+      Level level = Minecraft.getInstance().level;
+      for (Update update : packet.updates) {
+        FluidStack fluid = update.fluid;
+        if (fluid != null) {
+          BlockEntityHelper.get(IFluidPacketReceiver.class, level, update.pos).ifPresent(te -> te.updateFluidTo(fluid));
+        }
+        if (update.flowMask != 0) {
+          BlockEntityHelper.get(ChannelBlockEntity.class, level, update.pos).ifPresent(te -> {
+            for (Direction side : FLOW_SIDES) {
+              Boolean flowing = update.getFlow(side);
+              if (flowing != null) {
+                te.setFlow(side, flowing);
+              }
+            }
+          });
+        }
+      }
+    }
+  }
+}
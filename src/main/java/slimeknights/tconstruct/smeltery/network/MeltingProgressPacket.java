@@ -0,0 +1,111 @@
+package slimeknights.tconstruct.smeltery.network;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraftforge.common.capabilities.ForgeCapabilities;
+import net.minecraftforge.network.NetworkEvent.Context;
+import slimeknights.mantle.network.packet.IThreadsafePacket;
+import slimeknights.tconstruct.smeltery.block.entity.module.MeltingModule;
+import slimeknights.tconstruct.smeltery.block.entity.module.MeltingModuleInventory;
+
+/**
+ * Packet sent to a player with a melting menu open, containing the progress of each slot that changed since the last update.
+ * Replaces container data slots, which are limited in count and compared every tick.
+ */
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public class MeltingProgressPacket implements IThreadsafePacket {
+  private final BlockPos pos;
+  /** Changed slot indices, in increasing order */
+  private final int[] slots;
+  /** New current time for each slot */
+  private final int[] currentTimes;
+  /** New required time for each slot, only used if {@link #recipeChanged} is set for the slot */
+  private final int[] requiredTimes;
+  /** New required temperature for each slot, only used if {@link #recipeChanged} is set for the slot */
+  private final int[] requiredTemps;
+  /** If true, the required time and temperature are included for the slot */
+  private final boolean[] recipeChanged;
+
+  public MeltingProgressPacket(FriendlyByteBuf buffer) {
+    pos = buffer.readBlockPos();
+    int size = buffer.readVarInt();
+    slots = new int[size];
+    currentTimes = new int[size];
+    requiredTimes = new int[size];
+    requiredTemps = new int[size];
+    recipeChanged = new boolean[size];
+    int slot = -1;
+    for (int i = 0; i < size; i++) {
+      // low bit is whether the recipe is included, remaining bits are the distance from the previous slot
+      int header = buffer.readVarInt();
+      slot += (header >>> 1) + 1;
+      slots[i] = slot;
+      // current time may be NO_SPACE, so offset it to keep the varint small
+      currentTimes[i] = buffer.readVarInt() - 1;
+      if ((header & 1) != 0) {
+        recipeChanged[i] = true;
+        requiredTimes[i] = buffer.readVarInt();
+        requiredTemps[i] = buffer.readVarInt();
+      }
+    }
+  }
+
+  @Override
+  public void encode(FriendlyByteBuf buffer) {
+    buffer.writeBlockPos(pos);
+    buffer.writeVarInt(slots.length);
+    int previous = -1;
+    for (int i = 0; i < slots.length; i++) {
+      buffer.writeVarInt(((slots[i] - previous - 1) << 1) | (recipeChanged[i] ? 1 : 0));
+      previous = slots[i];
+      buffer.writeVarInt(currentTimes[i] + 1);
+      if (recipeChanged[i]) {
+        buffer.writeVarInt(requiredTimes[i]);
+        buffer.writeVarInt(requiredTemps[i]);
+      }
+    }
+  }
+
+  /**
+   * Applies this packet to the given inventory
+   * @param inventory  Inventory to update
+   */
+  public void apply(MeltingModuleInventory inventory) {
+    for (int i = 0; i < slots.length; i++) {
+      int slot = slots[i];
+      if (inventory.validSlot(slot)) {
+        MeltingModule module = inventory.getModule(slot);
+        module.set(MeltingModule.CURRENT_TIME, currentTimes[i]);
+        if (recipeChanged[i]) {
+          module.set(MeltingModule.REQUIRED_TIME, requiredTimes[i]);
+          module.set(MeltingModule.REQUIRED_TEMP, requiredTemps[i]);
+        }
+      }
+    }
+  }
+
+  @Override
+  public void handleThreadsafe(Context context) {
+    HandleClient.handle(this);
+  }
+
+  /** Safely runs client side only code in a method only called on client */
+  private static class HandleClient {
+    private static void handle(MeltingProgressPacket packet) {
+      Level level = Minecraft.getInstance().level;
+      if (level != null) {
+        BlockEntity te = level.getBlockEntity(packet.pos);
+        if (te != null) {
+          te.getCapability(ForgeCapabilities.ITEM_HANDLER)
+            .filter(cap -> cap instanceof MeltingModuleInventory)
+            .ifPresent(cap -> packet.apply((MeltingModuleInventory)cap));
+        }
+      }
+    }
+  }
+}
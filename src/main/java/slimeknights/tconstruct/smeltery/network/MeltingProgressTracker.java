@@ -0,0 +1,105 @@
+package slimeknights.tconstruct.smeltery.network;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerPlayer;
+import slimeknights.tconstruct.common.network.TinkerNetwork;
+import slimeknights.tconstruct.smeltery.block.entity.module.MeltingModuleInventory;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+
+/**
+ * Tracks the melting progress last sent to a single player, sending {@link MeltingProgressPacket} with any changes.
+ * Created by melting menus on the server, which call {@link #sync(ServerPlayer)} each time they broadcast changes.
+ */
+public class MeltingProgressTracker {
+  /** Number of ticks between progress updates, matches the rate at which melting structures heat their items */
+  private static final int SYNC_INTERVAL = 4;
+  /** Placeholder for values never sent to the client, cannot match any real value */
+  private static final int UNSENT = Integer.MIN_VALUE;
+
+  private final MeltingModuleInventory inventory;
+  private final BlockPos pos;
+  /** Inventory version as of the last sync, -1 if nothing was sent */
+  private int sentVersion = -1;
+  /** Values last sent for each slot */
+  private int[] sentTimes = new int[0];
+  private int[] sentRequiredTimes = new int[0];
+  private int[] sentRequiredTemps = new int[0];
+  /** Ticks until the next sync */
+  private int cooldown = 0;
+
+  public MeltingProgressTracker(MeltingModuleInventory inventory, BlockPos pos) {
+    this.inventory = inventory;
+    this.pos = pos;
+  }
+
+  /**
+   * Sends any progress changes to the given player, throttled to once every few ticks
+   * @param player  Player viewing the inventory
+   */
+  public void sync(ServerPlayer player) {
+    if (cooldown > 0) {
+      cooldown--;
+      return;
+    }
+    cooldown = SYNC_INTERVAL - 1;
+    MeltingProgressPacket packet = createPacket();
+    if (packet != null) {
+      TinkerNetwork.getInstance().sendTo(packet, player);
+    }
+  }
+
+  /**
+   * Creates a packet with all slots that changed since the last call, updating the sent values
+   * @return  Packet, or null if nothing changed
+   */
+  @Nullable
+  MeltingProgressPacket createPacket() {
+    int version = inventory.getProgressVersion();
+    int size = inventory.getSlots();
+    if (version == sentVersion && size == sentTimes.length) {
+      return null;
+    }
+    sentVersion = version;
+    // the client may have any values for new slots, such as from the block entity sync, so always send them once
+    int oldSize = sentTimes.length;
+    if (size != oldSize) {
+      sentTimes = Arrays.copyOf(sentTimes, size);
+      sentRequiredTimes = Arrays.copyOf(sentRequiredTimes, size);
+      sentRequiredTemps = Arrays.copyOf(sentRequiredTemps, size);
+      if (size > oldSize) {
+        Arrays.fill(sentRequiredTimes, oldSize, size, UNSENT);
+      }
+    }
+
+    int[] slots = new int[size];
+    int[] currentTimes = new int[size];
+    int[] requiredTimes = new int[size];
+    int[] requiredTemps = new int[size];
+    boolean[] recipeChanged = new boolean[size];
+    int changed = 0;
+    for (int i = 0; i < size; i++) {
+      int currentTime = inventory.getCurrentTime(i);
+      int requiredTime = inventory.getRequiredTime(i);
+      int requiredTemp = inventory.getRequiredTemp(i);
+      boolean recipe = requiredTime != sentRequiredTimes[i] || requiredTemp != sentRequiredTemps[i];
+      if (recipe || currentTime != sentTimes[i]) {
+        slots[changed] = i;
+        currentTimes[changed] = currentTime;
+        requiredTimes[changed] = requiredTime;
+        requiredTemps[changed] = requiredTemp;
+        recipeChanged[changed] = recipe;
+        changed++;
+        sentTimes[i] = currentTime;
+        sentRequiredTimes[i] = requiredTime;
+        sentRequiredTemps[i] = requiredTemp;
+      }
+    }
+    if (changed == 0) {
+      return null;
+    }
+    return new MeltingProgressPacket(pos, Arrays.copyOf(slots, changed), Arrays.copyOf(currentTimes, changed),
+                                     Arrays.copyOf(requiredTimes, changed), Arrays.copyOf(requiredTemps, changed), Arrays.copyOf(recipeChanged, changed));
+  }
+}
@@ -0,0 +1,180 @@
+package slimeknights.tconstruct.smeltery.network;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.network.NetworkEvent.Context;
+import slimeknights.mantle.network.packet.IThreadsafePacket;
+import slimeknights.mantle.util.BlockEntityHelper;
+import slimeknights.tconstruct.common.network.TinkerNetwork;
+import slimeknights.tconstruct.smeltery.block.entity.tank.ISmelteryTankHandler;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packet sent when the contents of the smeltery tank change, containing only the changes since the last sync.
+ * Each fluid in the new list either references its index in the previous list, with a new amount if it changed, or is sent in full if new.
+ * Fluids in the previous list that are not referenced were removed. If the client did not receive the previous list, it requests a full resync using {@link SmelteryTankResyncPacket}.
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SmelteryTankDeltaPacket implements IThreadsafePacket {
+  /** Value in {@link #amounts} for a fluid whose amount did not change */
+  public static final int UNCHANGED = -1;
+
+  private final BlockPos pos;
+  /** Version of the tank this delta applies to */
+  private final int baseVersion;
+  /** Version of the tank after applying this delta */
+  private final int version;
+  /** For each fluid in the new list, its index in the previous list, or -1 if the fluid is new */
+  private final int[] sources;
+  /** For each fluid in the new list, its new amount, or {@link #UNCHANGED} */
+  private final int[] amounts;
+  /** Fluids not contained in the previous list, in order of their position in the new list */
+  private final List<FluidStack> added;
+
+  /**
+   * Creates a packet to update the client from the old fluid list to the new fluid list
+   * @param pos          Tank position
+   * @param baseVersion  Version of the old fluids
+   * @param version      Version of the new fluids
+   * @param oldFluids    Fluids as of the last sync
+   * @param newFluids    Current fluids
+   * @return  Packet, or null if nothing changed
+   */
+  @Nullable
+  public static SmelteryTankDeltaPacket create(BlockPos pos, int baseVersion, int version, List<FluidStack> oldFluids, List<FluidStack> newFluids) {
+    int size = newFluids.size();
+    int[] sources = new int[size];
+    int[] amounts = new int[size];
+    List<FluidStack> added = new ArrayList<>();
+    boolean changed = size != oldFluids.size();
+    for (int i = 0; i < size; i++) {
+      FluidStack fluid = newFluids.get(i);
+      int source = -1;
+      for (int j = 0; j < oldFluids.size(); j++) {
+        if (oldFluids.get(j).isFluidEqual(fluid)) {
+          source = j;
+          break;
+        }
+      }
+      sources[i] = source;
+      if (source == -1) {
+        added.add(fluid);
+        amounts[i] = UNCHANGED;
+        changed = true;
+      } else {
+        int amount = fluid.getAmount();
+        if (amount == oldFluids.get(source).getAmount()) {
+          amounts[i] = UNCHANGED;
+        } else {
+          amounts[i] = amount;
+          changed = true;
+        }
+        if (source != i) {
+          changed = true;
+        }
+      }
+    }
+    if (!changed) {
+      return null;
+    }
+    return new SmelteryTankDeltaPacket(pos, baseVersion, version, sources, amounts, added);
+  }
+
+  public SmelteryTankDeltaPacket(FriendlyByteBuf buffer) {
+    pos = buffer.readBlockPos();
+    baseVersion = buffer.readVarInt();
+    version = buffer.readVarInt();
+    int size = buffer.readVarInt();
+    sources = new int[size];
+    amounts = new int[size];
+    added = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      // low bit is whether the amount is included, remaining bits are the source index plus 1
+      int header = buffer.readVarInt();
+      int source = (header >> 1) - 1;
+      sources[i] = source;
+      amounts[i] = UNCHANGED;
+      if (source == -1) {
+        added.add(buffer.readFluidStack());
+      } else if ((header & 1) != 0) {
+        amounts[i] = buffer.readVarInt();
+      }
+    }
+  }
+
+  @Override
+  public void encode(FriendlyByteBuf buffer) {
+    buffer.writeBlockPos(pos);
+    buffer.writeVarInt(baseVersion);
+    buffer.writeVarInt(version);
+    buffer.writeVarInt(sources.length);
+    int addedIndex = 0;
+    for (int i = 0; i < sources.length; i++) {
+      int source = sources[i];
+      boolean hasAmount = source != -1 && amounts[i] != UNCHANGED;
+      buffer.writeVarInt(((source + 1) << 1) | (hasAmount ? 1 : 0));
+      if (source == -1) {
+        buffer.writeFluidStack(added.get(addedIndex));
+        addedIndex++;
+      } else if (hasAmount) {
+        buffer.writeVarInt(amounts[i]);
+      }
+    }
+  }
+
+  /**
+   * Applies this delta to the given fluid list
+   * @param fluids  Fluids as of {@link #baseVersion}
+   * @return  Updated fluid list, or null if the delta does not match the list
+   */
+  @Nullable
+  public List<FluidStack> apply(List<FluidStack> fluids) {
+    List<FluidStack> updated = new ArrayList<>(sources.length);
+    int addedIndex = 0;
+    for (int i = 0; i < sources.length; i++) {
+      int source = sources[i];
+      if (source == -1) {
+        if (addedIndex >= added.size()) {
+          return null;
+        }
+        updated.add(added.get(addedIndex).copy());
+        addedIndex++;
+      } else {
+        if (source >= fluids.size()) {
+          return null;
+        }
+        FluidStack fluid = fluids.get(source).copy();
+        if (amounts[i] != UNCHANGED) {
+          fluid.setAmount(amounts[i]);
+        }
+        updated.add(fluid);
+      }
+    }
+    return updated;
+  }
+
+  @Override
+  public void handleThreadsafe(Context context) {
+    HandleClient.handle(this);
+  }
+
+  private static class HandleClient {
+    private static void handle(SmelteryTankDeltaPacket packet) {
+      BlockEntityHelper.get(ISmelteryTankHandler.class, Minecraft.getInstance().level, packet.pos).ifPresent(te -> {
+        if (!te.getTank().applyDelta(packet.baseVersion, packet.version, packet)) {
+          // missed an update or never had the full list, ask for the whole tank
+          if (te.getTank().requestResync()) {
+            TinkerNetwork.getInstance().sendToServer(new SmelteryTankResyncPacket(packet.pos));
+          }
+        }
+      });
+    }
+  }
+}
@@ -0,0 +1,41 @@
+package slimeknights.tconstruct.smeltery.network;
+
+import lombok.AllArgsConstructor;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkEvent.Context;
+import slimeknights.mantle.network.packet.IThreadsafePacket;
+import slimeknights.mantle.util.BlockEntityHelper;
+import slimeknights.tconstruct.smeltery.block.entity.tank.ISmelteryTankHandler;
+
+/**
+ * Packet sent by the client when it receives a {@link SmelteryTankDeltaPacket} it cannot apply, requesting the full tank contents
+ */
+@AllArgsConstructor
+public class SmelteryTankResyncPacket implements IThreadsafePacket {
+  private final BlockPos pos;
+
+  public SmelteryTankResyncPacket(FriendlyByteBuf buffer) {
+    pos = buffer.readBlockPos();
+  }
+
+  @Override
+  public void encode(FriendlyByteBuf buffer) {
+    buffer.writeBlockPos(pos);
+  }
+
+  @Override
+  public void handleThreadsafe(Context context) {
+    ServerPlayer sender = context.getSender();
+    if (sender != null) {
+      ServerLevel level = sender.serverLevel();
+      // don't let clients load chunks or fetch tanks outside their view distance
+      double maxDistance = (level.getServer().getPlayerList().getViewDistance() + 1) * 16;
+      if (level.isLoaded(pos) && sender.distanceToSqr(pos.getX() + 0.5, pos.getY() + 0.5, pos.getZ() + 0.5) <= maxDistance * maxDistance) {
+        BlockEntityHelper.get(ISmelteryTankHandler.class, level, pos).ifPresent(te -> te.getTank().sendFullSync(sender));
+      }
+    }
+  }
+}
@@ -14,15 +14,19 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * Packet sent whenever the contents of the smeltery tank change
+ * Packet sent with the full contents of the smeltery tank, used when the structure changes or the client requests a resync.
+ * Other changes are sent using {@link SmelteryTankDeltaPacket}.
  */
 @AllArgsConstructor
 public class SmelteryTankUpdatePacket implements IThreadsafePacket {
   private final BlockPos pos;
+  /** Version of the tank contents, see {@link slimeknights.tconstruct.smeltery.block.entity.tank.SmelteryTank#getSyncVersion()} */
+  private final int version;
   private final List<FluidStack> fluids;
 
   public SmelteryTankUpdatePacket(FriendlyByteBuf buffer) {
     pos = buffer.readBlockPos();
+    version = buffer.readVarInt();
     int size = buffer.readVarInt();
     fluids = new ArrayList<>(size);
     for (int i = 0; i < size; i++) {
@@ -33,6 +37,7 @@ public class SmelteryTankUpdatePacket implements IThreadsafePacket {
   @Override
   public void encode(FriendlyByteBuf buffer) {
     buffer.writeBlockPos(pos);
+    buffer.writeVarInt(version);
     buffer.writeVarInt(fluids.size());
     for (FluidStack fluid : fluids) {
       buffer.writeFluidStack(fluid);
@@ -46,7 +51,7 @@ public class SmelteryTankUpdatePacket implements IThreadsafePacket {
 
   private static class HandleClient {
     private static void handle(SmelteryTankUpdatePacket packet) {
-      BlockEntityHelper.get(ISmelteryTankHandler.class, Minecraft.getInstance().level, packet.pos).ifPresent(te -> te.updateFluidsFromPacket(packet.fluids));
+      BlockEntityHelper.get(ISmelteryTankHandler.class, Minecraft.getInstance().level, packet.pos).ifPresent(te -> te.getTank().applyFullSync(packet.version, packet.fluids));
     }
   }
 }
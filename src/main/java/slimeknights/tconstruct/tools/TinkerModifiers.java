@@ -155,6 +155,7 @@ import slimeknights.tconstruct.library.tools.capability.fluid.ToolTankHelper;
 import slimeknights.tconstruct.library.tools.capability.inventory.InventoryMenuModule;
 import slimeknights.tconstruct.library.tools.capability.inventory.InventoryModule;
 import slimeknights.tconstruct.library.tools.capability.inventory.InventorySlotMenuModule;
+import slimeknights.tconstruct.library.tools.nbt.ToolNBTCache;
 import slimeknights.tconstruct.shared.TinkerEffects;
 import slimeknights.tconstruct.tables.TinkerTables;
 import slimeknights.tconstruct.tools.data.EnchantmentToModifierProvider;
@@ -297,6 +298,7 @@ public final class TinkerModifiers extends TinkerModule {
   public TinkerModifiers() {
     ModifierManager.INSTANCE.init();
     DynamicModifier.init();
+    ToolNBTCache.init();
     FluidEffectManager.INSTANCE.init();
     MODIFIERS.register(FMLJavaModLoadingContext.get().getModEventBus());
     TinkerDataKeys.init();
@@ -48,6 +48,7 @@ import slimeknights.tconstruct.library.client.model.DynamicTextureLoader;
 import slimeknights.tconstruct.library.client.model.TinkerItemProperties;
 import slimeknights.tconstruct.library.client.model.tools.MaterialModel;
 import slimeknights.tconstruct.library.client.model.tools.ToolModel;
+import slimeknights.tconstruct.library.client.model.tools.ToolModelCache;
 import slimeknights.tconstruct.library.client.modifiers.DyedModifierModel;
 import slimeknights.tconstruct.library.client.modifiers.FluidModifierModel;
 import slimeknights.tconstruct.library.client.modifiers.MaterialModifierModel;
@@ -100,6 +101,7 @@ public class ToolClientEvents extends ClientEventBase {
     ModifierModelManager.init(manager);
     MaterialTooltipCache.init(manager);
     DynamicTextureLoader.init(manager);
+    ToolModelCache.init(manager);
     manager.registerReloadListener(MODIFIER_RELOAD_LISTENER);
     manager.registerReloadListener(SlimeskullArmorModel.RELOAD_LISTENER);
     manager.registerReloadListener(HarvestTiers.RELOAD_LISTENER);
@@ -96,7 +96,7 @@ public class EquipmentChangeWatcher {
     // first, fire event to notify an item was removed
     IToolStackView tool = context.getOriginalTool();
     if (tool != null) {
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHooks.EQUIPMENT_CHANGE)) {
         entry.getHook(ModifierHooks.EQUIPMENT_CHANGE).onUnequip(tool, entry, context);
       }
     }
@@ -104,7 +104,7 @@ public class EquipmentChangeWatcher {
     // next, fire event to notify an item was added
     tool = context.getReplacementTool();
     if (tool != null) {
-      for (ModifierEntry entry : tool.getModifierList()) {
+      for (ModifierEntry entry : tool.getModifierList(ModifierHooks.EQUIPMENT_CHANGE)) {
         entry.getHook(ModifierHooks.EQUIPMENT_CHANGE).onEquip(tool, entry, context);
       }
     }
@@ -114,7 +114,7 @@ public class EquipmentChangeWatcher {
       if (otherSlot != changedSlot) {
         tool = context.getToolInSlot(otherSlot);
         if (tool != null) {
-          for (ModifierEntry entry : tool.getModifierList()) {
+          for (ModifierEntry entry : tool.getModifierList(ModifierHooks.EQUIPMENT_CHANGE)) {
             entry.getHook(ModifierHooks.EQUIPMENT_CHANGE).onEquipmentChange(tool, entry, context, otherSlot);
           }
         }
@@ -97,7 +97,7 @@ public class ToolEvents {
           float miningSpeedModifier = Modifier.getMiningModifier(player);
           boolean isEffective = stack.isCorrectToolForDrops(event.getState());
           Direction direction = BlockSideHitListener.getSideHit(player);
-          for (ModifierEntry entry : tool.getModifierList()) {
+          for (ModifierEntry entry : tool.getModifierList(ModifierHooks.BREAK_SPEED)) {
             entry.getHook(ModifierHooks.BREAK_SPEED).onBreakSpeed(tool, entry, event, direction, isEffective, miningSpeedModifier);
             // if any modifier cancels mining, stop right here
             if (event.isCanceled()) {
@@ -199,7 +199,7 @@ public class ToolEvents {
         if (ModifierUtil.validArmorSlot(entity, slotType)) {
           IToolStackView toolStack = context.getToolInSlot(slotType);
           if (toolStack != null && !toolStack.isBroken()) {
-            for (ModifierEntry entry : toolStack.getModifierList()) {
+            for (ModifierEntry entry : toolStack.getModifierList(ModifierHooks.DAMAGE_BLOCK)) {
               if (entry.getHook(ModifierHooks.DAMAGE_BLOCK).isDamageBlocked(toolStack, entry, context, slotType, source, amount)) {
                 event.setCanceled(true);
                 return;
@@ -221,7 +221,7 @@ public class ToolEvents {
         for (EquipmentSlot slotType : ModifiableArmorMaterial.ARMOR_SLOTS) {
           IToolStackView toolStack = context.getToolInSlot(slotType);
           if (toolStack != null && !toolStack.isBroken()) {
-            for (ModifierEntry entry : toolStack.getModifierList()) {
+            for (ModifierEntry entry : toolStack.getModifierList(ModifierHooks.DAMAGE_DEALT)) {
               entry.getHook(ModifierHooks.DAMAGE_DEALT).onDamageDealt(toolStack, entry, context, slotType, entity, source, amount, isDirectDamage);
             }
           }
@@ -288,7 +288,7 @@ public class ToolEvents {
         if (ModifierUtil.validArmorSlot(entity, slotType)) {
           IToolStackView tool = context.getToolInSlot(slotType);
           if (tool != null && !tool.isBroken()) {
-            for (ModifierEntry entry : tool.getModifierList()) {
+            for (ModifierEntry entry : tool.getModifierList(ModifierHooks.PROTECTION)) {
               modifierValue = entry.getHook(ModifierHooks.PROTECTION).getProtectionModifier(tool, entry, context, slotType, source, modifierValue);
             }
           }
@@ -385,7 +385,7 @@ public class ToolEvents {
       ItemStack boots = living.getItemBySlot(EquipmentSlot.FEET);
       if (!boots.isEmpty() && boots.is(TinkerTags.Items.BOOTS)) {
         ToolStack tool = ToolStack.from(boots);
-        for (ModifierEntry entry : tool.getModifierList()) {
+        for (ModifierEntry entry : tool.getModifierList(ModifierHooks.BOOT_WALK)) {
           entry.getHook(ModifierHooks.BOOT_WALK).onWalk(tool, entry, living, living.lastPos, pos);
         }
       }
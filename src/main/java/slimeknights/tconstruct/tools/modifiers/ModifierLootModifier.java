@@ -18,6 +18,7 @@ import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.modifiers.ModifierHooks;
 import slimeknights.tconstruct.library.tools.capability.EntityModifierCapability;
 import slimeknights.tconstruct.library.tools.capability.PersistentDataCapability;
+import slimeknights.tconstruct.library.tools.helper.DropAggregator;
 import slimeknights.tconstruct.library.tools.helper.ModifierLootingHandler;
 import slimeknights.tconstruct.library.tools.nbt.DummyToolStack;
 import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
@@ -60,6 +61,7 @@ public class ModifierLootModifier extends LootModifier {
           for (ModifierEntry entry : modifiers) {
             entry.getHook(ModifierHooks.PROCESS_LOOT).processLoot(dummyTool, entry, generatedLoot, context);
           }
+          consolidate(generatedLoot);
         }
         // don't run held item hook for projectiles, if you didn't put the modifier on the projectile we shouldn't count it
         return generatedLoot;
@@ -74,14 +76,22 @@ public class ModifierLootModifier extends LootModifier {
     if (stack != null && stack.is(TinkerTags.Items.LOOT_CAPABLE_TOOL)) {
       ToolStack tool = ToolStack.from(stack);
       if (!tool.isBroken()) {
-        for (ModifierEntry entry : tool.getModifierList()) {
+        for (ModifierEntry entry : tool.getModifierList(ModifierHooks.PROCESS_LOOT)) {
           entry.getHook(ModifierHooks.PROCESS_LOOT).processLoot(tool, entry, generatedLoot, context);
         }
+        consolidate(generatedLoot);
       }
     }
     return generatedLoot;
   }
 
+  /** Merges identical stacks in the loot, as modifiers such as severing and autosmelt often produce duplicates */
+  private static void consolidate(ObjectArrayList<ItemStack> generatedLoot) {
+    if (DropAggregator.isEnabled()) {
+      DropAggregator.merge(generatedLoot);
+    }
+  }
+
   @Override
   public Codec<? extends IGlobalLootModifier> codec() {
     return CODEC;
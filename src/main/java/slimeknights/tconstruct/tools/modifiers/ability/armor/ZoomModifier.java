@@ -25,7 +25,7 @@ import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 import slimeknights.tconstruct.tools.modifiers.ability.interaction.BlockingModifier;
 
 public class ZoomModifier extends NoLevelsModifier implements KeybindInteractModifierHook, GeneralInteractionModifierHook, EquipmentChangeModifierHook {
-  private static final ResourceLocation ZOOM = TConstruct.getResource("zoom");
+  private static final ResourceLocation ZOOM = TConstruct.getDataKey("zoom");
 
   @Override
   protected void registerHooks(Builder hookBuilder) {
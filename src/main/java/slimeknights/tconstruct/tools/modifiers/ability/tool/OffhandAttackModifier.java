@@ -26,7 +26,7 @@ import slimeknights.tconstruct.library.tools.nbt.ToolDataNBT;
 import slimeknights.tconstruct.library.tools.stat.ToolStats;
 
 public class OffhandAttackModifier extends NoLevelsModifier implements EntityInteractionModifierHook, GeneralInteractionModifierHook, EquipmentChangeModifierHook, VolatileDataModifierHook {
-  public static final ResourceLocation DUEL_WIELDING = TConstruct.getResource("duel_wielding");
+  public static final ResourceLocation DUEL_WIELDING = TConstruct.getDataKey("duel_wielding");
 
   @Override
   protected void registerHooks(Builder hookBuilder) {
@@ -24,7 +24,7 @@ import java.util.List;
 /** Modifier that adds a variable number of slots to a tool. Could easily be done via Tag editing, but this makes it easier */
 public class CreativeSlotModifier extends NoLevelsModifier implements VolatileDataModifierHook, ModifierRemovalHook {
   /** Key representing the slots object in the modifier */
-  public static final ResourceLocation KEY_SLOTS = TConstruct.getResource("creative");
+  public static final ResourceLocation KEY_SLOTS = TConstruct.getDataKey("creative");
 
   @Override
   protected void registerHooks(Builder hookBuilder) {
@@ -37,9 +37,9 @@ import java.util.function.Consumer;
 /** Modifier to directly modify a tool's stats */
 public class StatOverrideModifier extends NoLevelsModifier implements ToolStatsModifierHook, ModifierRemovalHook {
   /** Key of all stats added to the tool */
-  private static final ResourceLocation KEY_BONUS = TConstruct.getResource("override_bonus");
+  private static final ResourceLocation KEY_BONUS = TConstruct.getDataKey("override_bonus");
   /** Key of all stats multiplied by the tool */
-  private static final ResourceLocation KEY_MULTIPLY = TConstruct.getResource("override_multiplier");
+  private static final ResourceLocation KEY_MULTIPLY = TConstruct.getDataKey("override_multiplier");
   /** Prefix for adding bonuses to the tooltip */
   private static final Component LANG_BONUS = TConstruct.makeTranslation("modifier", "stat_override.bonuses").withStyle(ChatFormatting.UNDERLINE);
   /** Prefix for adding multipliers to the tooltip */
@@ -16,7 +16,7 @@ import slimeknights.tconstruct.library.tools.nbt.IToolStackView;
 import slimeknights.tconstruct.tools.TinkerModifiers;
 
 public class ScopeModifier extends Modifier implements EquipmentChangeModifierHook {
-  public static final ResourceLocation SCOPE = TConstruct.getResource("longbow_scope");
+  public static final ResourceLocation SCOPE = TConstruct.getDataKey("longbow_scope");
 
   @Override
   protected void registerHooks(Builder hookBuilder) {
@@ -0,0 +1,105 @@
+package slimeknights.tconstruct.library.recipe.alloying;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.Fluids;
+import net.minecraftforge.fluids.FluidStack;
+import org.junit.jupiter.api.Test;
+import slimeknights.mantle.recipe.helper.FluidOutput;
+import slimeknights.mantle.recipe.ingredient.FluidIngredient;
+import slimeknights.tconstruct.library.recipe.alloying.AlloyRecipe.AlloyIngredient;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AlloyRecipeCacheTest extends BaseMcTest {
+  private static final Fluid[] FLUIDS = { Fluids.WATER, Fluids.LAVA, Fluids.FLOWING_WATER, Fluids.FLOWING_LAVA };
+
+  /** Creates a recipe alloying the given fluids */
+  private static AlloyRecipe recipe(String name, Fluid... inputs) {
+    List<AlloyIngredient> ingredients = new ArrayList<>();
+    for (Fluid fluid : inputs) {
+      ingredients.add(new AlloyIngredient(FluidIngredient.of(fluid, 10), false));
+    }
+    return new AlloyRecipe(new ResourceLocation("test", name), ingredients, FluidOutput.fromStack(new FluidStack(Fluids.WATER, 10)), 100);
+  }
+
+  /** Creates a tank with the given fluids */
+  private static IAlloyTank tank(List<Fluid> fluids) {
+    return new IAlloyTank() {
+      @Override
+      public int getTemperature() {
+        return 1000;
+      }
+
+      @Override
+      public int getTanks() {
+        // extra empty tank, like the smeltery
+        return fluids.size() + 1;
+      }
+
+      @Override
+      public FluidStack getFluidInTank(int tank) {
+        return tank < fluids.size() ? new FluidStack(fluids.get(tank), 100) : FluidStack.EMPTY;
+      }
+
+      @Override
+      public boolean canFit(FluidStack fluid, int removed) {
+        return true;
+      }
+    };
+  }
+
+  @Test
+  void find_requiresAllInputs() {
+    AlloyRecipe recipe = recipe("water_lava", Fluids.WATER, Fluids.LAVA);
+    AlloyRecipeCache.Index index = AlloyRecipeCache.Index.build(List.of(recipe));
+    assertThat(index.find(tank(List.of(Fluids.WATER, Fluids.LAVA)), null)).containsExactly(recipe);
+    assertThat(index.find(tank(List.of(Fluids.WATER)), null)).isEmpty();
+    assertThat(index.find(tank(List.of(Fluids.LAVA, Fluids.FLOWING_WATER)), null)).isEmpty();
+    assertThat(index.find(tank(List.of()), null)).isEmpty();
+  }
+
+  @Test
+  void find_matchesLinearScan() {
+    // every pair and triple of fluids as a recipe
+    List<AlloyRecipe> recipes = new ArrayList<>();
+    for (int a = 0; a < FLUIDS.length; a++) {
+      for (int b = a + 1; b < FLUIDS.length; b++) {
+        recipes.add(recipe("pair_" + a + "_" + b, FLUIDS[a], FLUIDS[b]));
+        for (int c = b + 1; c < FLUIDS.length; c++) {
+          recipes.add(recipe("triple_" + a + "_" + b + "_" + c, FLUIDS[a], FLUIDS[b], FLUIDS[c]));
+        }
+      }
+    }
+    AlloyRecipeCache.Index index = AlloyRecipeCache.Index.build(recipes);
+
+    // every subset of fluids as a tank
+    for (int mask = 0; mask < (1 << FLUIDS.length); mask++) {
+      List<Fluid> fluids = new ArrayList<>();
+      for (int i = 0; i < FLUIDS.length; i++) {
+        if ((mask & (1 << i)) != 0) {
+          fluids.add(FLUIDS[i]);
+        }
+      }
+      IAlloyTank tank = tank(fluids);
+      List<AlloyRecipe> expected = recipes.stream().filter(recipe -> recipe.matches(tank, null)).toList();
+      assertThat(index.find(tank, null)).containsExactlyElementsOf(expected);
+    }
+  }
+
+  @Test
+  void findFirst_canPerform() {
+    AlloyRecipe waterLava = recipe("water_lava", Fluids.WATER, Fluids.LAVA);
+    AlloyRecipe water = recipe("water", Fluids.WATER);
+    AlloyRecipeCache.Index index = AlloyRecipeCache.Index.build(List.of(waterLava, water));
+    IAlloyTank both = tank(List.of(Fluids.WATER, Fluids.LAVA));
+    assertThat(index.findFirst(both, recipe -> recipe.canPerform(both))).isSameAs(waterLava);
+    assertThat(index.findFirst(both, recipe -> recipe != waterLava && recipe.canPerform(both))).isSameAs(water);
+    IAlloyTank lava = tank(List.of(Fluids.LAVA));
+    assertThat(index.findFirst(lava, recipe -> recipe.canPerform(lava))).isNull();
+  }
+}
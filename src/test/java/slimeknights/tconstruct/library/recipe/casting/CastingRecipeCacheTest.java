@@ -0,0 +1,142 @@
+package slimeknights.tconstruct.library.recipe.casting;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.material.Fluid;
+import net.minecraft.world.level.material.Fluids;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.library.recipe.casting.CastingRecipeCache.RecipeLookup;
+import slimeknights.tconstruct.library.recipe.casting.CastingRecipeCache.Results;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CastingRecipeCacheTest extends BaseMcTest {
+  @SuppressWarnings("unchecked")
+  private static final RecipeType<ICastingRecipe> TABLE = mock(RecipeType.class);
+
+  /** Creates a recipe matching the given cast and fluid */
+  private static ICastingRecipe recipe(Item cast, Fluid fluid) {
+    ICastingRecipe recipe = mock(ICastingRecipe.class);
+    when(recipe.matches(any(), any())).thenAnswer(invocation -> {
+      ICastingContainer inv = invocation.getArgument(0);
+      return inv.getStack().is(cast) && inv.getFluid() == fluid;
+    });
+    return recipe;
+  }
+
+  /** Creates a container holding the given cast and fluid */
+  private static ICastingContainer container(ItemStack cast, Fluid fluid) {
+    ICastingContainer inv = mock(ICastingContainer.class);
+    when(inv.getStack()).thenReturn(cast);
+    when(inv.getFluid()).thenReturn(fluid);
+    return inv;
+  }
+
+  /** Creates a lookup that scans the given recipes, counting each call */
+  private static RecipeLookup counting(List<ICastingRecipe> recipes, AtomicInteger calls) {
+    return (type, inv, level) -> {
+      calls.incrementAndGet();
+      for (ICastingRecipe recipe : recipes) {
+        if (recipe.matches(inv, level)) {
+          return recipe;
+        }
+      }
+      return null;
+    };
+  }
+
+  @Test
+  void find_cachesFoundAndMissing() {
+    ICastingRecipe ingot = recipe(Items.BRICK, Fluids.LAVA);
+    AtomicInteger calls = new AtomicInteger();
+    Results results = new Results(counting(List.of(ingot), calls));
+
+    ICastingContainer hit = container(new ItemStack(Items.BRICK), Fluids.LAVA);
+    assertThat(results.find(TABLE, hit, null)).isSameAs(ingot);
+    assertThat(results.find(TABLE, hit, null)).isSameAs(ingot);
+    assertThat(calls).hasValue(1);
+
+    ICastingContainer miss = container(new ItemStack(Items.BRICK), Fluids.WATER);
+    assertThat(results.find(TABLE, miss, null)).isNull();
+    assertThat(results.find(TABLE, miss, null)).isNull();
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  void find_keyIncludesNBT() {
+    ICastingRecipe ingot = recipe(Items.BRICK, Fluids.LAVA);
+    AtomicInteger calls = new AtomicInteger();
+    Results results = new Results(counting(List.of(ingot), calls));
+
+    ItemStack tagged = new ItemStack(Items.BRICK);
+    tagged.getOrCreateTag().putInt("test", 1);
+    results.find(TABLE, container(new ItemStack(Items.BRICK), Fluids.LAVA), null);
+    results.find(TABLE, container(tagged, Fluids.LAVA), null);
+    assertThat(calls).hasValue(2);
+
+    // changing the stack after the lookup must not change the stored key
+    tagged.getOrCreateTag().putInt("test", 2);
+    results.find(TABLE, container(tagged, Fluids.LAVA), null);
+    assertThat(calls).hasValue(3);
+    CompoundTag original = new CompoundTag();
+    original.putInt("test", 1);
+    ItemStack copy = new ItemStack(Items.BRICK);
+    copy.setTag(original);
+    results.find(TABLE, container(copy, Fluids.LAVA), null);
+    assertThat(calls).hasValue(3);
+  }
+
+  @Test
+  void find_rechecksFoundRecipe() {
+    // recipe that stops matching without the key changing, such as from a capability check
+    AtomicInteger calls = new AtomicInteger();
+    ICastingRecipe first = mock(ICastingRecipe.class);
+    when(first.matches(any(), any())).thenReturn(true, false);
+    ICastingRecipe second = recipe(Items.BRICK, Fluids.LAVA);
+    List<ICastingRecipe> recipes = new ArrayList<>(List.of(first, second));
+    Results results = new Results(counting(recipes, calls));
+
+    ICastingContainer inv = container(new ItemStack(Items.BRICK), Fluids.LAVA);
+    assertThat(results.find(TABLE, inv, null)).isSameAs(first);
+    assertThat(results.find(TABLE, inv, null)).isSameAs(second);
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  void find_castingBank() {
+    // 64 casting tables retrying their lookup, most holding fluid with no recipe
+    Item[] casts = { Items.BRICK, Items.NETHER_BRICK, Items.GOLD_NUGGET, Items.IRON_NUGGET };
+    List<ICastingRecipe> recipes = new ArrayList<>();
+    for (int i = 0; i < 200; i++) {
+      recipes.add(recipe(Items.STICK, Fluids.WATER));
+    }
+    recipes.add(recipe(Items.BRICK, Fluids.LAVA));
+    List<ICastingContainer> tables = new ArrayList<>();
+    for (int i = 0; i < 64; i++) {
+      tables.add(container(new ItemStack(casts[i % casts.length]), i % 8 == 0 ? Fluids.LAVA : Fluids.WATER));
+    }
+
+    RecipeLookup uncached = counting(recipes, new AtomicInteger());
+    AtomicInteger cachedCalls = new AtomicInteger();
+    Results results = new Results(counting(recipes, cachedCalls));
+    for (int round = 0; round < 2; round++) {
+      for (ICastingContainer table : tables) {
+        assertThat(results.find(TABLE, table, null)).isSameAs(uncached.find(TABLE, table, null));
+      }
+    }
+
+    // only one real lookup per distinct cast and fluid
+    assertThat(cachedCalls).hasValue(5);
+  }
+}
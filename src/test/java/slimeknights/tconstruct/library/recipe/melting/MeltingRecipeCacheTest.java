@@ -0,0 +1,95 @@
+package slimeknights.tconstruct.library.recipe.melting;
+
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.crafting.Ingredient;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.library.recipe.melting.MeltingRecipeCache.Index;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MeltingRecipeCacheTest extends BaseMcTest {
+  /** Creates a recipe matching the given ingredient */
+  private static MeltingRecipe indexed(Ingredient ingredient) {
+    MeltingRecipe recipe = mock(MeltingRecipe.class);
+    when(recipe.getInput()).thenReturn(ingredient);
+    when(recipe.matches(any(), any())).thenAnswer(invocation -> ingredient.test(invocation.<IMeltingContainer>getArgument(0).getStack()));
+    return recipe;
+  }
+
+  /** Creates a recipe that cannot be indexed, matching the given item */
+  private static IMeltingRecipe dynamic(Item item) {
+    IMeltingRecipe recipe = mock(IMeltingRecipe.class);
+    when(recipe.matches(any(), any())).thenAnswer(invocation -> invocation.<IMeltingContainer>getArgument(0).getStack().is(item));
+    return recipe;
+  }
+
+  /** Creates a container holding the given item */
+  private static IMeltingContainer container(Item item) {
+    IMeltingContainer inv = mock(IMeltingContainer.class);
+    when(inv.getStack()).thenReturn(new ItemStack(item));
+    return inv;
+  }
+
+  /** Finds the recipe the same way as the recipe manager */
+  private static IMeltingRecipe linearFind(List<IMeltingRecipe> recipes, IMeltingContainer inv) {
+    for (IMeltingRecipe recipe : recipes) {
+      if (recipe.matches(inv, null)) {
+        return recipe;
+      }
+    }
+    return null;
+  }
+
+  @Test
+  void find_indexedAndFallback() {
+    IMeltingRecipe iron = indexed(Ingredient.of(Items.IRON_INGOT, Items.IRON_NUGGET));
+    IMeltingRecipe gold = indexed(Ingredient.of(Items.GOLD_INGOT));
+    IMeltingRecipe dynamic = dynamic(Items.DIAMOND);
+    Index index = Index.build(List.of(iron, dynamic, gold));
+
+    assertThat(index.find(container(Items.IRON_INGOT), null)).isSameAs(iron);
+    assertThat(index.find(container(Items.IRON_NUGGET), null)).isSameAs(iron);
+    assertThat(index.find(container(Items.GOLD_INGOT), null)).isSameAs(gold);
+    assertThat(index.find(container(Items.DIAMOND), null)).isSameAs(dynamic);
+    assertThat(index.find(container(Items.STICK), null)).isNull();
+  }
+
+  @Test
+  void find_keepsRecipeOrder() {
+    // dynamic recipe comes first, so it takes priority over the indexed one
+    IMeltingRecipe dynamic = dynamic(Items.IRON_INGOT);
+    IMeltingRecipe iron = indexed(Ingredient.of(Items.IRON_INGOT));
+    IMeltingRecipe laterIron = indexed(Ingredient.of(Items.IRON_INGOT));
+    assertThat(Index.build(List.of(dynamic, iron)).find(container(Items.IRON_INGOT), null)).isSameAs(dynamic);
+    assertThat(Index.build(List.of(iron, dynamic)).find(container(Items.IRON_INGOT), null)).isSameAs(iron);
+    assertThat(Index.build(List.of(iron, laterIron)).find(container(Items.IRON_INGOT), null)).isSameAs(iron);
+  }
+
+  @Test
+  void find_matchesLinearScan() {
+    List<Item> items = BuiltInRegistries.ITEM.stream().filter(item -> item != Items.AIR).limit(100).toList();
+    List<IMeltingRecipe> recipes = new ArrayList<>();
+    // one recipe for every other item, plus a few dynamic recipes like material melting
+    for (int i = 0; i < items.size(); i += 2) {
+      recipes.add(indexed(Ingredient.of(items.get(i))));
+      if (i % 20 == 0) {
+        recipes.add(dynamic(items.get(i + 1)));
+      }
+    }
+    Index index = Index.build(recipes);
+    for (Item item : items) {
+      IMeltingContainer inv = container(item);
+      assertThat(index.find(inv, null)).isSameAs(linearFind(recipes, inv));
+    }
+  }
+}
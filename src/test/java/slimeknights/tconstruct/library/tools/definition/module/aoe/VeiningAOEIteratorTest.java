@@ -0,0 +1,76 @@
+package slimeknights.tconstruct.library.tools.definition.module.aoe;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkSource;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class VeiningAOEIteratorTest extends BaseMcTest {
+  /** Size of the vein along each axis */
+  private static final int SIZE = 5;
+
+  /** Creates a level containing a cube of iron ore from 0 to {@link #SIZE} on each axis */
+  private static Level veinLevel() {
+    BlockState ore = Blocks.IRON_ORE.defaultBlockState();
+    BlockState air = Blocks.AIR.defaultBlockState();
+    Level level = mock(Level.class);
+    // no loaded chunks, so block access falls back to the level
+    ChunkSource chunkSource = mock(ChunkSource.class);
+    when(level.getChunkSource()).thenReturn(chunkSource);
+    when(level.getBlockState(any())).thenAnswer(invocation -> {
+      BlockPos pos = invocation.getArgument(0);
+      return pos.getX() >= 0 && pos.getX() < SIZE && pos.getY() >= 0 && pos.getY() < SIZE && pos.getZ() >= 0 && pos.getZ() < SIZE ? ore : air;
+    });
+    return level;
+  }
+
+  /** Runs the iterator, copying the positions as the iterator may reuse them */
+  private static Set<BlockPos> collect(Iterable<BlockPos> iterable) {
+    Set<BlockPos> positions = new HashSet<>();
+    for (BlockPos pos : iterable) {
+      assertThat(positions.add(pos.immutable())).overridingErrorMessage("Position %s returned twice", pos).isTrue();
+    }
+    return positions;
+  }
+
+  @Test
+  void calculate_noDistance() {
+    Level level = veinLevel();
+    Set<BlockPos> positions = collect(VeiningAOEIterator.calculate(level.getBlockState(BlockPos.ZERO), level, BlockPos.ZERO, 0));
+    assertThat(positions).isEmpty();
+  }
+
+  @Test
+  void calculate_limitedDistance() {
+    Level level = veinLevel();
+    BlockPos origin = new BlockPos(2, 2, 2);
+    Set<BlockPos> positions = collect(VeiningAOEIterator.calculate(level.getBlockState(origin), level, origin, 2));
+    // 6 blocks at distance 1, 18 blocks at distance 2
+    assertThat(positions).hasSize(24);
+    assertThat(positions).doesNotContain(origin);
+    for (BlockPos pos : positions) {
+      assertThat(pos.distManhattan(origin)).isBetween(1, 2);
+    }
+  }
+
+  @Test
+  void calculate_wholeVein() {
+    Level level = veinLevel();
+    // distance reaches the furthest corner
+    Set<BlockPos> positions = collect(VeiningAOEIterator.calculate(level.getBlockState(BlockPos.ZERO), level, BlockPos.ZERO, 3 * (SIZE - 1)));
+    // every block in the vein besides the origin
+    assertThat(positions).hasSize(SIZE * SIZE * SIZE - 1);
+    assertThat(positions).doesNotContain(BlockPos.ZERO);
+  }
+}
@@ -0,0 +1,47 @@
+package slimeknights.tconstruct.library.tools.helper;
+
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DropAggregatorTest extends BaseMcTest {
+  @Test
+  void merge_identical() {
+    List<ItemStack> drops = new ArrayList<>(List.of(new ItemStack(Items.COBBLESTONE), new ItemStack(Items.DIRT, 2), new ItemStack(Items.COBBLESTONE, 3)));
+    long avoided = DropAggregator.getAvoidedEntities();
+    DropAggregator.merge(drops);
+
+    assertThat(drops).hasSize(2);
+    assertThat(drops.get(0).is(Items.COBBLESTONE)).isTrue();
+    assertThat(drops.get(0).getCount()).isEqualTo(4);
+    assertThat(drops.get(1).is(Items.DIRT)).isTrue();
+    assertThat(drops.get(1).getCount()).isEqualTo(2);
+    assertThat(DropAggregator.getAvoidedEntities() - avoided).isEqualTo(1);
+  }
+
+  @Test
+  void merge_respectsMaxStackSize() {
+    List<ItemStack> drops = new ArrayList<>(List.of(new ItemStack(Items.COBBLESTONE, 40), new ItemStack(Items.COBBLESTONE, 40), new ItemStack(Items.COBBLESTONE, 40)));
+    DropAggregator.merge(drops);
+
+    assertThat(drops).hasSize(2);
+    assertThat(drops.get(0).getCount()).isEqualTo(64);
+    assertThat(drops.get(1).getCount()).isEqualTo(56);
+  }
+
+  @Test
+  void merge_differentTags() {
+    ItemStack named = new ItemStack(Items.COBBLESTONE);
+    named.getOrCreateTag().putBoolean("test", true);
+    List<ItemStack> drops = new ArrayList<>(List.of(new ItemStack(Items.COBBLESTONE), named));
+    DropAggregator.merge(drops);
+
+    assertThat(drops).hasSize(2);
+  }
+}
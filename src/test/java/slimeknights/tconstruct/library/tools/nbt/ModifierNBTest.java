@@ -3,15 +3,22 @@ package slimeknights.tconstruct.library.tools.nbt;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceLocation;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.library.modifiers.Modifier;
 import slimeknights.tconstruct.library.modifiers.ModifierEntry;
 import slimeknights.tconstruct.library.modifiers.ModifierFixture;
+import slimeknights.tconstruct.library.modifiers.ModifierId;
+import slimeknights.tconstruct.library.module.ModuleHook;
+import slimeknights.tconstruct.library.module.ModuleHookMap;
 import slimeknights.tconstruct.test.BaseMcTest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 class ModifierNBTest extends BaseMcTest {
+  private static final ModuleHook<Object> TEST_HOOK = new ModuleHook<>(new ResourceLocation("test", "hook"), Object.class, new Object());
+
   @BeforeAll
   static void before() {
     ModifierFixture.init();
@@ -65,6 +72,62 @@ class ModifierNBTest extends BaseMcTest {
     assertThat(modifierNBT.getLevel(ModifierFixture.TEST_1)).isEqualTo(1);
   }
 
+  @Test
+  void withModifier_existing() {
+    ModifierNBT modifierNBT = ModifierNBT.EMPTY.withModifier(ModifierFixture.TEST_1, 1).withModifier(ModifierFixture.TEST_2, 2).withModifier(ModifierFixture.TEST_1, 3);
+    assertThat(modifierNBT.getModifiers().size()).isEqualTo(2);
+    assertThat(modifierNBT.getLevel(ModifierFixture.TEST_1)).isEqualTo(4);
+    assertThat(modifierNBT.getLevel(ModifierFixture.TEST_2)).isEqualTo(2);
+  }
+
+  @Test
+  void withoutModifier() {
+    ModifierNBT modifierNBT = ModifierNBT.EMPTY.withModifier(ModifierFixture.TEST_1, 3).withModifier(ModifierFixture.TEST_2, 2);
+
+    ModifierNBT partial = modifierNBT.withoutModifier(ModifierFixture.TEST_1, 1);
+    assertThat(partial.getLevel(ModifierFixture.TEST_1)).isEqualTo(2);
+    assertThat(partial.getLevel(ModifierFixture.TEST_2)).isEqualTo(2);
+
+    ModifierNBT removed = modifierNBT.withoutModifier(ModifierFixture.TEST_1, 3);
+    assertThat(removed.getModifiers().size()).isEqualTo(1);
+    assertThat(removed.getLevel(ModifierFixture.TEST_1)).isEqualTo(0);
+    assertThat(removed.getEntry(ModifierFixture.TEST_1)).isEqualTo(ModifierEntry.EMPTY);
+    assertThat(removed.getLevel(ModifierFixture.TEST_2)).isEqualTo(2);
+  }
+
+  @Test
+  void getEntry_newIdInstance() {
+    ModifierNBT modifierNBT = ModifierNBT.EMPTY.withModifier(new ModifierId("test", "first"), 1).withModifier(new ModifierId("test", "second"), 2);
+    // lookup must not depend on identity
+    assertThat(modifierNBT.getLevel(new ModifierId("test", "first"))).isEqualTo(1);
+    assertThat(modifierNBT.getLevel(new ModifierId("test", "second"))).isEqualTo(2);
+    assertThat(modifierNBT.getEntry(new ModifierId("test", "missing"))).isEqualTo(ModifierEntry.EMPTY);
+  }
+
+  @Test
+  void getModifiers_hook() {
+    Object module = new Object();
+    Modifier withHook = new Modifier() {
+      @Override
+      protected void registerHooks(ModuleHookMap.Builder hookBuilder) {
+        hookBuilder.addHook(module, TEST_HOOK);
+      }
+    };
+    withHook.setId(new ModifierId("test", "with_hook"));
+
+    ModifierNBT modifierNBT = ModifierNBT.EMPTY.withModifier(ModifierFixture.TEST_1, 1)
+                                               .withModifier(ModifierFixture.TEST_2, 1);
+    assertThat(modifierNBT.getModifiers(TEST_HOOK)).isEmpty();
+
+    ModifierNBT.Builder builder = ModifierNBT.builder();
+    builder.add(ModifierFixture.TEST_MODIFIER_1, 1);
+    builder.add(withHook, 2);
+    builder.add(ModifierFixture.TEST_MODIFIER_2, 1);
+    modifierNBT = builder.build();
+    assertThat(modifierNBT.getModifiers(TEST_HOOK)).containsExactly(new ModifierEntry(withHook, 2));
+    assertThat(modifierNBT.getModifiers(TEST_HOOK).get(0).getHook(TEST_HOOK)).isSameAs(module);
+  }
+
   @Test
   void serialize() {
     ModifierNBT.Builder builder = ModifierNBT.builder();
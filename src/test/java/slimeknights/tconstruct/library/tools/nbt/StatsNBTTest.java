@@ -122,6 +122,49 @@ class StatsNBTTest extends BaseMcTest {
     assertThat(statsNBT.get(ToolStats.ATTACK_SPEED)).isEqualTo(2);
   }
 
+  @Test
+  void deserialize_lazyMatchesBuilt() {
+    CompoundTag nbt = new CompoundTag();
+    nbt.putFloat(ToolStats.ATTACK_DAMAGE.getName().toString(), 4);
+    nbt.putFloat(ToolStats.MINING_SPEED.getName().toString(), 3.5f);
+    nbt.putFloat("tconstruct:unknown_stat", 2);
+
+    // single stats are decoded on request, including missing stats
+    StatsNBT statsNBT = StatsNBT.readLazy(nbt);
+    assertThat(statsNBT.get(ToolStats.MINING_SPEED)).isEqualTo(3.5f);
+    assertThat(statsNBT.hasStat(ToolStats.ARMOR)).isFalse();
+    assertThat(statsNBT.get(ToolStats.ARMOR)).isEqualTo(ToolStats.ARMOR.getDefaultValue());
+    assertThat(statsNBT.hasStat(ToolStats.ATTACK_DAMAGE)).isTrue();
+
+    // full decoding skips the unknown stat and matches stats built directly
+    StatsNBT built = StatsNBT.builder()
+                             .set(ToolStats.ATTACK_DAMAGE, 4f)
+                             .set(ToolStats.MINING_SPEED, 3.5f)
+                             .build();
+    assertThat(statsNBT.getContainedStats()).containsExactlyInAnyOrder(ToolStats.ATTACK_DAMAGE, ToolStats.MINING_SPEED);
+    assertThat(statsNBT).isEqualTo(built).hasSameHashCodeAs(built);
+    assertThat(StatsNBT.readFromNBT(nbt)).isEqualTo(built);
+  }
+
+  @Test
+  void deserialize_unaffectedByLaterChanges() {
+    CompoundTag nbt = new CompoundTag();
+    nbt.putFloat(ToolStats.ATTACK_DAMAGE.getName().toString(), 4);
+    StatsNBT statsNBT = StatsNBT.readFromNBT(nbt);
+
+    nbt.putFloat(ToolStats.ATTACK_DAMAGE.getName().toString(), 8);
+    nbt.putFloat(ToolStats.MINING_SPEED.getName().toString(), 3.5f);
+    assertThat(statsNBT.get(ToolStats.ATTACK_DAMAGE)).isEqualTo(4);
+    assertThat(statsNBT.hasStat(ToolStats.MINING_SPEED)).isFalse();
+  }
+
+  @Test
+  void ordinals_dense() {
+    int count = ToolStats.getStatCount();
+    assertThat(ToolStats.getAllStats()).hasSize(count);
+    assertThat(ToolStats.getAllStats()).extracting(ToolStats::getOrdinal).doesNotHaveDuplicates().allMatch(ordinal -> ordinal >= 0 && ordinal < count);
+  }
+
   @Test
   void deserializeNoData_empty() {
     CompoundTag nbt = new CompoundTag();
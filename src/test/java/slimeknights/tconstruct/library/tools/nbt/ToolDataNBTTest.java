@@ -5,9 +5,14 @@ import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceLocation;
 import org.junit.jupiter.api.Test;
 import slimeknights.tconstruct.library.tools.SlotType;
+import slimeknights.tconstruct.library.tools.item.IModifiable;
+import slimeknights.tconstruct.library.utils.ResourceId;
 import slimeknights.tconstruct.test.BaseMcTest;
 
+import java.lang.management.ManagementFactory;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class ToolDataNBTTest extends BaseMcTest {
   private static final ResourceLocation testKey = new ResourceLocation("test");
@@ -74,4 +79,61 @@ class ToolDataNBTTest extends BaseMcTest {
     assertThat(tag.contains("test", Tag.TAG_ANY_NUMERIC)).isTrue();
     assertThat(tag.getInt("test")).isEqualTo(1);
   }
+
+  @Test
+  void cachedKey_sameAsLocation() {
+    ResourceLocation key = new ResourceId("test", "key");
+    ResourceLocation location = new ResourceLocation("test", "key");
+    assertThat(key).isEqualTo(location);
+    assertThat(location).isEqualTo(key);
+    assertThat(key.hashCode()).isEqualTo(location.hashCode());
+    assertThat(key.toString()).isEqualTo(location.toString()).isSameAs(key.toString());
+
+    // data written with either key can be read with the other
+    ToolDataNBT data = new ToolDataNBT();
+    data.putInt(key, 5);
+    assertThat(data.getInt(location)).isEqualTo(5);
+    data.putInt(location, 6);
+    assertThat(data.getInt(key)).isEqualTo(6);
+    assertThat(data.contains(key, Tag.TAG_INT)).isTrue();
+  }
+
+  /** Reads the given key from the data repeatedly, returning a value so the loop is not optimized out */
+  private static int readRepeatedly(IModDataView data, ResourceLocation key, int count) {
+    int total = 0;
+    for (int i = 0; i < count; i++) {
+      total += data.getInt(key);
+      if (data.getBoolean(key)) {
+        total++;
+      }
+    }
+    return total;
+  }
+
+  @Test
+  void cachedKey_readsDoNotAllocate() {
+    assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+    com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean();
+    assumeTrue(bean.isThreadAllocatedMemorySupported());
+    bean.setThreadAllocatedMemoryEnabled(true);
+    assumeTrue(bean.isThreadAllocatedMemoryEnabled());
+
+    ToolDataNBT data = new ToolDataNBT();
+    data.putBoolean(IModifiable.NO_INTERACTION, true);
+    // warm up, so any lazy initialization is not counted
+    readRepeatedly(data, IModifiable.NO_INTERACTION, 1000);
+
+    long thread = Thread.currentThread().getId();
+    long before = bean.getThreadAllocatedBytes(thread);
+    int small = readRepeatedly(data, IModifiable.NO_INTERACTION, 1000);
+    long smallAllocated = bean.getThreadAllocatedBytes(thread) - before;
+    before = bean.getThreadAllocatedBytes(thread);
+    int large = readRepeatedly(data, IModifiable.NO_INTERACTION, 100_000);
+    long largeAllocated = bean.getThreadAllocatedBytes(thread) - before;
+
+    assertThat(small).isEqualTo(2000);
+    assertThat(large).isEqualTo(200_000);
+    // building the key string would allocate on every read, so allowing a small fixed overhead, allocation must not grow with the number of reads
+    assertThat(largeAllocated).isLessThan(smallAllocated + 1024);
+  }
 }
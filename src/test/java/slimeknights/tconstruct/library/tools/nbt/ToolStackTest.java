@@ -3,16 +3,22 @@ package slimeknights.tconstruct.library.tools.nbt;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
+import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.item.Tiers;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import slimeknights.tconstruct.fixture.MaterialFixture;
+import slimeknights.tconstruct.fixture.MaterialItemFixture;
 import slimeknights.tconstruct.fixture.ToolDefinitionFixture;
 import slimeknights.tconstruct.library.modifiers.ModifierFixture;
 import slimeknights.tconstruct.library.tools.SlotType;
 import slimeknights.tconstruct.library.tools.definition.ToolDefinition;
+import slimeknights.tconstruct.library.tools.definition.ToolDefinitionData;
+import slimeknights.tconstruct.library.tools.definition.ToolDefinitionDataBuilder;
+import slimeknights.tconstruct.library.tools.definition.module.build.ToolTraitsModule;
+import slimeknights.tconstruct.library.tools.definition.module.material.PartStatsModule;
 import slimeknights.tconstruct.library.tools.helper.ToolDamageUtil;
 import slimeknights.tconstruct.library.tools.item.ToolItemTest;
 import slimeknights.tconstruct.library.tools.stat.ToolStats;
@@ -359,6 +365,31 @@ class ToolStackTest extends ToolItemTest {
     assertThat(readModifiers).isEqualTo(setModifiers);
   }
 
+  @Test
+  void allMods_sharedParse() {
+    ModifierNBT setModifiers = ModifierNBT.EMPTY.withModifier(ModifierFixture.TEST_1, 1);
+    testItemStack.getOrCreateTag().put(ToolStack.TAG_MODIFIERS, setModifiers.serializeToNBT());
+
+    // second tool stack on the same NBT should not need to parse again
+    ModifierNBT first = ToolStack.from(testItemStack).getModifiers();
+    assertThat(ToolStack.from(testItemStack).getModifiers()).isSameAs(first);
+    // a copy parses to an equal value
+    assertThat(ToolStack.copyFrom(testItemStack).getModifiers()).isEqualTo(first);
+  }
+
+  @Test
+  void allMods_sharedParseUpdated() {
+    ToolStack toolStack = ToolStack.from(testItemStack);
+    ModifierNBT setModifiers = ModifierNBT.EMPTY.withModifier(ModifierFixture.TEST_1, 1);
+    toolStack.setModifiers(setModifiers);
+    assertThat(ToolStack.from(testItemStack).getModifiers()).isSameAs(setModifiers);
+
+    // replacing the tag outside of the tool stack must be noticed
+    ModifierNBT external = ModifierNBT.EMPTY.withModifier(ModifierFixture.TEST_2, 2);
+    testItemStack.getOrCreateTag().put(ToolStack.TAG_MODIFIERS, external.serializeToNBT());
+    assertThat(ToolStack.from(testItemStack).getModifiers()).isEqualTo(external);
+  }
+
 
   /* Mod data */
 
@@ -433,4 +464,136 @@ class ToolStackTest extends ToolItemTest {
     assertThat(toolStack.getVolatileData()).isNotEqualTo(volatileData);
     assertThat(toolStack.getModifiers().getLevel(ModifierFixture.TEST_1)).isEqualTo(2);
   }
+
+
+  /* Traits */
+
+  /** Creates tool definition data with the given number of parts and a trait, so trait expansion creates a new instance each time it runs */
+  private static ToolDefinitionData traitData(int parts) {
+    PartStatsModule.Builder partStats = PartStatsModule.parts()
+                                                       .part(MaterialItemFixture.MATERIAL_ITEM_HEAD)
+                                                       .part(MaterialItemFixture.MATERIAL_ITEM_HANDLE);
+    for (int i = 2; i < parts; i++) {
+      partStats.part(MaterialItemFixture.MATERIAL_ITEM_EXTRA);
+    }
+    return ToolDefinitionDataBuilder.builder()
+                                    .module(partStats.build())
+                                    .module(ToolTraitsModule.builder().trait(ModifierFixture.TEST_1).build())
+                                    .smallToolStartingSlots()
+                                    .build();
+  }
+
+  /** Creates a tool definition using {@link #traitData(int)} */
+  private static ToolDefinition traitDefinition(String name, int parts) {
+    ToolDefinition definition = new ToolDefinition(new ResourceLocation("test", name));
+    definition.setData(traitData(parts));
+    return definition;
+  }
+
+  /** Creates a material list matching {@link #traitData(int)} */
+  private static MaterialNBT traitMaterials(int parts) {
+    MaterialNBT.Builder builder = MaterialNBT.builder().add(MaterialFixture.MATERIAL_WITH_HEAD).add(MaterialFixture.MATERIAL_WITH_HANDLE);
+    for (int i = 2; i < parts; i++) {
+      builder.add(MaterialFixture.MATERIAL_WITH_EXTRA);
+    }
+    return builder.build();
+  }
+
+  @Test
+  void traits_sameMaterials_reused() {
+    ToolDefinition definition = traitDefinition("traits_reused", 3);
+    ToolStack toolStack = ToolStack.from(tool, definition, new CompoundTag());
+    toolStack.setMaterials(traitMaterials(3));
+    MaterialNBT materials = toolStack.getMaterials();
+
+    ModifierNBT traits = ToolNBTCache.getTraits(definition, definition.getData(), materials);
+    assertThat(traits.getLevel(ModifierFixture.TEST_1)).isEqualTo(1);
+    toolStack.rebuildStats();
+    toolStack.rebuildStats();
+    assertThat(ToolNBTCache.getTraits(definition, definition.getData(), materials)).isSameAs(traits);
+  }
+
+  @Test
+  void traits_differentDefinition_recomputed() {
+    ToolDefinition definition = traitDefinition("traits_definition", 3);
+    MaterialNBT materials = traitMaterials(3);
+    ModifierNBT traits = ToolNBTCache.getTraits(definition, definition.getData(), materials);
+
+    ToolDefinition other = traitDefinition("traits_definition_other", 3);
+    assertThat(ToolNBTCache.getTraits(other, definition.getData(), materials)).isNotSameAs(traits).isEqualTo(traits);
+  }
+
+  @Test
+  void traits_differentData_recomputed() {
+    ToolDefinition definition = traitDefinition("traits_data", 3);
+    MaterialNBT materials = traitMaterials(3);
+    ModifierNBT traits = ToolNBTCache.getTraits(definition, definition.getData(), materials);
+
+    // simulates a datapack reload replacing the definition data
+    definition.setData(traitData(3));
+    assertThat(ToolNBTCache.getTraits(definition, definition.getData(), materials)).isNotSameAs(traits).isEqualTo(traits);
+  }
+
+  @Test
+  void traits_registryReload_recomputed() {
+    ToolDefinition definition = traitDefinition("traits_reload", 3);
+    MaterialNBT materials = traitMaterials(3);
+    ModifierNBT traits = ToolNBTCache.getTraits(definition, definition.getData(), materials);
+
+    // called by both ModifiersLoadedEvent and MaterialsLoadedEvent
+    ToolNBTCache.invalidate();
+    assertThat(ToolNBTCache.getTraits(definition, definition.getData(), materials)).isNotSameAs(traits).isEqualTo(traits);
+  }
+
+  @Test
+  void traits_tagsUpdated_recomputed() {
+    ToolDefinition definition = traitDefinition("traits_tags", 3);
+    MaterialNBT materials = traitMaterials(3);
+    ModifierNBT traits = ToolNBTCache.getTraits(definition, definition.getData(), materials);
+
+    // called by TagsUpdatedEvent
+    ToolNBTCache.invalidateTraits();
+    assertThat(ToolNBTCache.getTraits(definition, definition.getData(), materials)).isNotSameAs(traits).isEqualTo(traits);
+  }
+
+  /**
+   * Repeatedly rebuilds a tool with the given part count and upgrades, ensuring the traits are reused and the result is stable.
+   * Covers the shapes used to measure rebuild cost without depending on timing.
+   */
+  private static void assertRebuildStable(String name, int parts, int upgrades) {
+    ToolDefinition definition = traitDefinition(name, parts);
+    ToolStack toolStack = ToolStack.from(tool, definition, new CompoundTag());
+    toolStack.setMaterials(traitMaterials(parts));
+    int first = upgrades / 2;
+    if (first > 0) {
+      toolStack.addModifier(ModifierFixture.TEST_1, first);
+    }
+    if (upgrades > first) {
+      toolStack.addModifier(ModifierFixture.TEST_2, upgrades - first);
+    }
+    MaterialNBT materials = toolStack.getMaterials();
+    ModifierNBT traits = ToolNBTCache.getTraits(definition, definition.getData(), materials);
+    StatsNBT stats = toolStack.getStats();
+    ModifierNBT modifiers = toolStack.getModifiers();
+
+    for (int i = 0; i < 10; i++) {
+      toolStack.rebuildStats();
+    }
+    assertThat(ToolNBTCache.getTraits(definition, definition.getData(), materials)).isSameAs(traits);
+    assertThat(toolStack.getStats()).isEqualTo(stats);
+    assertThat(toolStack.getModifiers()).isEqualTo(modifiers);
+    // trait adds one level of test 1 on top of the upgrades
+    assertThat(toolStack.getModifiers().getLevel(ModifierFixture.TEST_1)).isEqualTo(first + 1);
+    assertThat(toolStack.getModifiers().getLevel(ModifierFixture.TEST_2)).isEqualTo(upgrades - first);
+  }
+
+  @Test
+  void rebuild_threeParts_stable() {
+    assertRebuildStable("rebuild_three_parts", 3, 0);
+  }
+
+  @Test
+  void rebuild_fourPartsTenUpgrades_stable() {
+    assertRebuildStable("rebuild_four_parts", 4, 10);
+  }
 }
@@ -0,0 +1,81 @@
+package slimeknights.tconstruct.smeltery.block.entity;
+
+import net.minecraft.world.level.Level;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class FlowSchedulerTest extends BaseMcTest {
+  @Test
+  void sleep_waitsForWake() {
+    FlowScheduler scheduler = new FlowScheduler();
+    assertThat(scheduler.tick()).isTrue();
+    scheduler.sleep();
+    for (int i = 0; i < 100; i++) {
+      assertThat(scheduler.tick()).isFalse();
+    }
+    scheduler.wake();
+    assertThat(scheduler.tick()).isTrue();
+  }
+
+  /** Counts ticks until the scheduler next runs */
+  private static int ticksUntilRetry(FlowScheduler scheduler) {
+    int ticks = 0;
+    while (!scheduler.tick()) {
+      ticks++;
+    }
+    return ticks;
+  }
+
+  @Test
+  void sleepAndRetry_backsOff() {
+    FlowScheduler scheduler = new FlowScheduler();
+    scheduler.sleepAndRetry();
+    assertThat(ticksUntilRetry(scheduler)).isEqualTo(2);
+    scheduler.sleepAndRetry();
+    assertThat(ticksUntilRetry(scheduler)).isEqualTo(4);
+    scheduler.sleepAndRetry();
+    assertThat(ticksUntilRetry(scheduler)).isEqualTo(8);
+    scheduler.sleepAndRetry();
+    assertThat(ticksUntilRetry(scheduler)).isEqualTo(16);
+    scheduler.sleepAndRetry();
+    assertThat(ticksUntilRetry(scheduler)).isEqualTo(20);
+    // waking resets the backoff
+    scheduler.wake();
+    scheduler.sleepAndRetry();
+    assertThat(ticksUntilRetry(scheduler)).isEqualTo(2);
+  }
+
+  @Test
+  void track_countsActiveAndSleeping() {
+    Level level = mock(Level.class);
+    FlowScheduler first = new FlowScheduler();
+    FlowScheduler second = new FlowScheduler();
+    first.track(level);
+    second.track(level);
+    FlowScheduler.Counts counts = FlowScheduler.getCounts().get(level);
+    assertThat(counts.getActive()).isEqualTo(2);
+    assertThat(counts.getSleeping()).isEqualTo(0);
+
+    first.sleep();
+    second.sleepAndRetry();
+    assertThat(counts.getActive()).isEqualTo(0);
+    assertThat(counts.getSleeping()).isEqualTo(2);
+
+    // sleeping again is not counted twice
+    first.sleep();
+    assertThat(counts.getSleeping()).isEqualTo(2);
+
+    // retry wakes the scheduler
+    ticksUntilRetry(second);
+    assertThat(counts.getActive()).isEqualTo(1);
+    assertThat(counts.getSleeping()).isEqualTo(1);
+
+    first.untrack();
+    second.untrack();
+    assertThat(counts.getActive()).isEqualTo(0);
+    assertThat(counts.getSleeping()).isEqualTo(0);
+  }
+}
@@ -0,0 +1,152 @@
+package slimeknights.tconstruct.smeltery.block.entity.module;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.damagesource.DamageType;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.material.Fluids;
+import net.minecraft.world.phys.AABB;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.capability.templates.FluidTank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import slimeknights.mantle.block.entity.MantleBlockEntity;
+import slimeknights.mantle.recipe.helper.FluidOutput;
+import slimeknights.mantle.recipe.ingredient.EntityIngredient;
+import slimeknights.tconstruct.library.recipe.entitymelting.EntityMeltingRecipe;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EntityMeltingModuleTest extends BaseMcTest {
+  private static final AABB BOUNDS = new AABB(BlockPos.ZERO, new BlockPos(5, 5, 5));
+  /** Recipes for the entity types in the structure, each with a different amount of fluid */
+  private static final Map<EntityType<?>,EntityMeltingRecipe> RECIPES = Map.of(
+    EntityType.ZOMBIE, recipe(EntityType.ZOMBIE, 16),
+    EntityType.COW, recipe(EntityType.COW, 10),
+    EntityType.SKELETON, recipe(EntityType.SKELETON, 25));
+
+  private final List<Entity> entities = new ArrayList<>();
+  private Level level;
+  private FluidTank tank;
+  private CountingModule module;
+
+  /** Module using the test recipes, counting recipe lookups */
+  private static class CountingModule extends EntityMeltingModule {
+    private int lookups = 0;
+
+    CountingModule(MantleBlockEntity parent, FluidTank tank) {
+      super(parent, tank, () -> true, stack -> stack, () -> BOUNDS);
+    }
+
+    @Nullable
+    @Override
+    protected EntityMeltingRecipe lookupRecipe(EntityType<?> type) {
+      lookups++;
+      return RECIPES.get(type);
+    }
+  }
+
+  private static EntityMeltingRecipe recipe(EntityType<?> type, int amount) {
+    return new EntityMeltingRecipe(new ResourceLocation("test", type.toShortString()), EntityIngredient.of(type), FluidOutput.fromStack(new FluidStack(Fluids.LAVA, amount)), 2);
+  }
+
+  /** Creates a meltable entity inside the structure */
+  private static LivingEntity entity(EntityType<?> type) {
+    LivingEntity entity = mock(LivingEntity.class);
+    when(entity.getType()).then(invocation -> type);
+    when(entity.isAlive()).thenReturn(true);
+    when(entity.getBoundingBox()).thenReturn(new AABB(1, 1, 1, 2, 2, 2));
+    when(entity.hurt(any(), anyFloat())).thenReturn(true);
+    return entity;
+  }
+
+  @SuppressWarnings("unchecked")
+  @BeforeEach
+  void setupModule() {
+    RegistryAccess access = mock(RegistryAccess.class);
+    Registry<DamageType> damageTypes = mock(Registry.class);
+    when(access.registryOrThrow(Registries.DAMAGE_TYPE)).thenReturn(damageTypes);
+    when(damageTypes.getHolderOrThrow(any())).thenReturn(mock(Holder.Reference.class));
+    level = mock(Level.class);
+    when(level.registryAccess()).thenReturn(access);
+    when(level.getEntitiesOfClass(eq(Entity.class), any(AABB.class))).then(invocation -> List.copyOf(entities));
+    MantleBlockEntity parent = mock(MantleBlockEntity.class);
+    when(parent.getLevel()).thenReturn(level);
+    tank = new FluidTank(Integer.MAX_VALUE);
+    module = new CountingModule(parent, tank);
+  }
+
+  /** Runs a full cycle of passes over the entities */
+  private void runCycle() {
+    for (int i = 0; i < EntityMeltingModule.PASSES; i++) {
+      module.interactWithEntities();
+    }
+  }
+
+  @Test
+  void interact_matchesSinglePass() {
+    EntityType<?>[] types = { EntityType.ZOMBIE, EntityType.COW, EntityType.SKELETON };
+    for (int i = 0; i < 23; i++) {
+      entities.add(entity(types[i % types.length]));
+    }
+    // fluid the previous implementation produced, hurting every entity once in a single call
+    int expected = 0;
+    for (Entity entity : entities) {
+      expected += RECIPES.get(entity.getType()).getOutput((LivingEntity) entity).getAmount();
+    }
+
+    runCycle();
+    assertThat(tank.getFluidAmount()).isEqualTo(expected);
+    for (Entity entity : entities) {
+      verify(entity, times(1)).hurt(any(), eq(2f));
+    }
+    // one search and one lookup per type for the whole cycle
+    verify(level, times(1)).getEntitiesOfClass(eq(Entity.class), any(AABB.class));
+    assertThat(module.lookups).isEqualTo(3);
+
+    runCycle();
+    assertThat(tank.getFluidAmount()).isEqualTo(expected * 2);
+    verify(level, times(2)).getEntitiesOfClass(eq(Entity.class), any(AABB.class));
+    assertThat(module.lookups).isEqualTo(3);
+  }
+
+  @Test
+  void interact_skipsEntitiesGoneSinceSearch() {
+    for (int i = 0; i < 10; i++) {
+      entities.add(entity(EntityType.ZOMBIE));
+    }
+    // first pass searches and melts the first share
+    module.interactWithEntities();
+    LivingEntity dead = (LivingEntity) entities.get(9);
+    when(dead.isAlive()).thenReturn(false);
+    LivingEntity escaped = (LivingEntity) entities.get(8);
+    when(escaped.getBoundingBox()).thenReturn(new AABB(10, 10, 10, 11, 11, 11));
+    for (int i = 1; i < EntityMeltingModule.PASSES; i++) {
+      module.interactWithEntities();
+    }
+    verify(dead, never()).hurt(any(), anyFloat());
+    verify(escaped, never()).hurt(any(), anyFloat());
+    assertThat(tank.getFluidAmount()).isEqualTo(8 * 16);
+  }
+}
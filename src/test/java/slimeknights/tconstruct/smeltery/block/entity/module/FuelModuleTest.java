@@ -0,0 +1,39 @@
+package slimeknights.tconstruct.smeltery.block.entity.module;
+
+import org.junit.jupiter.api.Test;
+import slimeknights.mantle.block.entity.MantleBlockEntity;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class FuelModuleTest extends BaseMcTest {
+  /** Creates a fuel module that never finds fuel */
+  private static FuelModule module() {
+    return new FuelModule(mock(MantleBlockEntity.class)) {
+      @Override
+      public int findFuel(boolean consume) {
+        return 0;
+      }
+    };
+  }
+
+  @Test
+  void batchUnits_defaultsToSingle() {
+    FuelModule module = module();
+    assertThat(module.getBatchUnits(100, 20)).isEqualTo(1);
+    module.setBatchFuel(100);
+    assertThat(module.getBatchUnits(100, 20)).isEqualTo(1);
+  }
+
+  @Test
+  void batchUnits_roundsUpToBatch() {
+    FuelModule module = module();
+    module.setBatchFuel(250);
+    assertThat(module.getBatchUnits(100, 20)).isEqualTo(3);
+    assertThat(module.getBatchUnits(150, 20)).isEqualTo(2);
+    // never drains more than the tank holds
+    assertThat(module.getBatchUnits(100, 2)).isEqualTo(2);
+    assertThat(module.getBatchUnits(100, 1)).isEqualTo(1);
+  }
+}
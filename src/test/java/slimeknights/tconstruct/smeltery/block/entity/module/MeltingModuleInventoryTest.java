@@ -0,0 +1,94 @@
+package slimeknights.tconstruct.smeltery.block.entity.module;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import org.junit.jupiter.api.Test;
+import slimeknights.mantle.block.entity.MantleBlockEntity;
+import slimeknights.tconstruct.library.recipe.melting.IMeltingContainer.IOreRate;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class MeltingModuleInventoryTest extends BaseMcTest {
+  /** Creates an inventory with the given slots partially heated */
+  private static MeltingModuleInventory createInventory(int size, int... requiredTemps) {
+    MeltingModuleInventory inventory = new MeltingModuleInventory(mock(MantleBlockEntity.class), mock(IFluidHandler.class), mock(IOreRate.class), size);
+    ListTag items = new ListTag();
+    for (int i = 0; i < requiredTemps.length; i++) {
+      CompoundTag item = new ItemStack(Items.IRON_INGOT).save(new CompoundTag());
+      item.putInt("time", 0);
+      item.putInt("required", 100);
+      item.putInt("temp", requiredTemps[i]);
+      item.putByte("slot", (byte)i);
+      items.add(item);
+    }
+    CompoundTag tag = new CompoundTag();
+    tag.put("items", items);
+    inventory.readFromTag(tag);
+    return inventory;
+  }
+
+  @Test
+  void canHeat_empty() {
+    MeltingModuleInventory inventory = createInventory(10);
+    assertThat(inventory.canHeat(1000)).isFalse();
+    inventory.heatItems(1000, 10);
+    assertThat(inventory.getCurrentTime(0)).isEqualTo(0);
+  }
+
+  @Test
+  void canHeat_checksTemperature() {
+    MeltingModuleInventory inventory = createInventory(10, 800);
+    assertThat(inventory.canHeat(500)).isFalse();
+    assertThat(inventory.canHeat(800)).isTrue();
+  }
+
+  @Test
+  void heatItems_progresses() {
+    MeltingModuleInventory inventory = createInventory(10, 500, 500);
+    inventory.heatItems(1000, 10);
+    inventory.heatItems(1000, 10);
+    assertThat(inventory.getCurrentTime(0)).isEqualTo(20);
+    assertThat(inventory.getCurrentTime(1)).isEqualTo(20);
+  }
+
+  @Test
+  void heatItems_coldSlotWakesOnTemperatureChange() {
+    MeltingModuleInventory inventory = createInventory(10, 500, 1200);
+    inventory.heatItems(1000, 10);
+    inventory.heatItems(1000, 10);
+    assertThat(inventory.getCurrentTime(0)).isEqualTo(20);
+    assertThat(inventory.getCurrentTime(1)).isEqualTo(0);
+    // cold slot still counts for fuel at a higher temperature
+    assertThat(inventory.canHeat(1200)).isTrue();
+
+    inventory.heatItems(1500, 10);
+    assertThat(inventory.getCurrentTime(0)).isEqualTo(30);
+    assertThat(inventory.getCurrentTime(1)).isEqualTo(10);
+  }
+
+  @Test
+  void setStack_emptyStopsHeating() {
+    MeltingModuleInventory inventory = createInventory(10, 500);
+    inventory.heatItems(1000, 10);
+    inventory.setStackInSlot(0, ItemStack.EMPTY);
+    inventory.heatItems(1000, 10);
+    assertThat(inventory.getCurrentTime(0)).isEqualTo(0);
+    assertThat(inventory.canHeat(1000)).isFalse();
+  }
+
+  @Test
+  void coolItems_coolsSleepingSlots() {
+    MeltingModuleInventory inventory = createInventory(10, 500, 1200);
+    inventory.heatItems(1500, 10);
+    // slot 1 now sleeps as too cold
+    inventory.heatItems(1000, 10);
+    inventory.coolItems();
+    assertThat(inventory.getCurrentTime(0)).isEqualTo(15);
+    assertThat(inventory.getCurrentTime(1)).isEqualTo(5);
+  }
+}
@@ -0,0 +1,171 @@
+package slimeknights.tconstruct.smeltery.block.entity.multiblock;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MultiblockCuboidTest extends BaseMcTest {
+  /** Controller position, in the north wall of the first layer */
+  private static final BlockPos MASTER = new BlockPos(2, 1, 0);
+  private static final int HEIGHT = 10;
+
+  /** Positions with a structure block, anything else is air */
+  private final Set<BlockPos> solid = new HashSet<>();
+  private Level level;
+  private CountingCuboid multiblock;
+
+  /** Multiblock treating any solid block as valid, counting block checks */
+  private static class CountingCuboid extends MultiblockCuboid<MultiblockStructureData> {
+    private final Set<BlockPos> solid;
+    private int checks = 0;
+
+    CountingCuboid(Set<BlockPos> solid) {
+      super(true, false, false, 64, 14);
+      this.solid = solid;
+    }
+
+    @Override
+    protected boolean isValidBlock(Level world, BlockPos pos, CuboidSide side, boolean isFrame) {
+      checks++;
+      return solid.contains(pos);
+    }
+
+    @Override
+    public boolean isInnerBlock(Level world, BlockPos pos) {
+      checks++;
+      return super.isInnerBlock(world, pos);
+    }
+
+    @Override
+    public boolean shouldUpdate(Level world, MultiblockStructureData structure, BlockPos pos, BlockState state) {
+      return true;
+    }
+
+    @Override
+    public MultiblockStructureData create(BlockPos min, BlockPos max, Set<BlockPos> extraPos) {
+      return new MultiblockStructureData(min, max, extraPos, hasFloor, hasFrame, hasCeiling);
+    }
+  }
+
+  @BeforeEach
+  void setupStructure() {
+    // 5x5 smeltery style structure, floor at y=0 and walls up to HEIGHT, no frame
+    for (int x = 0; x <= 4; x++) {
+      for (int z = 0; z <= 4; z++) {
+        boolean edgeX = x == 0 || x == 4;
+        boolean edgeZ = z == 0 || z == 4;
+        if (!edgeX || !edgeZ) {
+          if (edgeX || edgeZ) {
+            for (int y = 0; y <= HEIGHT; y++) {
+              solid.add(new BlockPos(x, y, z));
+            }
+          } else {
+            solid.add(new BlockPos(x, 0, z));
+          }
+        }
+      }
+    }
+    BlockState stone = Blocks.STONE.defaultBlockState();
+    BlockState air = Blocks.AIR.defaultBlockState();
+    level = mock(Level.class);
+    when(level.getBlockState(any())).thenAnswer(invocation -> solid.contains(invocation.<BlockPos>getArgument(0)) ? stone : air);
+    when(level.hasChunksAt(any(BlockPos.class), any(BlockPos.class))).thenReturn(true);
+    when(level.isLoaded(any())).thenReturn(true);
+    multiblock = new CountingCuboid(solid);
+  }
+
+  /** Detects the structure from scratch */
+  private MultiblockStructureData detect() {
+    return Objects.requireNonNull(multiblock.detectMultiblock(level, MASTER, Direction.NORTH));
+  }
+
+  @Test
+  void revalidate_breakAndReplaceWall() {
+    MultiblockStructureData structure = detect();
+    assertThat(structure.getMaxPos()).isEqualTo(new BlockPos(4, HEIGHT, 4));
+
+    // breaking a wall block cuts off the layers above it
+    BlockPos wall = new BlockPos(0, 5, 2);
+    solid.remove(wall);
+    multiblock.checks = 0;
+    MultiblockStructureData broken = Objects.requireNonNull(multiblock.revalidate(level, structure, MASTER, Set.of(wall)));
+    assertThat(multiblock.checks).isEqualTo(1);
+    assertThat(broken.getMinPos()).isEqualTo(detect().getMinPos());
+    assertThat(broken.getMaxPos()).isEqualTo(detect().getMaxPos()).isEqualTo(new BlockPos(4, 4, 4));
+    assertThat(multiblock.revalidate(level, structure, MASTER, Set.of(wall))).isNotNull();
+    assertThat(multiblock.getLastResult().getPos()).isEqualTo(wall);
+
+    // replacing it detects the cut off layers, but not the ones below
+    solid.add(wall);
+    multiblock.checks = 0;
+    MultiblockStructureData fixed = Objects.requireNonNull(multiblock.revalidate(level, broken, MASTER, Set.of(wall)));
+    assertThat(fixed.getMaxPos()).isEqualTo(new BlockPos(4, HEIGHT, 4));
+    // 6 layers of 9 inner and 12 wall blocks, plus the failed layer above the top
+    assertThat(multiblock.checks).isLessThanOrEqualTo(7 * 21);
+    assertThat(multiblock.getLastResult().isSuccess()).isFalse();
+  }
+
+  @Test
+  void revalidate_validChangeKeepsShape() {
+    MultiblockStructureData structure = detect();
+    BlockPos wall = new BlockPos(2, 7, 4);
+    multiblock.checks = 0;
+    MultiblockStructureData updated = Objects.requireNonNull(multiblock.revalidate(level, structure, MASTER, Set.of(wall)));
+    assertThat(multiblock.checks).isEqualTo(1);
+    assertThat(updated.getMinPos()).isEqualTo(structure.getMinPos());
+    assertThat(updated.getMaxPos()).isEqualTo(structure.getMaxPos());
+  }
+
+  @Test
+  void revalidate_lowerLayerNeedsDetection() {
+    MultiblockStructureData structure = detect();
+    // the controller layer and floor cannot be handled incrementally
+    BlockPos wall = new BlockPos(4, 1, 2);
+    solid.remove(wall);
+    assertThat(multiblock.revalidate(level, structure, MASTER, Set.of(wall))).isNull();
+    BlockPos floor = new BlockPos(2, 0, 2);
+    solid.add(wall);
+    solid.remove(floor);
+    assertThat(multiblock.revalidate(level, structure, MASTER, Set.of(floor))).isNull();
+  }
+
+  @Test
+  void revalidate_innerBlockTracked() {
+    MultiblockStructureData structure = detect();
+    BlockPos inner = new BlockPos(2, 6, 2);
+    assertThat(structure.contains(inner)).isFalse();
+    // a solid block inside is not a valid inner block, so the structure is cut below it
+    solid.add(inner);
+    MultiblockStructureData blocked = Objects.requireNonNull(multiblock.revalidate(level, structure, MASTER, Set.of(inner)));
+    assertThat(blocked.getMaxPos().getY()).isEqualTo(5);
+  }
+
+  @Test
+  void contains_occupancyBitmap() {
+    BlockPos min = new BlockPos(0, 0, 0);
+    BlockPos max = new BlockPos(4, 4, 4);
+    BlockPos extra = new BlockPos(2, 3, 1);
+    MultiblockStructureData structure = new MultiblockStructureData(min, max, Set.of(extra), true, false, false);
+    assertThat(structure.contains(extra)).isTrue();
+    assertThat(structure.contains(new BlockPos(2, 3, 2))).isFalse();
+    assertThat(structure.contains(new BlockPos(1, 3, 1))).isFalse();
+    // walls are still part of the structure
+    assertThat(structure.contains(new BlockPos(0, 3, 2))).isTrue();
+    // frame is not
+    assertThat(structure.contains(new BlockPos(0, 3, 0))).isFalse();
+  }
+}
@@ -0,0 +1,132 @@
+package slimeknights.tconstruct.smeltery.block.entity.tank;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.world.level.material.Fluids;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.smeltery.block.entity.controller.HeatingStructureBlockEntity;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SmelteryTankTest extends BaseMcTest {
+  /** Creates a tank with a parent that ignores all notifications */
+  private static SmelteryTank<HeatingStructureBlockEntity> createTank(int capacity) {
+    SmelteryTank<HeatingStructureBlockEntity> tank = new SmelteryTank<>(mock(HeatingStructureBlockEntity.class));
+    tank.setCapacity(capacity);
+    return tank;
+  }
+
+  /** Creates a distinct fluid for the given index, vanilla lacks enough fluids so we distinguish by tag */
+  private static FluidStack fluid(int index, int amount) {
+    CompoundTag tag = new CompoundTag();
+    tag.putInt("index", index);
+    return new FluidStack(Fluids.WATER, amount, tag);
+  }
+
+  /** Ensures every fluid in the tank is found at its position */
+  private static void assertIndexed(SmelteryTank<?> tank) {
+    for (int i = 0; i < tank.getFluids().size(); i++) {
+      assertThat(tank.indexOf(tank.getFluids().get(i))).isEqualTo(i);
+    }
+  }
+
+  @Test
+  void fill_mergesMatchingFluid() {
+    SmelteryTank<?> tank = createTank(1000);
+    tank.fill(fluid(0, 100), FluidAction.EXECUTE);
+    tank.fill(fluid(1, 100), FluidAction.EXECUTE);
+    tank.fill(fluid(0, 50), FluidAction.EXECUTE);
+
+    assertThat(tank.getFluids()).hasSize(2);
+    assertThat(tank.getFluidInTank(0).getAmount()).isEqualTo(150);
+    assertThat(tank.getContained()).isEqualTo(250);
+    // tag must match
+    assertThat(tank.indexOf(new FluidStack(Fluids.WATER, 1))).isEqualTo(-1);
+    assertIndexed(tank);
+  }
+
+  @Test
+  void drain_removesFromIndex() {
+    SmelteryTank<?> tank = createTank(1000);
+    for (int i = 0; i < 4; i++) {
+      tank.fill(fluid(i, 100), FluidAction.EXECUTE);
+    }
+    // drain from the middle, later fluids shift down
+    assertThat(tank.drain(fluid(1, 100), FluidAction.EXECUTE).getAmount()).isEqualTo(100);
+    assertThat(tank.indexOf(fluid(1, 1))).isEqualTo(-1);
+    assertIndexed(tank);
+
+    // drain the bottom fluid
+    tank.drain(100, FluidAction.EXECUTE);
+    assertThat(tank.indexOf(fluid(0, 1))).isEqualTo(-1);
+    assertThat(tank.getFluids()).hasSize(2);
+    assertIndexed(tank);
+  }
+
+  @Test
+  void moveFluidToBottom_updatesIndex() {
+    SmelteryTank<?> tank = createTank(1000);
+    for (int i = 0; i < 4; i++) {
+      tank.fill(fluid(i, 100), FluidAction.EXECUTE);
+    }
+    tank.moveFluidToBottom(2);
+    assertThat(tank.indexOf(fluid(2, 1))).isEqualTo(0);
+    assertIndexed(tank);
+  }
+
+  @Test
+  void read_rebuildsIndex() {
+    SmelteryTank<?> tank = createTank(1000);
+    for (int i = 0; i < 4; i++) {
+      tank.fill(fluid(i, 100), FluidAction.EXECUTE);
+    }
+    SmelteryTank<?> read = createTank(0);
+    read.read(tank.write(new CompoundTag()));
+    assertThat(read.getCapacity()).isEqualTo(1000);
+    assertThat(read.getFluids()).hasSize(4);
+    assertIndexed(read);
+  }
+
+  @Test
+  void changeCount_onlyOnChange() {
+    SmelteryTank<?> tank = createTank(1000);
+    int count = tank.getChangeCount();
+    // simulating and failed drains leave cached geometry valid
+    tank.fill(fluid(0, 100), FluidAction.SIMULATE);
+    tank.drain(fluid(0, 100), FluidAction.EXECUTE);
+    tank.setCapacity(1000);
+    assertThat(tank.getChangeCount()).isEqualTo(count);
+
+    tank.fill(fluid(0, 100), FluidAction.EXECUTE);
+    assertThat(tank.getChangeCount()).isGreaterThan(count);
+    count = tank.getChangeCount();
+    tank.drain(50, FluidAction.EXECUTE);
+    assertThat(tank.getChangeCount()).isGreaterThan(count);
+    count = tank.getChangeCount();
+    tank.setCapacity(2000);
+    assertThat(tank.getChangeCount()).isGreaterThan(count);
+  }
+
+  @Test
+  void alloying_keepsIndex() {
+    int fluidCount = 30;
+    SmelteryTank<?> tank = createTank(Integer.MAX_VALUE);
+    for (int i = 0; i < fluidCount; i++) {
+      tank.fill(fluid(i, 1000), FluidAction.EXECUTE);
+    }
+    for (int i = 0; i < 100; i++) {
+      // each "alloy" drains two inputs near the end of the list and fills an output
+      int input = fluidCount - 1 - (i % 10);
+      tank.drain(fluid(input, 2), FluidAction.EXECUTE);
+      tank.drain(fluid(input - 10, 2), FluidAction.EXECUTE);
+      tank.fill(fluid(i % 10, 4), FluidAction.EXECUTE);
+    }
+
+    assertThat(tank.getFluids()).hasSize(fluidCount);
+    assertThat(tank.getContained()).isEqualTo(fluidCount * 1000);
+    assertIndexed(tank);
+  }
+}
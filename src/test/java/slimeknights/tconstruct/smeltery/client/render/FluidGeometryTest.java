@@ -0,0 +1,187 @@
+package slimeknights.tconstruct.smeltery.client.render;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import com.mojang.math.Axis;
+import net.minecraft.core.Direction;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import org.junit.jupiter.api.Test;
+import slimeknights.mantle.client.render.FluidRenderer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class FluidGeometryTest {
+  /** Vertex received on replay */
+  private record Vertex(float x, float y, float z, int color, float u, float v, int light, float nx, float ny, float nz) {}
+
+  /** Consumer capturing replayed vertices */
+  private static class Capture implements VertexConsumer {
+    private final List<Vertex> vertices = new ArrayList<>();
+    private float x, y, z, u, v, nx, ny, nz;
+    private int color, light;
+
+    @Override
+    public VertexConsumer vertex(double x, double y, double z) {
+      this.x = (float)x;
+      this.y = (float)y;
+      this.z = (float)z;
+      return this;
+    }
+
+    @Override
+    public VertexConsumer color(int red, int green, int blue, int alpha) {
+      color = alpha << 24 | red << 16 | green << 8 | blue;
+      return this;
+    }
+
+    @Override
+    public VertexConsumer uv(float u, float v) {
+      this.u = u;
+      this.v = v;
+      return this;
+    }
+
+    @Override
+    public VertexConsumer overlayCoords(int u, int v) {
+      return this;
+    }
+
+    @Override
+    public VertexConsumer uv2(int u, int v) {
+      light = u | v << 16;
+      return this;
+    }
+
+    @Override
+    public VertexConsumer normal(float x, float y, float z) {
+      nx = x;
+      ny = y;
+      nz = z;
+      return this;
+    }
+
+    @Override
+    public void endVertex() {
+      vertices.add(new Vertex(x, y, z, color, u, v, light, nx, ny, nz));
+    }
+
+    @Override
+    public void defaultColor(int red, int green, int blue, int alpha) {}
+
+    @Override
+    public void unsetDefaultColor() {}
+  }
+
+  @Test
+  void replay_appliesPoseAndLight() {
+    FluidGeometry geometry = new FluidGeometry();
+    assertThat(geometry.isCurrent(List.of(0))).isFalse();
+    geometry.begin(List.of(0));
+    // first layer has no light, second is glowing; recorded lighting is ignored
+    geometry.layer(0).vertex(1, 2, 3).color(255, 128, 64, 32).uv(0.25f, 0.5f).uv2(100, 100).endVertex();
+    VertexConsumer glowing = geometry.layer(15);
+    for (int i = 0; i < 70; i++) {
+      glowing.vertex(i, 0, 0).color(0xFFFFFFFF).uv(0, 0).endVertex();
+    }
+    assertThat(geometry.isCurrent(List.of(0))).isTrue();
+    assertThat(geometry.isCurrent(List.of(1))).isFalse();
+
+    Capture capture = new Capture();
+    int brightness = 0x00F00000;
+    PoseStack matrices = new PoseStack();
+    matrices.translate(10, 0, 0);
+    geometry.render(matrices.last(), capture, brightness);
+    assertThat(capture.vertices).hasSize(71);
+    assertThat(capture.vertices.get(0)).isEqualTo(new Vertex(11, 2, 3, 32 << 24 | 255 << 16 | 128 << 8 | 64, 0.25f, 0.5f, FluidRenderer.withBlockLight(brightness, 0), 0, 0, 0));
+    Vertex last = capture.vertices.get(70);
+    assertThat(last.x()).isEqualTo(79);
+    assertThat(last.light()).isEqualTo(FluidRenderer.withBlockLight(brightness, 15));
+  }
+
+  @Test
+  void replay_rotatesNormals() {
+    FluidGeometry geometry = new FluidGeometry();
+    geometry.begin("normals");
+    geometry.layer(0).vertex(1, 0, 0).color(-1).uv(0, 0).normal(1, 0, 0).endVertex();
+    PoseStack matrices = new PoseStack();
+    matrices.mulPose(Axis.YP.rotationDegrees(90));
+    Capture capture = new Capture();
+    geometry.render(matrices.last(), capture, 0);
+    Vertex vertex = capture.vertices.get(0);
+    assertThat(vertex.nz()).isCloseTo(-1, within(1e-5f));
+    assertThat(vertex.z()).isCloseTo(-1, within(1e-5f));
+  }
+
+  /** Emits a unit cuboid at the given position as an uncached renderer would, 4 vertices per face */
+  private static void emitCuboid(PoseStack matrices, VertexConsumer builder, float x, float y, float z, int light) {
+    Matrix4f matrix = matrices.last().pose();
+    Matrix3f normal = matrices.last().normal();
+    for (Direction direction : Direction.values()) {
+      for (int i = 0; i < 4; i++) {
+        builder.vertex(matrix, x + (i & 1), y + direction.getStepY(), z + (i >> 1))
+               .color(0xFFFF8040).uv((i & 1) * 0.0625f, (i >> 1) * 0.0625f).uv2(light)
+               .normal(normal, direction.getStepX(), direction.getStepY(), direction.getStepZ()).endVertex();
+      }
+    }
+  }
+
+  @Test
+  void replay_matchesUncached() {
+    // rotated channels with several fluid cuboids each, over two frames so the second replays the cache
+    int channels = 8;
+    int cuboids = 5;
+    List<FluidGeometry> geometries = new ArrayList<>();
+    for (int c = 0; c < channels; c++) {
+      geometries.add(new FluidGeometry());
+    }
+
+    Capture uncached = new Capture();
+    for (int c = 0; c < channels; c++) {
+      PoseStack matrices = new PoseStack();
+      matrices.translate(c % 4, 0, c / 4);
+      matrices.mulPose(Axis.YP.rotationDegrees(90 * (c % 4)));
+      for (int i = 0; i < cuboids; i++) {
+        emitCuboid(matrices, uncached, i * 0.2f, 0, 0, 0xF000F0);
+      }
+    }
+
+    Capture cached = new Capture();
+    for (int frame = 0; frame < 2; frame++) {
+      cached.vertices.clear();
+      for (int c = 0; c < channels; c++) {
+        FluidGeometry geometry = geometries.get(c);
+        Integer key = c;
+        if (!geometry.isCurrent(key)) {
+          assertThat(frame).isEqualTo(0);
+          geometry.begin(key);
+          PoseStack relative = new PoseStack();
+          relative.mulPose(Axis.YP.rotationDegrees(90 * (c % 4)));
+          VertexConsumer builder = geometry.layer(0);
+          for (int i = 0; i < cuboids; i++) {
+            emitCuboid(relative, builder, i * 0.2f, 0, 0, 0);
+          }
+        }
+        PoseStack matrices = new PoseStack();
+        matrices.translate(c % 4, 0, c / 4);
+        geometry.render(matrices.last(), cached, 0xF000F0);
+      }
+    }
+
+    // both paths produce the same quads
+    assertThat(cached.vertices).hasSize(channels * cuboids * 24).hasSameSizeAs(uncached.vertices);
+    for (int i = 0; i < cached.vertices.size(); i++) {
+      Vertex expected = uncached.vertices.get(i);
+      Vertex actual = cached.vertices.get(i);
+      assertThat(actual.x()).isCloseTo(expected.x(), within(1e-4f));
+      assertThat(actual.z()).isCloseTo(expected.z(), within(1e-4f));
+      assertThat(actual.nx()).isCloseTo(expected.nx(), within(1e-4f));
+      assertThat(actual.light()).isEqualTo(expected.light());
+      assertThat(actual.color()).isEqualTo(expected.color());
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package slimeknights.tconstruct.smeltery.network;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.level.material.Fluids;
+import net.minecraftforge.fluids.FluidStack;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.smeltery.network.FluidDisplayBundlePacket.Update;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FluidDisplayBundlePacketTest extends BaseMcTest {
+  /** Sends the packet through a buffer */
+  private static FluidDisplayBundlePacket encodeDecode(FluidDisplayBundlePacket packet) {
+    FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+    packet.encode(buffer);
+    return new FluidDisplayBundlePacket(buffer);
+  }
+
+  @Test
+  void update_flowMerges() {
+    Update update = new Update(BlockPos.ZERO);
+    update.setFlow(Direction.NORTH, true);
+    update.setFlow(Direction.EAST, true);
+    update.setFlow(Direction.NORTH, false);
+    assertThat(update.getFlow(Direction.NORTH)).isFalse();
+    assertThat(update.getFlow(Direction.EAST)).isTrue();
+    assertThat(update.getFlow(Direction.SOUTH)).isNull();
+    assertThat(update.getFlow(Direction.DOWN)).isNull();
+    assertThat(update.getFluid()).isNull();
+  }
+
+  @Test
+  void encodeDecode_positionsAndContents() {
+    // negative coordinates to check the chunk relative positions
+    Update fluid = new Update(new BlockPos(-17, -40, 35));
+    fluid.setFluid(new FluidStack(Fluids.LAVA, 250));
+    Update flow = new Update(new BlockPos(-32, 100, 47));
+    flow.setFlow(Direction.DOWN, true);
+    flow.setFlow(Direction.WEST, false);
+    Update both = new Update(new BlockPos(-21, 0, 32));
+    both.setFluid(FluidStack.EMPTY);
+    both.setFlow(Direction.SOUTH, true);
+
+    List<Update> updates = encodeDecode(new FluidDisplayBundlePacket(List.of(fluid, flow, both))).getUpdates();
+    assertThat(updates).extracting(Update::getPos).containsExactly(fluid.getPos(), flow.getPos(), both.getPos());
+
+    Update decoded = updates.get(0);
+    assertThat(Objects.requireNonNull(decoded.getFluid()).isFluidStackIdentical(new FluidStack(Fluids.LAVA, 250))).isTrue();
+    assertThat(decoded.getFlow(Direction.DOWN)).isNull();
+
+    decoded = updates.get(1);
+    assertThat(decoded.getFluid()).isNull();
+    assertThat(decoded.getFlow(Direction.DOWN)).isTrue();
+    assertThat(decoded.getFlow(Direction.WEST)).isFalse();
+    assertThat(decoded.getFlow(Direction.EAST)).isNull();
+
+    decoded = updates.get(2);
+    assertThat(Objects.requireNonNull(decoded.getFluid()).isEmpty()).isTrue();
+    assertThat(decoded.getFlow(Direction.SOUTH)).isTrue();
+  }
+}
@@ -0,0 +1,96 @@
+package slimeknights.tconstruct.smeltery.network;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import org.junit.jupiter.api.Test;
+import slimeknights.mantle.block.entity.MantleBlockEntity;
+import slimeknights.tconstruct.library.recipe.melting.IMeltingContainer.IOreRate;
+import slimeknights.tconstruct.smeltery.block.entity.module.MeltingModuleInventory;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class MeltingProgressTrackerTest extends BaseMcTest {
+  /** Creates an inventory with the first slots containing heatable items */
+  private static MeltingModuleInventory createInventory(int size, int filled) {
+    MeltingModuleInventory inventory = new MeltingModuleInventory(mock(MantleBlockEntity.class), mock(IFluidHandler.class), mock(IOreRate.class), size);
+    ListTag items = new ListTag();
+    for (int i = 0; i < filled; i++) {
+      CompoundTag item = new ItemStack(Items.IRON_INGOT).save(new CompoundTag());
+      item.putInt("time", 0);
+      item.putInt("required", 100);
+      item.putInt("temp", 500 + i);
+      item.putInt("slot", i);
+      items.add(item);
+    }
+    CompoundTag tag = new CompoundTag();
+    tag.put("items", items);
+    inventory.readFromTag(tag);
+    return inventory;
+  }
+
+  /** Sends the packet through a buffer */
+  private static MeltingProgressPacket encodeDecode(MeltingProgressPacket packet) {
+    FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+    packet.encode(buffer);
+    return new MeltingProgressPacket(buffer);
+  }
+
+  @Test
+  void sync_initialSendsAllSlots() {
+    MeltingModuleInventory server = createInventory(5, 2);
+    MeltingModuleInventory client = createInventory(5, 0);
+    // client may have stale values from an earlier sync
+    client.getModule(4).set(0, 50);
+
+    MeltingProgressTracker tracker = new MeltingProgressTracker(server, BlockPos.ZERO);
+    encodeDecode(Objects.requireNonNull(tracker.createPacket())).apply(client);
+    for (int i = 0; i < 5; i++) {
+      assertThat(client.getCurrentTime(i)).isEqualTo(server.getCurrentTime(i));
+      assertThat(client.getRequiredTime(i)).isEqualTo(server.getRequiredTime(i));
+      assertThat(client.getRequiredTemp(i)).isEqualTo(server.getRequiredTemp(i));
+    }
+  }
+
+  @Test
+  void sync_unchangedSendsNothing() {
+    MeltingModuleInventory server = createInventory(5, 2);
+    MeltingProgressTracker tracker = new MeltingProgressTracker(server, BlockPos.ZERO);
+    assertThat(tracker.createPacket()).isNotNull();
+    assertThat(tracker.createPacket()).isNull();
+    // cold heating changes nothing
+    server.heatItems(100, 10);
+    assertThat(tracker.createPacket()).isNull();
+  }
+
+  @Test
+  void sync_sendsChangedProgress() {
+    MeltingModuleInventory server = createInventory(2000, 1000);
+    MeltingModuleInventory client = createInventory(2000, 0);
+    MeltingProgressTracker tracker = new MeltingProgressTracker(server, BlockPos.ZERO);
+    encodeDecode(Objects.requireNonNull(tracker.createPacket())).apply(client);
+
+    // only items requiring up to 700 will heat
+    server.heatItems(700, 10);
+    MeltingProgressPacket packet = Objects.requireNonNull(tracker.createPacket());
+    FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+    packet.encode(buffer);
+    // 201 slots changed, each needing about 2 bytes
+    assertThat(buffer.readableBytes()).isLessThan(201 * 3);
+    new MeltingProgressPacket(buffer).apply(client);
+    for (int i = 0; i < 2000; i++) {
+      assertThat(client.getCurrentTime(i)).isEqualTo(server.getCurrentTime(i));
+    }
+    assertThat(client.getCurrentTime(200)).isEqualTo(10);
+    assertThat(client.getCurrentTime(201)).isEqualTo(0);
+  }
+}
@@ -0,0 +1,62 @@
+package slimeknights.tconstruct.smeltery.network;
+
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.level.material.Fluids;
+import net.minecraftforge.fluids.FluidStack;
+import org.junit.jupiter.api.Test;
+import slimeknights.tconstruct.test.BaseMcTest;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SmelteryTankDeltaPacketTest extends BaseMcTest {
+  /** Sends the packet through a buffer */
+  private static SmelteryTankDeltaPacket encodeDecode(SmelteryTankDeltaPacket packet) {
+    FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+    packet.encode(buffer);
+    return new SmelteryTankDeltaPacket(buffer);
+  }
+
+  /** Asserts the two fluid lists contain the same fluids and amounts */
+  private static void assertFluids(List<FluidStack> actual, List<FluidStack> expected) {
+    assertThat(actual).hasSize(expected.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertThat(actual.get(i).isFluidStackIdentical(expected.get(i))).isTrue();
+    }
+  }
+
+  @Test
+  void create_unchanged() {
+    List<FluidStack> fluids = List.of(new FluidStack(Fluids.WATER, 100), new FluidStack(Fluids.LAVA, 200));
+    assertThat(SmelteryTankDeltaPacket.create(BlockPos.ZERO, 0, 1, fluids, List.of(new FluidStack(Fluids.WATER, 100), new FluidStack(Fluids.LAVA, 200)))).isNull();
+  }
+
+  @Test
+  void apply_amountChanged() {
+    List<FluidStack> oldFluids = List.of(new FluidStack(Fluids.WATER, 100), new FluidStack(Fluids.LAVA, 200));
+    List<FluidStack> newFluids = List.of(new FluidStack(Fluids.WATER, 100), new FluidStack(Fluids.LAVA, 350));
+    SmelteryTankDeltaPacket packet = encodeDecode(Objects.requireNonNull(SmelteryTankDeltaPacket.create(BlockPos.ZERO, 0, 1, oldFluids, newFluids)));
+    assertFluids(Objects.requireNonNull(packet.apply(oldFluids)), newFluids);
+  }
+
+  @Test
+  void apply_addReorderRemove() {
+    List<FluidStack> oldFluids = List.of(new FluidStack(Fluids.WATER, 100), new FluidStack(Fluids.LAVA, 200));
+    List<FluidStack> newFluids = List.of(new FluidStack(Fluids.LAVA, 200), new FluidStack(Fluids.FLOWING_WATER, 50));
+    SmelteryTankDeltaPacket packet = encodeDecode(Objects.requireNonNull(SmelteryTankDeltaPacket.create(BlockPos.ZERO, 0, 1, oldFluids, newFluids)));
+    assertFluids(Objects.requireNonNull(packet.apply(oldFluids)), newFluids);
+  }
+
+  @Test
+  void apply_mismatchedBase() {
+    List<FluidStack> oldFluids = List.of(new FluidStack(Fluids.WATER, 100), new FluidStack(Fluids.LAVA, 200));
+    List<FluidStack> newFluids = List.of(new FluidStack(Fluids.LAVA, 200));
+    SmelteryTankDeltaPacket packet = encodeDecode(Objects.requireNonNull(SmelteryTankDeltaPacket.create(BlockPos.ZERO, 0, 1, oldFluids, newFluids)));
+    // lava was at index 1, which the client does not have
+    assertThat(packet.apply(List.of(new FluidStack(Fluids.WATER, 100)))).isNull();
+  }
+}